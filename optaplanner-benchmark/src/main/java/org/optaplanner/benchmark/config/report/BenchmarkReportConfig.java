@@ -38,6 +38,7 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
     private SolverRankingType solverRankingType = null;
     private Class<? extends Comparator<SolverBenchmarkResult>> solverRankingComparatorClass = null;
     private Class<? extends SolverRankingWeightFactory> solverRankingWeightFactoryClass = null;
+    private Integer threadCount = null;
 
     public Locale getLocale() {
         return locale;
@@ -71,6 +72,14 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         this.solverRankingWeightFactoryClass = solverRankingWeightFactoryClass;
     }
 
+    public Integer getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(Integer threadCount) {
+        this.threadCount = threadCount;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -78,6 +87,7 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
     public BenchmarkReport buildBenchmarkReport(PlannerBenchmarkResult plannerBenchmark) {
         BenchmarkReport benchmarkReport = new BenchmarkReport(plannerBenchmark);
         benchmarkReport.setLocale(determineLocale());
+        benchmarkReport.setThreadCount(determineThreadCount());
         supplySolverRanking(benchmarkReport);
         return benchmarkReport;
     }
@@ -86,6 +96,17 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         return locale == null ? Locale.getDefault() : locale;
     }
 
+    public int determineThreadCount() {
+        if (threadCount == null) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("The threadCount (" + threadCount
+                    + ") must be at least 1.");
+        }
+        return threadCount;
+    }
+
     protected void supplySolverRanking(BenchmarkReport benchmarkReport) {
         if (solverRankingType != null && solverRankingComparatorClass != null) {
             throw new IllegalStateException("The PlannerBenchmark cannot have"
@@ -147,6 +168,7 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
                 inheritedConfig.getSolverRankingComparatorClass());
         solverRankingWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(solverRankingWeightFactoryClass,
                 inheritedConfig.getSolverRankingWeightFactoryClass());
+        threadCount = ConfigUtils.inheritOverwritableProperty(threadCount, inheritedConfig.getThreadCount());
     }
 
 }
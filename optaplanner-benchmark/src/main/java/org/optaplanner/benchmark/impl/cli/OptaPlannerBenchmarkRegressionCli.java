@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.cli;
+
+import java.io.File;
+import java.util.List;
+
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
+import org.optaplanner.benchmark.impl.regression.BenchmarkRegressionChecker;
+import org.optaplanner.benchmark.impl.result.BenchmarkResultIO;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.core.config.SolverConfigContext;
+
+/**
+ * Run this class from the command line interface (or a build, for example with the exec-maven-plugin)
+ * to run a benchmarkConfigFile directly and compare it with the latest previous result in the benchmarkDirectory.
+ * <p>
+ * Exits with status {@value #EXIT_STATUS_REGRESSION} if the score calculation speed of any single benchmark
+ * regressed more than the maximum percentage (default
+ * {@value BenchmarkRegressionChecker#DEFAULT_MAXIMUM_SCORE_CALCULATION_SPEED_REGRESSION_PERCENTAGE}).
+ * The first run in an empty benchmarkDirectory becomes the baseline.
+ */
+public class OptaPlannerBenchmarkRegressionCli {
+
+    public static final int EXIT_STATUS_REGRESSION = 2;
+
+    public static void main(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.err.println("Usage: OptaPlannerBenchmarkRegressionCli benchmarkConfigFile benchmarkDirectory"
+                    + " [maximumScoreCalculationSpeedRegressionPercentage]");
+            System.exit(1);
+        }
+        File benchmarkConfigFile = new File(args[0]);
+        if (!benchmarkConfigFile.exists()) {
+            System.err.println("The benchmarkConfigFile (" + benchmarkConfigFile + ") does not exist.");
+            System.exit(1);
+        }
+        File benchmarkDirectory = new File(args[1]);
+        BenchmarkRegressionChecker regressionChecker = new BenchmarkRegressionChecker();
+        if (args.length == 3) {
+            regressionChecker.setMaximumScoreCalculationSpeedRegressionPercentage(Double.parseDouble(args[2]));
+        }
+        PlannerBenchmarkResult baselineResult = readLatestPlannerBenchmarkResult(benchmarkDirectory);
+
+        PlannerBenchmarkFactory plannerBenchmarkFactory;
+        if (benchmarkConfigFile.getName().endsWith(".ftl")) {
+            plannerBenchmarkFactory = PlannerBenchmarkFactory.createFromFreemarkerXmlFile(benchmarkConfigFile);
+        } else {
+            plannerBenchmarkFactory = PlannerBenchmarkFactory.createFromXmlFile(benchmarkConfigFile);
+        }
+        plannerBenchmarkFactory.getPlannerBenchmarkConfig().setBenchmarkDirectory(benchmarkDirectory);
+        DefaultPlannerBenchmark plannerBenchmark
+                = (DefaultPlannerBenchmark) plannerBenchmarkFactory.buildPlannerBenchmark();
+        plannerBenchmark.benchmark();
+
+        if (baselineResult == null) {
+            System.out.println("No baseline found in the benchmarkDirectory (" + benchmarkDirectory
+                    + "), so this benchmark result becomes the baseline.");
+            return;
+        }
+        List<String> regressionList = regressionChecker.checkRegressions(baselineResult,
+                plannerBenchmark.getPlannerBenchmarkResult());
+        if (!regressionList.isEmpty()) {
+            System.err.println("Benchmark regressions compared to the baseline ("
+                    + baselineResult.getBenchmarkReportDirectory() + "):");
+            for (String regression : regressionList) {
+                System.err.println("  " + regression);
+            }
+            System.exit(EXIT_STATUS_REGRESSION);
+        }
+        System.out.println("No benchmark regressions compared to the baseline ("
+                + baselineResult.getBenchmarkReportDirectory() + ").");
+    }
+
+    private static PlannerBenchmarkResult readLatestPlannerBenchmarkResult(File benchmarkDirectory) {
+        if (!benchmarkDirectory.exists()) {
+            return null;
+        }
+        // Sorted by benchmarkReportDirectory name, which starts with the timestamp
+        List<PlannerBenchmarkResult> plannerBenchmarkResultList = new BenchmarkResultIO()
+                .readPlannerBenchmarkResultList(new SolverConfigContext(), benchmarkDirectory);
+        for (int i = plannerBenchmarkResultList.size() - 1; i >= 0; i--) {
+            PlannerBenchmarkResult plannerBenchmarkResult = plannerBenchmarkResultList.get(i);
+            // Skip unmarshalling failures and aggregations
+            if (!plannerBenchmarkResult.getSolverBenchmarkResultList().isEmpty()
+                    && !Boolean.TRUE.equals(plannerBenchmarkResult.getAggregation())) {
+                return plannerBenchmarkResult;
+            }
+        }
+        return null;
+    }
+
+}
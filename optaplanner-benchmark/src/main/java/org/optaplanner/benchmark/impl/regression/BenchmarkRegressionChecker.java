@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.regression;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.benchmark.impl.ranking.ResilientScoreComparator;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.score.Score;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares a new {@link PlannerBenchmarkResult} with a baseline {@link PlannerBenchmarkResult},
+ * per problem and solver benchmark (matched by {@link SingleBenchmarkResult#getName()}).
+ * <p>
+ * Only uses the persisted fields of the {@link SubSingleBenchmarkResult}s,
+ * so a baseline read by {@link org.optaplanner.benchmark.impl.result.BenchmarkResultIO} works as is.
+ */
+public class BenchmarkRegressionChecker {
+
+    public static final double DEFAULT_MAXIMUM_SCORE_CALCULATION_SPEED_REGRESSION_PERCENTAGE = 10.0;
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    private double maximumScoreCalculationSpeedRegressionPercentage
+            = DEFAULT_MAXIMUM_SCORE_CALCULATION_SPEED_REGRESSION_PERCENTAGE;
+    private boolean scoreRegressionFailing = false;
+
+    public double getMaximumScoreCalculationSpeedRegressionPercentage() {
+        return maximumScoreCalculationSpeedRegressionPercentage;
+    }
+
+    public void setMaximumScoreCalculationSpeedRegressionPercentage(
+            double maximumScoreCalculationSpeedRegressionPercentage) {
+        if (maximumScoreCalculationSpeedRegressionPercentage < 0.0) {
+            throw new IllegalArgumentException("The maximumScoreCalculationSpeedRegressionPercentage ("
+                    + maximumScoreCalculationSpeedRegressionPercentage + ") cannot be negative.");
+        }
+        this.maximumScoreCalculationSpeedRegressionPercentage = maximumScoreCalculationSpeedRegressionPercentage;
+    }
+
+    public boolean isScoreRegressionFailing() {
+        return scoreRegressionFailing;
+    }
+
+    /**
+     * @param scoreRegressionFailing false (default) to only log a worse score,
+     * because with a time based termination the score is not reproducible
+     */
+    public void setScoreRegressionFailing(boolean scoreRegressionFailing) {
+        this.scoreRegressionFailing = scoreRegressionFailing;
+    }
+
+    // ************************************************************************
+    // Check methods
+    // ************************************************************************
+
+    /**
+     * @param baselineResult never null
+     * @param candidateResult never null
+     * @return never null, empty if there is no regression, otherwise a human readable description per regression
+     */
+    public List<String> checkRegressions(PlannerBenchmarkResult baselineResult,
+            PlannerBenchmarkResult candidateResult) {
+        Map<String, SingleBenchmarkResult> baselineSingleBenchmarkResultMap = buildSingleBenchmarkResultMap(
+                baselineResult);
+        List<String> regressionList = new ArrayList<>();
+        for (SingleBenchmarkResult candidate : buildSingleBenchmarkResultMap(candidateResult).values()) {
+            SingleBenchmarkResult baseline = baselineSingleBenchmarkResultMap.get(candidate.getName());
+            if (baseline == null) {
+                logger.info("The singleBenchmark ({}) has no baseline, so it is not checked.", candidate.getName());
+                continue;
+            }
+            checkScoreCalculationSpeed(baseline, candidate, regressionList);
+            checkScore(baseline, candidate, regressionList);
+        }
+        return regressionList;
+    }
+
+    private Map<String, SingleBenchmarkResult> buildSingleBenchmarkResultMap(
+            PlannerBenchmarkResult plannerBenchmarkResult) {
+        Map<String, SingleBenchmarkResult> singleBenchmarkResultMap = new LinkedHashMap<>();
+        for (SolverBenchmarkResult solverBenchmarkResult : plannerBenchmarkResult.getSolverBenchmarkResultList()) {
+            for (SingleBenchmarkResult singleBenchmarkResult : solverBenchmarkResult.getSingleBenchmarkResultList()) {
+                singleBenchmarkResultMap.put(singleBenchmarkResult.getName(), singleBenchmarkResult);
+            }
+        }
+        return singleBenchmarkResultMap;
+    }
+
+    private void checkScoreCalculationSpeed(SingleBenchmarkResult baseline, SingleBenchmarkResult candidate,
+            List<String> regressionList) {
+        Double baselineSpeed = determineAverageScoreCalculationSpeed(baseline);
+        Double candidateSpeed = determineAverageScoreCalculationSpeed(candidate);
+        if (baselineSpeed == null || candidateSpeed == null || baselineSpeed <= 0.0) {
+            return;
+        }
+        double changePercentage = (candidateSpeed - baselineSpeed) * 100.0 / baselineSpeed;
+        if (-changePercentage > maximumScoreCalculationSpeedRegressionPercentage) {
+            regressionList.add(String.format("The singleBenchmark (%s) has a score calculation speed (%.0f/sec)"
+                    + " that regressed %.1f%% compared to the baseline (%.0f/sec),"
+                    + " which is more than the maximum (%.1f%%).",
+                    candidate.getName(), candidateSpeed, -changePercentage, baselineSpeed,
+                    maximumScoreCalculationSpeedRegressionPercentage));
+        } else {
+            logger.info("The singleBenchmark ({}) has a score calculation speed ({}/sec) change of {}%"
+                    + " compared to the baseline ({}/sec).",
+                    candidate.getName(), Math.round(candidateSpeed), String.format("%.1f", changePercentage),
+                    Math.round(baselineSpeed));
+        }
+    }
+
+    private void checkScore(SingleBenchmarkResult baseline, SingleBenchmarkResult candidate,
+            List<String> regressionList) {
+        Score baselineScore = determineAverageScore(baseline);
+        Score candidateScore = determineAverageScore(candidate);
+        if (baselineScore == null || candidateScore == null) {
+            return;
+        }
+        if (new ResilientScoreComparator().compare(candidateScore, baselineScore) < 0) {
+            String message = "The singleBenchmark (" + candidate.getName() + ") has an average score ("
+                    + candidateScore + ") that is worse than the baseline (" + baselineScore + ").";
+            if (scoreRegressionFailing) {
+                regressionList.add(message);
+            } else {
+                logger.warn(message);
+            }
+        }
+    }
+
+    /**
+     * @param singleBenchmarkResult never null
+     * @return null if there is no successful {@link SubSingleBenchmarkResult}
+     */
+    protected Double determineAverageScoreCalculationSpeed(SingleBenchmarkResult singleBenchmarkResult) {
+        long totalScoreCalculationSpeed = 0L;
+        int successCount = 0;
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult
+                : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
+            if (subSingleBenchmarkResult.hasAllSuccess()) {
+                totalScoreCalculationSpeed += subSingleBenchmarkResult.getScoreCalculationSpeed();
+                successCount++;
+            }
+        }
+        return successCount == 0 ? null : ((double) totalScoreCalculationSpeed) / successCount;
+    }
+
+    /**
+     * @param singleBenchmarkResult never null
+     * @return null if there is no successful {@link SubSingleBenchmarkResult}
+     */
+    protected Score determineAverageScore(SingleBenchmarkResult singleBenchmarkResult) {
+        Score totalScore = null;
+        int successCount = 0;
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult
+                : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
+            Score score = subSingleBenchmarkResult.getScore();
+            if (subSingleBenchmarkResult.hasAllSuccess() && score != null) {
+                totalScore = totalScore == null ? score : totalScore.add(score);
+                successCount++;
+            }
+        }
+        return successCount == 0 ? null : totalScore.divide(successCount);
+    }
+
+}
@@ -33,6 +33,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import javax.imageio.ImageIO;
 
 import freemarker.template.Configuration;
@@ -83,6 +87,7 @@ public class BenchmarkReport {
     private final PlannerBenchmarkResult plannerBenchmarkResult;
 
     private Locale locale = null;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
     private Comparator<SolverBenchmarkResult> solverRankingComparator = null;
     private SolverRankingWeightFactory solverRankingWeightFactory = null;
     private File summaryDirectory = null;
@@ -117,6 +122,14 @@ public class BenchmarkReport {
         this.locale = locale;
     }
 
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
     public Comparator<SolverBenchmarkResult> getSolverRankingComparator() {
         return solverRankingComparator;
     }
@@ -223,49 +236,59 @@ public class BenchmarkReport {
         summaryDirectory.mkdir();
         plannerBenchmarkResult.accumulateResults(this);
         fillWarningList();
-        writeBestScoreSummaryChart();
-        writeBestScoreScalabilitySummaryChart();
-        writeWinningScoreDifferenceSummaryChart();
-        writeWorstScoreDifferencePercentageSummaryChart();
-        writeBestScoreDistributionSummaryChart();
-        writeScoreCalculationSpeedSummaryChart();
-        writeTimeSpentSummaryChart();
-        writeTimeSpentScalabilitySummaryChart();
-        writeBestScorePerTimeSpentSummaryChart();
-        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
-            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
-                    }
-                    for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
-                        try {
-                            subSingleStatistic.unhibernatePointList();
-                        } catch (IllegalStateException e) {
-                            if (!plannerBenchmarkResult.getAggregation()) {
-                                throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
-                                        + subSingleStatistic + ") of SubSingleBenchmark (" + subSingleBenchmarkResult + ").", e);
-                            }
-                            logger.trace("This is expected, aggregator doesn't copy CSV files. Could not read CSV file "
-                                    + "({}) of sub single statistic ({}).", subSingleStatistic.getCsvFile().getAbsolutePath(), subSingleStatistic);
+        // Every chart is independent (its own dataset and its own image file), so they are rendered in parallel
+        ForkJoinPool reportPool = new ForkJoinPool(threadCount);
+        try {
+            List<Callable<Void>> chartTaskList = new ArrayList<>();
+            chartTaskList.add(toTask(this::writeBestScoreSummaryChart));
+            chartTaskList.add(toTask(this::writeBestScoreScalabilitySummaryChart));
+            chartTaskList.add(toTask(this::writeWinningScoreDifferenceSummaryChart));
+            chartTaskList.add(toTask(this::writeWorstScoreDifferencePercentageSummaryChart));
+            chartTaskList.add(toTask(this::writeBestScoreDistributionSummaryChart));
+            chartTaskList.add(toTask(this::writeScoreCalculationSpeedSummaryChart));
+            chartTaskList.add(toTask(this::writeTimeSpentSummaryChart));
+            chartTaskList.add(toTask(this::writeTimeSpentScalabilitySummaryChart));
+            chartTaskList.add(toTask(this::writeBestScorePerTimeSpentSummaryChart));
+            List<ProblemBenchmarkResult> problemBenchmarkResultList
+                    = plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList();
+            List<Callable<Void>> unhibernateTaskList = new ArrayList<>();
+            for (ProblemBenchmarkResult<Object> problemBenchmarkResult : problemBenchmarkResultList) {
+                for (SingleBenchmarkResult singleBenchmarkResult
+                        : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                    for (SubSingleBenchmarkResult subSingleBenchmarkResult
+                            : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
+                        if (!subSingleBenchmarkResult.hasAllSuccess()) {
+                            continue;
+                        }
+                        for (SubSingleStatistic subSingleStatistic
+                                : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
+                            unhibernateTaskList.add(toTask(
+                                    () -> unhibernatePointList(subSingleBenchmarkResult, subSingleStatistic)));
                         }
                     }
                 }
             }
-        }
-        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
-            if (problemBenchmarkResult.hasAnySuccess()) {
-                for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
-                    problemStatistic.writeGraphFiles(this);
-                }
-                for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                    if (singleBenchmarkResult.hasAllSuccess()) {
-                        for (PureSubSingleStatistic pureSubSingleStatistic : singleBenchmarkResult.getMedian().getPureSubSingleStatisticList()) {
-                            pureSubSingleStatistic.writeGraphFiles(this);
+            // The statistic graphs need every point list, but the summary charts don't
+            invokeAllTasks(reportPool, unhibernateTaskList);
+            for (ProblemBenchmarkResult<Object> problemBenchmarkResult : problemBenchmarkResultList) {
+                if (problemBenchmarkResult.hasAnySuccess()) {
+                    for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
+                        chartTaskList.add(toTask(() -> problemStatistic.writeGraphFiles(this)));
+                    }
+                    for (SingleBenchmarkResult singleBenchmarkResult
+                            : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                        if (singleBenchmarkResult.hasAllSuccess()) {
+                            for (PureSubSingleStatistic pureSubSingleStatistic
+                                    : singleBenchmarkResult.getMedian().getPureSubSingleStatisticList()) {
+                                chartTaskList.add(toTask(() -> pureSubSingleStatistic.writeGraphFiles(this)));
+                            }
                         }
                     }
                 }
             }
+            invokeAllTasks(reportPool, chartTaskList);
+        } finally {
+            reportPool.shutdownNow();
         }
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
             for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
@@ -287,6 +310,46 @@ public class BenchmarkReport {
         writeHtmlOverviewFile();
     }
 
+    private void unhibernatePointList(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            SubSingleStatistic subSingleStatistic) {
+        try {
+            subSingleStatistic.unhibernatePointList();
+        } catch (IllegalStateException e) {
+            if (!plannerBenchmarkResult.getAggregation()) {
+                throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
+                        + subSingleStatistic + ") of SubSingleBenchmark (" + subSingleBenchmarkResult + ").", e);
+            }
+            logger.trace("This is expected, aggregator doesn't copy CSV files. Could not read CSV file "
+                    + "({}) of sub single statistic ({}).",
+                    subSingleStatistic.getCsvFile().getAbsolutePath(), subSingleStatistic);
+        }
+    }
+
+    private static Callable<Void> toTask(Runnable runnable) {
+        return () -> {
+            runnable.run();
+            return null;
+        };
+    }
+
+    private void invokeAllTasks(ForkJoinPool reportPool, List<Callable<Void>> taskList) {
+        List<Future<Void>> futureList = reportPool.invokeAll(taskList);
+        for (Future<Void> future : futureList) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The report generation was interrupted.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("The report generation failed.", cause);
+            }
+        }
+    }
+
     protected void fillWarningList() {
         warningList = new ArrayList<>();
         String javaVmName = System.getProperty("java.vm.name");
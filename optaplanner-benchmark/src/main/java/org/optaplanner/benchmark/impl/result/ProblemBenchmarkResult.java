@@ -43,6 +43,7 @@ import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.report.ReportHelper;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.StatisticUtils;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.SolverConfigContext;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -381,6 +382,19 @@ public class ProblemBenchmarkResult<Solution_> {
             singleBenchmarkResult.setWorstScoreDifferencePercentage(
                     ScoreDifferencePercentage.calculateScoreDifferencePercentage(
                             worstSingleBenchmarkResult.getAverageScore(), singleBenchmarkResult.getAverageScore()));
+            if (singleBenchmarkResult == winningSingleBenchmarkResult) {
+                singleBenchmarkResult.setWinningScoreDifferencePValues(null);
+                singleBenchmarkResult.setWinningScoreCalculationSpeedDifferencePValue(null);
+            } else {
+                singleBenchmarkResult.setWinningScoreDifferencePValues(StatisticUtils.determineWelchTTestPValues(
+                        winningSingleBenchmarkResult.extractScoreLevelDoublesList(),
+                        singleBenchmarkResult.extractScoreLevelDoublesList()));
+                double[] scoreCalculationSpeedPValues = StatisticUtils.determineWelchTTestPValues(
+                        winningSingleBenchmarkResult.extractScoreCalculationSpeedDoublesList(),
+                        singleBenchmarkResult.extractScoreCalculationSpeedDoublesList());
+                singleBenchmarkResult.setWinningScoreCalculationSpeedDifferencePValue(
+                        scoreCalculationSpeedPValues == null ? null : scoreCalculationSpeedPValues[0]);
+            }
         }
     }
 
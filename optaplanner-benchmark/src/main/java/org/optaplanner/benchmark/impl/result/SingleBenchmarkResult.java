@@ -50,6 +50,9 @@ public class SingleBenchmarkResult implements BenchmarkResult {
 
     protected static final transient Logger logger = LoggerFactory.getLogger(SingleBenchmarkResult.class);
 
+    public static final double CONFIDENCE_LEVEL = 0.95;
+    public static final double SIGNIFICANCE_LEVEL = 1.0 - CONFIDENCE_LEVEL;
+
     @XStreamOmitField // Bi-directional relationship restored through BenchmarkResultIO
     private SolverBenchmarkResult solverBenchmarkResult;
     @XStreamOmitField // Bi-directional relationship restored through BenchmarkResultIO
@@ -72,8 +75,14 @@ public class SingleBenchmarkResult implements BenchmarkResult {
     // - the squaring would cause overflow for relatively small int and long scores.
     // - standard deviation should not be rounded to integer numbers
     private double[] standardDeviationDoubles = null;
+    // Half width of the confidence interval (at CONFIDENCE_LEVEL) around the averageScore, per score level
+    private double[] scoreConfidenceIntervalDoubles = null;
     private long timeMillisSpent = -1L;
     private long scoreCalculationCount = -1L;
+    private Double averageScoreCalculationSpeed = null;
+    private Double medianScoreCalculationSpeed = null;
+    private Double scoreCalculationSpeedStandardDeviation = null;
+    private Double scoreCalculationSpeedConfidenceInterval = null;
 
     // ************************************************************************
     // Report accumulates
@@ -82,6 +91,10 @@ public class SingleBenchmarkResult implements BenchmarkResult {
     // Compared to winningSingleBenchmarkResult in the same ProblemBenchmarkResult (which might not be the overall favorite)
     private Score winningScoreDifference = null;
     private ScoreDifferencePercentage worstScoreDifferencePercentage = null;
+    // Welch's t-test p-value per score level compared to the winningSingleBenchmarkResult's subSingle scores
+    private double[] winningScoreDifferencePValues = null;
+    // Welch's t-test p-value compared to the winningSingleBenchmarkResult's subSingle score calculation speeds
+    private Double winningScoreCalculationSpeedDifferencePValue = null;
 
     // Ranking starts from 0
     private Integer ranking = null;
@@ -176,6 +189,22 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         this.worstScoreDifferencePercentage = worstScoreDifferencePercentage;
     }
 
+    public double[] getWinningScoreDifferencePValues() {
+        return winningScoreDifferencePValues;
+    }
+
+    public void setWinningScoreDifferencePValues(double[] winningScoreDifferencePValues) {
+        this.winningScoreDifferencePValues = winningScoreDifferencePValues;
+    }
+
+    public Double getWinningScoreCalculationSpeedDifferencePValue() {
+        return winningScoreCalculationSpeedDifferencePValue;
+    }
+
+    public void setWinningScoreCalculationSpeedDifferencePValue(Double winningScoreCalculationSpeedDifferencePValue) {
+        this.winningScoreCalculationSpeedDifferencePValue = winningScoreCalculationSpeedDifferencePValue;
+    }
+
     public Integer getRanking() {
         return ranking;
     }
@@ -209,6 +238,26 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         return standardDeviationDoubles;
     }
 
+    public double[] getScoreConfidenceIntervalDoubles() {
+        return scoreConfidenceIntervalDoubles;
+    }
+
+    public Double getAverageScoreCalculationSpeed() {
+        return averageScoreCalculationSpeed;
+    }
+
+    public Double getMedianScoreCalculationSpeed() {
+        return medianScoreCalculationSpeed;
+    }
+
+    public Double getScoreCalculationSpeedStandardDeviation() {
+        return scoreCalculationSpeedStandardDeviation;
+    }
+
+    public Double getScoreCalculationSpeedConfidenceInterval() {
+        return scoreCalculationSpeedConfidenceInterval;
+    }
+
     public Integer getInfeasibleScoreCount() {
         return infeasibleScoreCount;
     }
@@ -284,6 +333,96 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         return StatisticUtils.getStandardDeviationString(standardDeviationDoubles);
     }
 
+    public String getScoreConfidenceIntervalString() {
+        return StatisticUtils.getStandardDeviationString(scoreConfidenceIntervalDoubles);
+    }
+
+    public double getConfidenceLevel() {
+        return CONFIDENCE_LEVEL;
+    }
+
+    public double getSignificanceLevel() {
+        return SIGNIFICANCE_LEVEL;
+    }
+
+    /**
+     * @return true if this is the winning {@link SingleBenchmarkResult} of its {@link ProblemBenchmarkResult},
+     * so there is no difference to test
+     */
+    public boolean isProblemWinner() {
+        return problemBenchmarkResult.getWinningSingleBenchmarkResult() == this;
+    }
+
+    /**
+     * @return true if the difference with the winning {@link SingleBenchmarkResult} of the same problem
+     * has been tested, which requires at least 2 successful subSingles on both sides
+     */
+    public boolean isWinningScoreDifferenceTested() {
+        return winningScoreDifferencePValues != null;
+    }
+
+    /**
+     * @return true if the difference with the winning {@link SingleBenchmarkResult} of the same problem
+     * is unlikely to be caused by noise on at least 1 score level,
+     * false if it is likely noise or if it hasn't been {@link #isWinningScoreDifferenceTested() tested}
+     */
+    public boolean isWinningScoreDifferenceSignificant() {
+        if (winningScoreDifferencePValues == null) {
+            return false;
+        }
+        for (double pValue : winningScoreDifferencePValues) {
+            if (pValue < SIGNIFICANCE_LEVEL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the difference in score calculation speed with the winning {@link SingleBenchmarkResult}
+     * of the same problem has been tested, which requires at least 2 successful subSingles on both sides
+     */
+    public boolean isWinningScoreCalculationSpeedDifferenceTested() {
+        return winningScoreCalculationSpeedDifferencePValue != null;
+    }
+
+    /**
+     * @return true if the difference in score calculation speed with the winning {@link SingleBenchmarkResult}
+     * of the same problem is unlikely to be caused by noise,
+     * false if it is likely noise or if it hasn't been {@link #isWinningScoreCalculationSpeedDifferenceTested() tested}
+     */
+    public boolean isWinningScoreCalculationSpeedDifferenceSignificant() {
+        return winningScoreCalculationSpeedDifferencePValue != null
+                && winningScoreCalculationSpeedDifferencePValue < SIGNIFICANCE_LEVEL;
+    }
+
+    /**
+     * @return never null, the score levels of every successful {@link SubSingleBenchmarkResult}
+     */
+    public List<double[]> extractScoreLevelDoublesList() {
+        List<double[]> scoreLevelDoublesList = new ArrayList<>(subSingleBenchmarkResultList.size());
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            if (subSingleBenchmarkResult.hasAllSuccess()) {
+                scoreLevelDoublesList.add(ScoreUtils.extractLevelDoubles(subSingleBenchmarkResult.getAverageScore()));
+            }
+        }
+        return scoreLevelDoublesList;
+    }
+
+    /**
+     * @return never null, the score calculation speed of every successful {@link SubSingleBenchmarkResult}
+     */
+    public List<double[]> extractScoreCalculationSpeedDoublesList() {
+        List<double[]> scoreCalculationSpeedDoublesList = new ArrayList<>(subSingleBenchmarkResultList.size());
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            if (subSingleBenchmarkResult.hasAllSuccess()) {
+                scoreCalculationSpeedDoublesList.add(
+                        new double[]{subSingleBenchmarkResult.getScoreCalculationSpeed().doubleValue()});
+            }
+        }
+        return scoreCalculationSpeedDoublesList;
+    }
+
     // ************************************************************************
     // Accumulate methods
     // ************************************************************************
@@ -316,9 +455,40 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         }
         determineTotalsAndAveragesAndRanking();
         standardDeviationDoubles = StatisticUtils.determineStandardDeviationDoubles(subSingleBenchmarkResultList, averageScore, getSuccessCount());
+        scoreConfidenceIntervalDoubles = StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(
+                extractScoreLevelDoublesList(), CONFIDENCE_LEVEL);
+        determineScoreCalculationSpeedDistribution();
         determineRepresentativeSubSingleBenchmarkResult();
     }
 
+    private void determineScoreCalculationSpeedDistribution() {
+        averageScoreCalculationSpeed = null;
+        medianScoreCalculationSpeed = null;
+        scoreCalculationSpeedStandardDeviation = null;
+        scoreCalculationSpeedConfidenceInterval = null;
+        List<double[]> scoreCalculationSpeedDoublesList = extractScoreCalculationSpeedDoublesList();
+        if (scoreCalculationSpeedDoublesList.isEmpty()) {
+            return;
+        }
+        double totalScoreCalculationSpeed = 0.0;
+        for (double[] scoreCalculationSpeedDoubles : scoreCalculationSpeedDoublesList) {
+            totalScoreCalculationSpeed += scoreCalculationSpeedDoubles[0];
+        }
+        averageScoreCalculationSpeed = totalScoreCalculationSpeed / scoreCalculationSpeedDoublesList.size();
+        medianScoreCalculationSpeed = StatisticUtils.determineMedianDoubles(scoreCalculationSpeedDoublesList)[0];
+        double differenceSquaredTotal = 0.0;
+        for (double[] scoreCalculationSpeedDoubles : scoreCalculationSpeedDoublesList) {
+            differenceSquaredTotal += Math.pow(scoreCalculationSpeedDoubles[0] - averageScoreCalculationSpeed, 2.0);
+        }
+        scoreCalculationSpeedStandardDeviation = Math.pow(
+                differenceSquaredTotal / scoreCalculationSpeedDoublesList.size(), 0.5);
+        double[] confidenceIntervalDoubles = StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(
+                scoreCalculationSpeedDoublesList, CONFIDENCE_LEVEL);
+        if (confidenceIntervalDoubles != null) {
+            scoreCalculationSpeedConfidenceInterval = confidenceIntervalDoubles[0];
+        }
+    }
+
     private void determineRepresentativeSubSingleBenchmarkResult() {
         if (subSingleBenchmarkResultList == null || subSingleBenchmarkResultList.isEmpty()) {
             throw new IllegalStateException("Cannot get representative subSingleBenchmarkResult from empty subSingleBenchmarkResultList.");
@@ -18,9 +18,11 @@ package org.optaplanner.benchmark.impl.statistic;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
+import org.apache.commons.math3.distribution.TDistribution;
 import org.optaplanner.benchmark.impl.result.BenchmarkResult;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.ScoreUtils;
@@ -62,6 +64,133 @@ public class StatisticUtils {
         return standardDeviationDoubles;
     }
 
+    /**
+     * Calculates the half width of the confidence interval of the mean of each level,
+     * based on the Student's t-distribution of the sample.
+     * @param sampleList never null, every element has the same length
+     * @param confidenceLevel {@code 0.0 < confidenceLevel < 1.0}, for example {@code 0.95}
+     * @return null if there are less than 2 samples
+     */
+    public static double[] determineConfidenceIntervalHalfWidthDoubles(List<double[]> sampleList,
+            double confidenceLevel) {
+        if (confidenceLevel <= 0.0 || confidenceLevel >= 1.0) {
+            throw new IllegalArgumentException("The confidenceLevel (" + confidenceLevel
+                    + ") must be between 0.0 and 1.0 (both exclusive).");
+        }
+        int sampleCount = sampleList.size();
+        if (sampleCount < 2) {
+            return null;
+        }
+        double[] meanDoubles = determineMeanDoubles(sampleList);
+        double[] varianceDoubles = determineSampleVarianceDoubles(sampleList, meanDoubles);
+        double criticalValue = new TDistribution(sampleCount - 1)
+                .inverseCumulativeProbability(1.0 - ((1.0 - confidenceLevel) / 2.0));
+        double[] halfWidthDoubles = new double[varianceDoubles.length];
+        for (int i = 0; i < varianceDoubles.length; i++) {
+            halfWidthDoubles[i] = criticalValue * Math.sqrt(varianceDoubles[i] / sampleCount);
+        }
+        return halfWidthDoubles;
+    }
+
+    /**
+     * Runs a two-sided Welch's t-test per level,
+     * which does not assume that both samples have the same variance.
+     * @param sampleList never null, every element has the same length
+     * @param otherSampleList never null, every element has the same length as those of {@code sampleList}
+     * @return null if either sample has less than 2 elements, otherwise the p-value of each level:
+     * the lower, the more likely the difference between both means is not caused by noise
+     */
+    public static double[] determineWelchTTestPValues(List<double[]> sampleList, List<double[]> otherSampleList) {
+        int sampleCount = sampleList.size();
+        int otherSampleCount = otherSampleList.size();
+        if (sampleCount < 2 || otherSampleCount < 2) {
+            return null;
+        }
+        double[] meanDoubles = determineMeanDoubles(sampleList);
+        double[] varianceDoubles = determineSampleVarianceDoubles(sampleList, meanDoubles);
+        double[] otherMeanDoubles = determineMeanDoubles(otherSampleList);
+        double[] otherVarianceDoubles = determineSampleVarianceDoubles(otherSampleList, otherMeanDoubles);
+        if (meanDoubles.length != otherMeanDoubles.length) {
+            throw new IllegalArgumentException("The sampleList's levelsLength (" + meanDoubles.length
+                    + ") is different from the otherSampleList's levelsLength (" + otherMeanDoubles.length + ").");
+        }
+        double[] pValues = new double[meanDoubles.length];
+        for (int i = 0; i < meanDoubles.length; i++) {
+            double standardErrorSquared = varianceDoubles[i] / sampleCount;
+            double otherStandardErrorSquared = otherVarianceDoubles[i] / otherSampleCount;
+            double combinedStandardErrorSquared = standardErrorSquared + otherStandardErrorSquared;
+            if (combinedStandardErrorSquared == 0.0) {
+                // Both samples are constant (for example a deterministic solver configuration)
+                pValues[i] = (meanDoubles[i] == otherMeanDoubles[i]) ? 1.0 : 0.0;
+                continue;
+            }
+            double t = (meanDoubles[i] - otherMeanDoubles[i]) / Math.sqrt(combinedStandardErrorSquared);
+            // Welch–Satterthwaite equation
+            double degreesOfFreedom = (combinedStandardErrorSquared * combinedStandardErrorSquared)
+                    / ((standardErrorSquared * standardErrorSquared / (sampleCount - 1))
+                    + (otherStandardErrorSquared * otherStandardErrorSquared / (otherSampleCount - 1)));
+            TDistribution distribution = new TDistribution(degreesOfFreedom);
+            pValues[i] = Math.min(1.0, 2.0 * distribution.cumulativeProbability(-Math.abs(t)));
+        }
+        return pValues;
+    }
+
+    /**
+     * Calculates the median of each level.
+     * For an even number of samples, it's the mean of the 2 middle values.
+     * @param sampleList never null, every element has the same length
+     * @return null if there are no samples
+     */
+    public static double[] determineMedianDoubles(List<double[]> sampleList) {
+        int sampleCount = sampleList.size();
+        if (sampleCount == 0) {
+            return null;
+        }
+        int levelsLength = sampleList.get(0).length;
+        double[] medianDoubles = new double[levelsLength];
+        double[] levelDoubles = new double[sampleCount];
+        for (int i = 0; i < levelsLength; i++) {
+            for (int j = 0; j < sampleCount; j++) {
+                levelDoubles[j] = sampleList.get(j)[i];
+            }
+            Arrays.sort(levelDoubles);
+            int middleIndex = sampleCount / 2;
+            medianDoubles[i] = (sampleCount % 2 == 1) ? levelDoubles[middleIndex]
+                    : (levelDoubles[middleIndex - 1] + levelDoubles[middleIndex]) / 2.0;
+        }
+        return medianDoubles;
+    }
+
+    private static double[] determineMeanDoubles(List<double[]> sampleList) {
+        double[] totalDoubles = null;
+        for (double[] sample : sampleList) {
+            if (totalDoubles == null) {
+                totalDoubles = new double[sample.length];
+            }
+            for (int i = 0; i < sample.length; i++) {
+                totalDoubles[i] += sample[i];
+            }
+        }
+        for (int i = 0; i < totalDoubles.length; i++) {
+            totalDoubles[i] /= sampleList.size();
+        }
+        return totalDoubles;
+    }
+
+    private static double[] determineSampleVarianceDoubles(List<double[]> sampleList, double[] meanDoubles) {
+        double[] differenceSquaredTotalDoubles = new double[meanDoubles.length];
+        for (double[] sample : sampleList) {
+            for (int i = 0; i < sample.length; i++) {
+                differenceSquaredTotalDoubles[i] += Math.pow(sample[i] - meanDoubles[i], 2.0);
+            }
+        }
+        // Bessel's correction, because the mean is estimated from the sample itself
+        for (int i = 0; i < differenceSquaredTotalDoubles.length; i++) {
+            differenceSquaredTotalDoubles[i] /= (sampleList.size() - 1);
+        }
+        return differenceSquaredTotalDoubles;
+    }
+
     // TODO Do the locale formatting in benchmarkReport.html.ftl - https://issues.jboss.org/browse/PLANNER-169
     public static String getStandardDeviationString(double[] standardDeviationDoubles) {
         if (standardDeviationDoubles == null) {
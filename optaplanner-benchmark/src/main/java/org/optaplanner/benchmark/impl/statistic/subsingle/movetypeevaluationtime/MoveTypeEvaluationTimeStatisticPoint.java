@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.movetypeevaluationtime;
+
+import org.optaplanner.benchmark.impl.aggregator.BenchmarkAggregator;
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+public class MoveTypeEvaluationTimeStatisticPoint extends StatisticPoint {
+
+    /**
+     * The {@link Move#getSimpleMoveTypeDescription()}, so a {@link CompositeMove} is not atomized:
+     * its evaluation time can't be split over its child moves, so it is measured as a whole.
+     * Not a {@link Class}{@code <}{@link Move}{@code >}
+     * because that {@link Class} might no longer exist when {@link BenchmarkAggregator} aggregates.
+     */
+    private final String moveType;
+    private final long sampledEvaluationCount;
+    private final long selectionTimeNanos;
+    private final long doMoveTimeNanos;
+    private final long variableListenerTimeNanos;
+    private final long scoreCalculationTimeNanos;
+    private final long undoMoveTimeNanos;
+
+    public MoveTypeEvaluationTimeStatisticPoint(String moveType, long sampledEvaluationCount,
+            long selectionTimeNanos, long doMoveTimeNanos, long variableListenerTimeNanos,
+            long scoreCalculationTimeNanos, long undoMoveTimeNanos) {
+        this.moveType = moveType;
+        this.sampledEvaluationCount = sampledEvaluationCount;
+        this.selectionTimeNanos = selectionTimeNanos;
+        this.doMoveTimeNanos = doMoveTimeNanos;
+        this.variableListenerTimeNanos = variableListenerTimeNanos;
+        this.scoreCalculationTimeNanos = scoreCalculationTimeNanos;
+        this.undoMoveTimeNanos = undoMoveTimeNanos;
+    }
+
+    public String getMoveType() {
+        return moveType;
+    }
+
+    public long getSampledEvaluationCount() {
+        return sampledEvaluationCount;
+    }
+
+    public long getSelectionTimeNanos() {
+        return selectionTimeNanos;
+    }
+
+    public long getDoMoveTimeNanos() {
+        return doMoveTimeNanos;
+    }
+
+    public long getVariableListenerTimeNanos() {
+        return variableListenerTimeNanos;
+    }
+
+    public long getScoreCalculationTimeNanos() {
+        return scoreCalculationTimeNanos;
+    }
+
+    public long getUndoMoveTimeNanos() {
+        return undoMoveTimeNanos;
+    }
+
+    public long getTotalTimeNanos() {
+        return selectionTimeNanos + doMoveTimeNanos + variableListenerTimeNanos
+                + scoreCalculationTimeNanos + undoMoveTimeNanos;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLine(moveType, Long.toString(sampledEvaluationCount),
+                Long.toString(selectionTimeNanos), Long.toString(doMoveTimeNanos),
+                Long.toString(variableListenerTimeNanos), Long.toString(scoreCalculationTimeNanos),
+                Long.toString(undoMoveTimeNanos));
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.movetypeevaluationtime;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.renderer.category.StackedBarRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.decider.MoveEvaluationProfiler;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+@XStreamAlias("moveTypeEvaluationTimeSubSingleStatistic")
+public class MoveTypeEvaluationTimeSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, MoveTypeEvaluationTimeStatisticPoint> {
+
+    /**
+     * Only 1 in every {@value} moves is measured, to keep the overhead of {@link System#nanoTime()} low.
+     */
+    public static final int SAMPLING_INTERVAL = 16;
+
+    @XStreamOmitField
+    private MoveTypeEvaluationTimeSubSingleStatisticProfiler profiler;
+
+    @XStreamOmitField
+    protected List<File> graphFileList = null;
+
+    public MoveTypeEvaluationTimeSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.MOVE_TYPE_EVALUATION_TIME);
+        profiler = new MoveTypeEvaluationTimeSubSingleStatisticProfiler();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        profiler.reset();
+        ((DefaultSolver<Solution_>) solver).setMoveEvaluationProfiler(profiler);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).setMoveEvaluationProfiler(null);
+        for (Map.Entry<String, long[]> entry : profiler.getMoveTypeToTimeNanosMap().entrySet()) {
+            long[] timeNanos = entry.getValue();
+            pointList.add(new MoveTypeEvaluationTimeStatisticPoint(entry.getKey(), timeNanos[0],
+                    timeNanos[1], timeNanos[2], timeNanos[3], timeNanos[4], timeNanos[5]));
+        }
+    }
+
+    private static class MoveTypeEvaluationTimeSubSingleStatisticProfiler implements MoveEvaluationProfiler {
+
+        private long moveCount = 0L;
+        // Per move type: sampledEvaluationCount, selection, doMove, variableListener, scoreCalculation, undoMove
+        private Map<String, long[]> moveTypeToTimeNanosMap = new LinkedHashMap<>();
+
+        public Map<String, long[]> getMoveTypeToTimeNanosMap() {
+            return moveTypeToTimeNanosMap;
+        }
+
+        public void reset() {
+            moveCount = 0L;
+            moveTypeToTimeNanosMap = new LinkedHashMap<>();
+        }
+
+        @Override
+        public boolean isNextMoveSampled() {
+            moveCount++;
+            return moveCount % SAMPLING_INTERVAL == 0L;
+        }
+
+        @Override
+        public void moveEvaluated(Move move, long selectionTimeNanos, long doMoveTimeNanos,
+                long variableListenerTimeNanos, long scoreCalculationTimeNanos, long undoMoveTimeNanos) {
+            String moveType = move.getSimpleMoveTypeDescription();
+            long[] timeNanos = moveTypeToTimeNanosMap.get(moveType);
+            if (timeNanos == null) {
+                timeNanos = new long[6];
+                moveTypeToTimeNanosMap.put(moveType, timeNanos);
+            }
+            timeNanos[0]++;
+            timeNanos[1] += selectionTimeNanos;
+            timeNanos[2] += doMoveTimeNanos;
+            timeNanos[3] += variableListenerTimeNanos;
+            timeNanos[4] += scoreCalculationTimeNanos;
+            timeNanos[5] += undoMoveTimeNanos;
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return MoveTypeEvaluationTimeStatisticPoint.buildCsvLine("moveType", "sampledEvaluationCount",
+                "selectionTimeNanos", "doMoveTimeNanos", "variableListenerTimeNanos",
+                "scoreCalculationTimeNanos", "undoMoveTimeNanos");
+    }
+
+    @Override
+    protected MoveTypeEvaluationTimeStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new MoveTypeEvaluationTimeStatisticPoint(csvLine.get(0),
+                Long.parseLong(csvLine.get(1)), Long.parseLong(csvLine.get(2)), Long.parseLong(csvLine.get(3)),
+                Long.parseLong(csvLine.get(4)), Long.parseLong(csvLine.get(5)), Long.parseLong(csvLine.get(6)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (MoveTypeEvaluationTimeStatisticPoint point : getPointList()) {
+            long sampledEvaluationCount = point.getSampledEvaluationCount();
+            if (sampledEvaluationCount <= 0L) {
+                continue;
+            }
+            String moveType = point.getMoveType();
+            // Average time per evaluation in microseconds
+            double divisor = sampledEvaluationCount * 1000.0;
+            dataset.addValue(point.getSelectionTimeNanos() / divisor, "Selection", moveType);
+            dataset.addValue(point.getDoMoveTimeNanos() / divisor, "Do move", moveType);
+            dataset.addValue(point.getVariableListenerTimeNanos() / divisor, "Variable listeners", moveType);
+            dataset.addValue(point.getScoreCalculationTimeNanos() / divisor, "Score calculation", moveType);
+            dataset.addValue(point.getUndoMoveTimeNanos() / divisor, "Undo move", moveType);
+        }
+        Locale locale = benchmarkReport.getLocale();
+        CategoryAxis xAxis = new CategoryAxis("Move type");
+        NumberAxis yAxis = new NumberAxis("Average evaluation time (microseconds)");
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        CategoryPlot plot = new CategoryPlot(dataset, xAxis, yAxis, new StackedBarRenderer());
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " move type evaluation time statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(writeChartToImageFile(chart, "MoveTypeEvaluationTimeStatistic"));
+    }
+
+}
@@ -209,6 +209,8 @@
                                                                 <li>${singleBenchmarkResult.averageScore!""}</li>
                                                                 <li class="dropdown-header"><strong>Standard Deviation</strong></li>
                                                                 <li>${singleBenchmarkResult.standardDeviationString!""}</li>
+                                                                <li class="dropdown-header"><strong>${(singleBenchmarkResult.confidenceLevel * 100)?string("0.#")}% Confidence interval</strong></li>
+                                                                <li>&plusmn;&nbsp;${singleBenchmarkResult.scoreConfidenceIntervalString!""}</li>
                                                                 <li class="dropdown-header"><strong>Best</strong></li>
                                                                 <li>${singleBenchmarkResult.best.score!""}</li>
                                                                 <li class="dropdown-header"><strong>Worst</strong></li>
@@ -271,7 +273,7 @@
                                                 <#if !singleBenchmarkResult.hasAllSuccess()>
                                                     <td><span class="label label-important">Failed</span></td>
                                                 <#else>
-                                                    <td>${singleBenchmarkResult.winningScoreDifference}&nbsp;<@addSolverProblemBenchmarkResultBadges solverProblemBenchmarkResult=singleBenchmarkResult/></td>
+                                                    <td>${singleBenchmarkResult.winningScoreDifference}&nbsp;<@addSolverProblemBenchmarkResultBadges solverProblemBenchmarkResult=singleBenchmarkResult/><#if !singleBenchmarkResult.problemWinner><#if !singleBenchmarkResult.winningScoreDifferenceTested>&nbsp;<span class="badge" data-toggle="tooltip" title="Not enough samples to test statistical significance (at least 2 successful runs per solver)">?</span><#elseif !singleBenchmarkResult.winningScoreDifferenceSignificant>&nbsp;<span class="badge" data-toggle="tooltip" title="Not statistically significant (p &ge; ${singleBenchmarkResult.significanceLevel?string("0.###")})">~</span></#if></#if></td>
                                                 </#if>
                                             </#if>
                                         </#list>
@@ -413,6 +415,22 @@
                                                                 <li class="dropdown-header"><strong>Run #${subSingleBenchmarkResult.getSubSingleBenchmarkIndex()}</strong></li>
                                                                 <li>${subSingleBenchmarkResult.scoreCalculationSpeed!""}/s</li>
                                                             </#list>
+                                                            <li role="separator" class="divider"></li>
+                                                            <li class="dropdown-header"><strong>Average</strong></li>
+                                                            <li>${(singleBenchmarkResult.averageScoreCalculationSpeed?string("0"))!""}/s</li>
+                                                            <li class="dropdown-header"><strong>Median</strong></li>
+                                                            <li>${(singleBenchmarkResult.medianScoreCalculationSpeed?string("0"))!""}/s</li>
+                                                            <li class="dropdown-header"><strong>Standard Deviation</strong></li>
+                                                            <li>${(singleBenchmarkResult.scoreCalculationSpeedStandardDeviation?string("0"))!""}/s</li>
+                                                            <li class="dropdown-header"><strong>${(singleBenchmarkResult.confidenceLevel * 100)?string("0.#")}% Confidence interval</strong></li>
+                                                            <li>&plusmn;&nbsp;${(singleBenchmarkResult.scoreCalculationSpeedConfidenceInterval?string("0"))!""}/s</li>
+                                                            <#if !singleBenchmarkResult.problemWinner>
+                                                                <#if !singleBenchmarkResult.winningScoreCalculationSpeedDifferenceTested>
+                                                                    <li class="dropdown-header"><strong>Not enough samples to test the difference with the winner</strong></li>
+                                                                <#elseif !singleBenchmarkResult.winningScoreCalculationSpeedDifferenceSignificant>
+                                                                    <li class="dropdown-header"><strong>Not statistically different from the winner (p &ge; ${singleBenchmarkResult.significanceLevel?string("0.###")})</strong></li>
+                                                                </#if>
+                                                            </#if>
                                                         </ul>
                                                       </div></td>
                                                     </#if>
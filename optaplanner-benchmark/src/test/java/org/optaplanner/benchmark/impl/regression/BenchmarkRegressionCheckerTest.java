@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.regression;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+
+import static org.junit.Assert.*;
+
+public class BenchmarkRegressionCheckerTest {
+
+    @Test
+    public void checkRegressionsWithinThreshold() {
+        BenchmarkRegressionChecker regressionChecker = new BenchmarkRegressionChecker();
+        PlannerBenchmarkResult baselineResult = buildPlannerBenchmarkResult(1000L, SimpleScore.valueOfInitialized(-10));
+        PlannerBenchmarkResult candidateResult = buildPlannerBenchmarkResult(950L, SimpleScore.valueOfInitialized(-10));
+        assertEquals(0, regressionChecker.checkRegressions(baselineResult, candidateResult).size());
+    }
+
+    @Test
+    public void checkRegressionsBeyondThreshold() {
+        BenchmarkRegressionChecker regressionChecker = new BenchmarkRegressionChecker();
+        PlannerBenchmarkResult baselineResult = buildPlannerBenchmarkResult(1000L, SimpleScore.valueOfInitialized(-10));
+        PlannerBenchmarkResult candidateResult = buildPlannerBenchmarkResult(800L, SimpleScore.valueOfInitialized(-10));
+        assertEquals(1, regressionChecker.checkRegressions(baselineResult, candidateResult).size());
+        regressionChecker.setMaximumScoreCalculationSpeedRegressionPercentage(25.0);
+        assertEquals(0, regressionChecker.checkRegressions(baselineResult, candidateResult).size());
+    }
+
+    @Test
+    public void checkRegressionsWithWorseScore() {
+        BenchmarkRegressionChecker regressionChecker = new BenchmarkRegressionChecker();
+        PlannerBenchmarkResult baselineResult = buildPlannerBenchmarkResult(1000L, SimpleScore.valueOfInitialized(-10));
+        PlannerBenchmarkResult candidateResult = buildPlannerBenchmarkResult(1000L, SimpleScore.valueOfInitialized(-20));
+        assertEquals(0, regressionChecker.checkRegressions(baselineResult, candidateResult).size());
+        regressionChecker.setScoreRegressionFailing(true);
+        List<String> regressionList = regressionChecker.checkRegressions(baselineResult, candidateResult);
+        assertEquals(1, regressionList.size());
+        assertTrue(regressionList.get(0).contains("problem_solver"));
+    }
+
+    private PlannerBenchmarkResult buildPlannerBenchmarkResult(long scoreCalculationCount, SimpleScore score) {
+        PlannerBenchmarkResult plannerBenchmarkResult = new PlannerBenchmarkResult();
+        SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(plannerBenchmarkResult);
+        solverBenchmarkResult.setName("solver");
+        ProblemBenchmarkResult problemBenchmarkResult = new ProblemBenchmarkResult(plannerBenchmarkResult);
+        problemBenchmarkResult.setName("problem");
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(
+                solverBenchmarkResult, problemBenchmarkResult);
+        SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult, 0);
+        subSingleBenchmarkResult.setSucceeded(true);
+        subSingleBenchmarkResult.setScore(score);
+        subSingleBenchmarkResult.setTimeMillisSpent(1000L);
+        subSingleBenchmarkResult.setScoreCalculationCount(scoreCalculationCount);
+        singleBenchmarkResult.setSubSingleBenchmarkResultList(Collections.singletonList(subSingleBenchmarkResult));
+        solverBenchmarkResult.setSingleBenchmarkResultList(Collections.singletonList(singleBenchmarkResult));
+        plannerBenchmarkResult.setSolverBenchmarkResultList(Collections.singletonList(solverBenchmarkResult));
+        return plannerBenchmarkResult;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.optaplanner.benchmark.impl.statistic;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
@@ -61,6 +62,43 @@ public class StatisticUtilsTest {
         assertArrayEquals(new double[]{160338212.294}, StatisticUtils.determineStandardDeviationDoubles(subSingleBenchmarkResultList, averageScore, subSingleBenchmarkResultList.size()), DELTA);
     }
 
+    @Test
+    public void determineConfidenceIntervalHalfWidthDoubles() {
+        assertNull(StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(
+                Collections.singletonList(new double[]{-2.0}), 0.95));
+        List<double[]> sampleList = Arrays.asList(new double[]{-2.0, 10.0}, new double[]{-4.0, 10.0},
+                new double[]{-3.0, 10.0}, new double[]{-3.0, 10.0});
+        // sample standard deviation = sqrt(2/3), t(0.975, 3) = 3.182
+        assertArrayEquals(new double[]{1.299, 0.0},
+                StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(sampleList, 0.95), DELTA);
+    }
+
+    @Test
+    public void determineMedianDoubles() {
+        assertNull(StatisticUtils.determineMedianDoubles(Collections.emptyList()));
+        assertArrayEquals(new double[]{-3.0, 10.0}, StatisticUtils.determineMedianDoubles(Arrays.asList(
+                new double[]{-2.0, 10.0}, new double[]{-4.0, 30.0}, new double[]{-3.0, 5.0})), DELTA);
+        assertArrayEquals(new double[]{-2.5, 20.0}, StatisticUtils.determineMedianDoubles(Arrays.asList(
+                new double[]{-2.0, 10.0}, new double[]{-4.0, 30.0}, new double[]{-3.0, 40.0},
+                new double[]{-1.0, 5.0})), DELTA);
+    }
+
+    @Test
+    public void determineWelchTTestPValues() {
+        List<double[]> sampleList = Arrays.asList(new double[]{-2.0}, new double[]{-4.0}, new double[]{-3.0});
+        assertNull(StatisticUtils.determineWelchTTestPValues(sampleList,
+                Collections.singletonList(new double[]{-3.0})));
+        assertArrayEquals(new double[]{1.0}, StatisticUtils.determineWelchTTestPValues(sampleList, sampleList), DELTA);
+        List<double[]> farSampleList = Arrays.asList(new double[]{-102.0}, new double[]{-104.0}, new double[]{-103.0});
+        assertTrue(StatisticUtils.determineWelchTTestPValues(sampleList, farSampleList)[0] < 0.001);
+        List<double[]> nearSampleList = Arrays.asList(new double[]{-1.0}, new double[]{-5.0}, new double[]{-3.5});
+        assertTrue(StatisticUtils.determineWelchTTestPValues(sampleList, nearSampleList)[0] > 0.5);
+        List<double[]> constantSampleList = Arrays.asList(new double[]{-3.0}, new double[]{-3.0});
+        List<double[]> otherConstantSampleList = Arrays.asList(new double[]{-4.0}, new double[]{-4.0});
+        assertArrayEquals(new double[]{0.0}, StatisticUtils.determineWelchTTestPValues(
+                constantSampleList, otherConstantSampleList), DELTA);
+    }
+
     @Test
     public void getStandardDeviationString() throws Exception {
         assertEquals(null, StatisticUtils.getStandardDeviationString(null));
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.movetypeevaluationtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.decider.MoveEvaluationProfiler;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class MoveTypeEvaluationTimeSubSingleStatisticTest {
+
+    private static final String CHANGE_MOVE_TYPE = "ChangeMove(TestdataEntity.value)";
+    private static final String COMPOSITE_MOVE_TYPE
+            = "CompositeMove(* ChangeMove(TestdataEntity.value), * SwapMove(TestdataEntity.value))";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void profiler() {
+        MoveTypeEvaluationTimeSubSingleStatistic<TestdataSolution> statistic
+                = new MoveTypeEvaluationTimeSubSingleStatistic<>(mock(SubSingleBenchmarkResult.class));
+        statistic.initPointList();
+        DefaultSolver<TestdataSolution> solver = mock(DefaultSolver.class);
+        statistic.open(solver);
+        ArgumentCaptor<MoveEvaluationProfiler> profilerCaptor = ArgumentCaptor.forClass(MoveEvaluationProfiler.class);
+        verify(solver).setMoveEvaluationProfiler(profilerCaptor.capture());
+        MoveEvaluationProfiler profiler = profilerCaptor.getValue();
+
+        int sampledCount = 0;
+        for (int i = 0; i < MoveTypeEvaluationTimeSubSingleStatistic.SAMPLING_INTERVAL * 3; i++) {
+            if (profiler.isNextMoveSampled()) {
+                sampledCount++;
+            }
+        }
+        assertEquals(3, sampledCount);
+        Move changeMove = mockMove(CHANGE_MOVE_TYPE);
+        Move compositeMove = mockMove(COMPOSITE_MOVE_TYPE);
+        profiler.moveEvaluated(changeMove, 1L, 2L, 3L, 4L, 5L);
+        profiler.moveEvaluated(compositeMove, 100L, 200L, 300L, 400L, 500L);
+        profiler.moveEvaluated(changeMove, 10L, 20L, 30L, 40L, 50L);
+        statistic.close(solver);
+        verify(solver).setMoveEvaluationProfiler(null);
+
+        List<MoveTypeEvaluationTimeStatisticPoint> pointList = statistic.getPointList();
+        assertEquals(2, pointList.size());
+        assertPoint(pointList.get(0), CHANGE_MOVE_TYPE, 2L, 11L, 22L, 33L, 44L, 55L);
+        assertEquals(165L, pointList.get(0).getTotalTimeNanos());
+        // A CompositeMove is measured as a whole, not per child move
+        assertPoint(pointList.get(1), COMPOSITE_MOVE_TYPE, 1L, 100L, 200L, 300L, 400L, 500L);
+
+        // Reopening forgets the measurements of the previous solver run
+        statistic.initPointList();
+        statistic.open(solver);
+        statistic.close(solver);
+        assertEquals(0, statistic.getPointList().size());
+    }
+
+    @Test
+    public void hibernateAndUnhibernatePointList() throws IOException {
+        File resultDirectory = temporaryFolder.newFolder();
+        SubSingleBenchmarkResult subSingleBenchmarkResult = mock(SubSingleBenchmarkResult.class);
+        when(subSingleBenchmarkResult.getResultDirectory()).thenReturn(resultDirectory);
+        SingleBenchmarkResult singleBenchmarkResult = mock(SingleBenchmarkResult.class);
+        when(subSingleBenchmarkResult.getSingleBenchmarkResult()).thenReturn(singleBenchmarkResult);
+        when(singleBenchmarkResult.getSolverBenchmarkResult()).thenReturn(mock(SolverBenchmarkResult.class));
+        MoveTypeEvaluationTimeSubSingleStatistic<TestdataSolution> statistic
+                = new MoveTypeEvaluationTimeSubSingleStatistic<>(subSingleBenchmarkResult);
+        statistic.initPointList();
+        statistic.getPointList().add(new MoveTypeEvaluationTimeStatisticPoint(CHANGE_MOVE_TYPE,
+                2L, 11L, 22L, 33L, 44L, 55L));
+        statistic.getPointList().add(new MoveTypeEvaluationTimeStatisticPoint(COMPOSITE_MOVE_TYPE,
+                1L, 100L, 200L, 300L, 400L, 500L));
+
+        statistic.hibernatePointList();
+        assertNull(statistic.getPointList());
+        assertTrue(statistic.getCsvFile().exists());
+        statistic.unhibernatePointList();
+        List<MoveTypeEvaluationTimeStatisticPoint> pointList = statistic.getPointList();
+        assertEquals(2, pointList.size());
+        assertPoint(pointList.get(0), CHANGE_MOVE_TYPE, 2L, 11L, 22L, 33L, 44L, 55L);
+        assertPoint(pointList.get(1), COMPOSITE_MOVE_TYPE, 1L, 100L, 200L, 300L, 400L, 500L);
+    }
+
+    private static Move mockMove(String moveType) {
+        Move move = mock(Move.class);
+        when(move.getSimpleMoveTypeDescription()).thenReturn(moveType);
+        return move;
+    }
+
+    private static void assertPoint(MoveTypeEvaluationTimeStatisticPoint point, String moveType,
+            long sampledEvaluationCount, long selectionTimeNanos, long doMoveTimeNanos,
+            long variableListenerTimeNanos, long scoreCalculationTimeNanos, long undoMoveTimeNanos) {
+        assertEquals(moveType, point.getMoveType());
+        assertEquals(sampledEvaluationCount, point.getSampledEvaluationCount());
+        assertEquals(selectionTimeNanos, point.getSelectionTimeNanos());
+        assertEquals(doMoveTimeNanos, point.getDoMoveTimeNanos());
+        assertEquals(variableListenerTimeNanos, point.getVariableListenerTimeNanos());
+        assertEquals(scoreCalculationTimeNanos, point.getScoreCalculationTimeNanos());
+        assertEquals(undoMoveTimeNanos, point.getUndoMoveTimeNanos());
+    }
+
+}
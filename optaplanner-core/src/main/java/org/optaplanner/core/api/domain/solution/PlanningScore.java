@@ -21,6 +21,7 @@ import java.lang.annotation.Target;
 
 import org.optaplanner.core.api.score.AbstractBendableScore;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoftscaledlong.HardSoftScaledLongScore;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
@@ -59,6 +60,17 @@ public @interface PlanningScore {
     /** Workaround for annotation limitation in {@link #bendableHardLevelsSize()} and {@link #bendableSoftLevelsSize()}. */
     int NO_LEVEL_SIZE = -1;
 
+    /**
+     * Required for scaled long scores.
+     * <p>
+     * For example with a scale of 2, a score level of {@code -1.25} is stored as the unscaled long {@code -125}.
+     * @return 0 or higher if the {@link Score} is a {@link HardSoftScaledLongScore}, not used otherwise
+     */
+    int scale() default NO_SCALE;
+
+    /** Workaround for annotation limitation in {@link #scale()}. */
+    int NO_SCALE = -1;
+
     /**
      * Overrides the default determined {@link ScoreDefinition} to implement a custom one.
      * <p>
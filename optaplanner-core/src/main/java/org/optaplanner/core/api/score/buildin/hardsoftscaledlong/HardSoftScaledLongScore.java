@@ -0,0 +1,373 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.buildin.hardsoftscaledlong;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.optaplanner.core.api.score.AbstractScore;
+import org.optaplanner.core.api.score.FeasibilityScore;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+
+/**
+ * This {@link Score} is based on 2 levels of fixed scale decimal constraints: hard and soft.
+ * Hard constraints have priority over soft constraints.
+ * <p>
+ * Each level is stored as an unscaled long with a shared {@link #getScale() scale} (the number of decimals),
+ * so adding, subtracting and comparing 2 scores of the same scale doesn't create any {@link BigDecimal} instances.
+ * It's a faster alternative to {@link HardSoftBigDecimalScore} if the number of decimals is known up front.
+ * Operations that overflow a long throw an {@link ArithmeticException}:
+ * use {@link HardSoftBigDecimalScore} for such magnitudes instead.
+ * <p>
+ * This class is immutable.
+ * @see Score
+ */
+public final class HardSoftScaledLongScore extends AbstractScore<HardSoftScaledLongScore>
+        implements FeasibilityScore<HardSoftScaledLongScore> {
+
+    private static final String HARD_LABEL = "hard";
+    private static final String SOFT_LABEL = "soft";
+
+    /**
+     * @param scoreString never null
+     * @return never null, with the highest number of decimals of its levels as scale
+     */
+    public static HardSoftScaledLongScore parseScore(String scoreString) {
+        String[] scoreTokens = parseScoreTokens(HardSoftScaledLongScore.class, scoreString, HARD_LABEL, SOFT_LABEL);
+        int initScore = parseInitScore(HardSoftScaledLongScore.class, scoreString, scoreTokens[0]);
+        BigDecimal hardScore = parseLevelAsBigDecimal(HardSoftScaledLongScore.class, scoreString, scoreTokens[1]);
+        BigDecimal softScore = parseLevelAsBigDecimal(HardSoftScaledLongScore.class, scoreString, scoreTokens[2]);
+        return valueOf(initScore, hardScore, softScore);
+    }
+
+    /**
+     * @param initScore see {@link Score#getInitScore()}
+     * @param hardScore never null
+     * @param softScore never null
+     * @return never null, with the highest {@link BigDecimal#scale()} of both levels as scale (but at least 0)
+     */
+    public static HardSoftScaledLongScore valueOf(int initScore, BigDecimal hardScore, BigDecimal softScore) {
+        int scale = Math.max(0, Math.max(hardScore.scale(), softScore.scale()));
+        return new HardSoftScaledLongScore(initScore,
+                toUnscaledLong(hardScore, scale), toUnscaledLong(softScore, scale), scale);
+    }
+
+    public static HardSoftScaledLongScore valueOfInitialized(BigDecimal hardScore, BigDecimal softScore) {
+        return valueOf(0, hardScore, softScore);
+    }
+
+    /**
+     * @param initScore see {@link Score#getInitScore()}
+     * @param unscaledHardScore the hard score multiplied by 10 to the power of the scale
+     * @param unscaledSoftScore the soft score multiplied by 10 to the power of the scale
+     * @param scale {@code >= 0}, the number of decimals
+     * @return never null
+     */
+    public static HardSoftScaledLongScore valueOfUnscaled(int initScore, long unscaledHardScore, long unscaledSoftScore,
+            int scale) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("The scale (" + scale + ") must be positive or zero.");
+        }
+        return new HardSoftScaledLongScore(initScore, unscaledHardScore, unscaledSoftScore, scale);
+    }
+
+    private static long toUnscaledLong(BigDecimal levelScore, int scale) {
+        // Fails fast if the levelScore has more decimals than the scale or if it doesn't fit in a long
+        return levelScore.setScale(scale).unscaledValue().longValueExact();
+    }
+
+    // ************************************************************************
+    // Fields
+    // ************************************************************************
+
+    private final long unscaledHardScore;
+    private final long unscaledSoftScore;
+    private final int scale;
+
+    /**
+     * Private default constructor for default marshalling/unmarshalling of unknown frameworks that use reflection.
+     * Such integration is always inferior to the specialized integration modules, such as
+     * optaplanner-persistence-jpa, optaplanner-persistence-xstream, optaplanner-persistence-jaxb, ...
+     */
+    @SuppressWarnings("unused")
+    private HardSoftScaledLongScore() {
+        super(Integer.MIN_VALUE);
+        unscaledHardScore = Long.MIN_VALUE;
+        unscaledSoftScore = Long.MIN_VALUE;
+        scale = 0;
+    }
+
+    private HardSoftScaledLongScore(int initScore, long unscaledHardScore, long unscaledSoftScore, int scale) {
+        super(initScore);
+        this.unscaledHardScore = unscaledHardScore;
+        this.unscaledSoftScore = unscaledSoftScore;
+        this.scale = scale;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of decimals of every level
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return the {@link #getHardScore() hard score} multiplied by 10 to the power of the {@link #getScale() scale}
+     */
+    public long getUnscaledHardScore() {
+        return unscaledHardScore;
+    }
+
+    /**
+     * @return the {@link #getSoftScore() soft score} multiplied by 10 to the power of the {@link #getScale() scale}
+     */
+    public long getUnscaledSoftScore() {
+        return unscaledSoftScore;
+    }
+
+    /**
+     * The total of the broken negative hard constraints and fulfilled positive hard constraints.
+     * Their weight is included in the total.
+     * The hard score is usually a negative number because most use cases only have negative constraints.
+     * <p>
+     * This creates a new {@link BigDecimal}: prefer {@link #getUnscaledHardScore()} in hot code.
+     * @return higher is better, usually negative, 0 if no hard constraints are broken/fulfilled
+     */
+    public BigDecimal getHardScore() {
+        return BigDecimal.valueOf(unscaledHardScore, scale);
+    }
+
+    /**
+     * The total of the broken negative soft constraints and fulfilled positive soft constraints.
+     * Their weight is included in the total.
+     * The soft score is usually a negative number because most use cases only have negative constraints.
+     * <p>
+     * In a normal score comparison, the soft score is irrelevant if the 2 scores don't have the same hard score.
+     * <p>
+     * This creates a new {@link BigDecimal}: prefer {@link #getUnscaledSoftScore()} in hot code.
+     * @return higher is better, usually negative, 0 if no soft constraints are broken/fulfilled
+     */
+    public BigDecimal getSoftScore() {
+        return BigDecimal.valueOf(unscaledSoftScore, scale);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param newScale {@code >= 0}
+     * @return never null, this instance if the scale is unchanged
+     * @throws ArithmeticException if a level has more decimals than the newScale or if it overflows a long
+     */
+    public HardSoftScaledLongScore withScale(int newScale) {
+        if (newScale == scale) {
+            return this;
+        }
+        return valueOfUnscaled(initScore,
+                toUnscaledLong(getHardScore(), newScale), toUnscaledLong(getSoftScore(), newScale), newScale);
+    }
+
+    @Override
+    public HardSoftScaledLongScore toInitializedScore() {
+        return initScore == 0 ? this : new HardSoftScaledLongScore(0, unscaledHardScore, unscaledSoftScore, scale);
+    }
+
+    @Override
+    public boolean isFeasible() {
+        return initScore >= 0 && unscaledHardScore >= 0L;
+    }
+
+    @Override
+    public HardSoftScaledLongScore add(HardSoftScaledLongScore augment) {
+        if (scale != augment.getScale()) {
+            int commonScale = Math.max(scale, augment.getScale());
+            return withScale(commonScale).add(augment.withScale(commonScale));
+        }
+        return new HardSoftScaledLongScore(
+                initScore + augment.getInitScore(),
+                Math.addExact(unscaledHardScore, augment.getUnscaledHardScore()),
+                Math.addExact(unscaledSoftScore, augment.getUnscaledSoftScore()),
+                scale);
+    }
+
+    @Override
+    public HardSoftScaledLongScore subtract(HardSoftScaledLongScore subtrahend) {
+        if (scale != subtrahend.getScale()) {
+            int commonScale = Math.max(scale, subtrahend.getScale());
+            return withScale(commonScale).subtract(subtrahend.withScale(commonScale));
+        }
+        return new HardSoftScaledLongScore(
+                initScore - subtrahend.getInitScore(),
+                Math.subtractExact(unscaledHardScore, subtrahend.getUnscaledHardScore()),
+                Math.subtractExact(unscaledSoftScore, subtrahend.getUnscaledSoftScore()),
+                scale);
+    }
+
+    @Override
+    public HardSoftScaledLongScore multiply(double multiplicand) {
+        // Intentionally not taken "new BigDecimal(multiplicand, MathContext.UNLIMITED)"
+        // because together with the floor rounding it gives unwanted behaviour
+        BigDecimal multiplicandBigDecimal = BigDecimal.valueOf(multiplicand);
+        // The (unspecified) scale/precision of the multiplicand should have no impact on the returned scale/precision
+        return new HardSoftScaledLongScore(
+                (int) Math.floor(initScore * multiplicand),
+                toUnscaledLong(getHardScore().multiply(multiplicandBigDecimal).setScale(scale, RoundingMode.FLOOR),
+                        scale),
+                toUnscaledLong(getSoftScore().multiply(multiplicandBigDecimal).setScale(scale, RoundingMode.FLOOR),
+                        scale),
+                scale);
+    }
+
+    @Override
+    public HardSoftScaledLongScore divide(double divisor) {
+        // Intentionally not taken "new BigDecimal(multiplicand, MathContext.UNLIMITED)"
+        // because together with the floor rounding it gives unwanted behaviour
+        BigDecimal divisorBigDecimal = BigDecimal.valueOf(divisor);
+        // The (unspecified) scale/precision of the divisor should have no impact on the returned scale/precision
+        return new HardSoftScaledLongScore(
+                (int) Math.floor(initScore / divisor),
+                toUnscaledLong(getHardScore().divide(divisorBigDecimal, scale, RoundingMode.FLOOR), scale),
+                toUnscaledLong(getSoftScore().divide(divisorBigDecimal, scale, RoundingMode.FLOOR), scale),
+                scale);
+    }
+
+    /**
+     * An integer exponent is calculated exactly (before the floor rounding to {@link #getScale()}).
+     * A non integer exponent is calculated in double precision,
+     * because none of the normal Java libraries support {@code BigDecimal.pow(BigDecimal)}.
+     * @param exponent any finite number
+     * @return never null
+     * @throws ArithmeticException if a level has no real, finite result (for example a negative level
+     * to a non integer exponent or a zero level to a negative exponent) or if the result overflows a long
+     */
+    @Override
+    public HardSoftScaledLongScore power(double exponent) {
+        return new HardSoftScaledLongScore(
+                (int) Math.floor(Math.pow(initScore, exponent)),
+                toUnscaledLong(powerLevel(getHardScore(), exponent), scale),
+                toUnscaledLong(powerLevel(getSoftScore(), exponent), scale),
+                scale);
+    }
+
+    private BigDecimal powerLevel(BigDecimal levelScore, double exponent) {
+        if (exponent == Math.rint(exponent) && Math.abs(exponent) <= 999999999.0) {
+            int integerExponent = (int) exponent;
+            if (integerExponent >= 0) {
+                return levelScore.pow(integerExponent).setScale(scale, RoundingMode.FLOOR);
+            }
+            if (levelScore.signum() == 0) {
+                throw new ArithmeticException("The levelScore (" + levelScore
+                        + ") cannot be raised to a negative exponent (" + exponent + ").");
+            }
+            return BigDecimal.ONE.divide(levelScore.pow(-integerExponent), scale, RoundingMode.FLOOR);
+        }
+        double result = Math.pow(levelScore.doubleValue(), exponent);
+        if (Double.isNaN(result) || Double.isInfinite(result)) {
+            throw new ArithmeticException("The levelScore (" + levelScore
+                    + ") raised to the exponent (" + exponent + ") has no finite real result (" + result + ").");
+        }
+        // Intentionally not taken "new BigDecimal(result, MathContext.UNLIMITED)"
+        // because together with the floor rounding it gives unwanted behaviour
+        return BigDecimal.valueOf(result).setScale(scale, RoundingMode.FLOOR);
+    }
+
+    @Override
+    public HardSoftScaledLongScore negate() {
+        return new HardSoftScaledLongScore(-initScore,
+                Math.negateExact(unscaledHardScore), Math.negateExact(unscaledSoftScore), scale);
+    }
+
+    @Override
+    public Number[] toLevelNumbers() {
+        return new Number[]{getHardScore(), getSoftScore()};
+    }
+
+    /**
+     * Consistent with {@link #compareTo(HardSoftScaledLongScore)}:
+     * 2 scores with a different {@link #getScale()} are equal if their levels are numerically equal
+     * (so {@code 1.0hard/0.0soft} equals {@code 1.00hard/0.00soft}).
+     * @param o sometimes null
+     * @return true if the scores are numerically equal
+     */
+    public boolean equals(Object o) {
+        // A direct implementation (instead of EqualsBuilder) to avoid dependencies
+        if (this == o) {
+            return true;
+        } else if (o instanceof HardSoftScaledLongScore) {
+            HardSoftScaledLongScore other = (HardSoftScaledLongScore) o;
+            if (scale != other.getScale()) {
+                return compareTo(other) == 0;
+            }
+            return initScore == other.getInitScore()
+                    && unscaledHardScore == other.getUnscaledHardScore()
+                    && unscaledSoftScore == other.getUnscaledSoftScore();
+        } else {
+            return false;
+        }
+    }
+
+    public int hashCode() {
+        // A direct implementation (instead of HashCodeBuilder) to avoid dependencies
+        // Strip the trailing zeros shared by both levels, so numerically equal scores of another scale match
+        long normalizedHardScore = unscaledHardScore;
+        long normalizedSoftScore = unscaledSoftScore;
+        int normalizedScale = scale;
+        while (normalizedScale > 0 && normalizedHardScore % 10L == 0L && normalizedSoftScore % 10L == 0L) {
+            normalizedHardScore /= 10L;
+            normalizedSoftScore /= 10L;
+            normalizedScale--;
+        }
+        return (((((17 * 37)
+                + initScore)) * 37
+                + Long.valueOf(normalizedHardScore).hashCode()) * 37
+                + Long.valueOf(normalizedSoftScore).hashCode()) * 37
+                + normalizedScale;
+    }
+
+    @Override
+    public int compareTo(HardSoftScaledLongScore other) {
+        // A direct implementation (instead of CompareToBuilder) to avoid dependencies
+        if (initScore != other.getInitScore()) {
+            return initScore < other.getInitScore() ? -1 : 1;
+        } else if (scale != other.getScale()) {
+            int hardScoreComparison = getHardScore().compareTo(other.getHardScore());
+            if (hardScoreComparison != 0) {
+                return hardScoreComparison;
+            } else {
+                return getSoftScore().compareTo(other.getSoftScore());
+            }
+        } else if (unscaledHardScore != other.getUnscaledHardScore()) {
+            return unscaledHardScore < other.getUnscaledHardScore() ? -1 : 1;
+        } else {
+            return Long.compare(unscaledSoftScore, other.getUnscaledSoftScore());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getInitPrefix() + getHardScore().toPlainString() + HARD_LABEL
+                + "/" + getSoftScore().toPlainString() + SOFT_LABEL;
+    }
+
+    @Override
+    public boolean isCompatibleArithmeticArgument(Score otherScore) {
+        return otherScore instanceof HardSoftScaledLongScore;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.buildin.hardsoftscaledlong;
+
+import java.math.BigDecimal;
+
+import org.kie.api.runtime.rule.RuleContext;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.holder.AbstractScoreHolder;
+
+/**
+ * The unscaled weights are multiplied by 10 to the power of the {@link #getScale() scale},
+ * so the constraint matches also hold unscaled weights.
+ * @see HardSoftScaledLongScore
+ */
+public class HardSoftScaledLongScoreHolder extends AbstractScoreHolder {
+
+    protected final int scale;
+
+    protected long unscaledHardScore;
+    protected long unscaledSoftScore;
+
+    public HardSoftScaledLongScoreHolder(boolean constraintMatchEnabled, int scale) {
+        super(constraintMatchEnabled);
+        this.scale = scale;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public long getUnscaledHardScore() {
+        return unscaledHardScore;
+    }
+
+    public long getUnscaledSoftScore() {
+        return unscaledSoftScore;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param kcontext never null, the magic variable in DRL
+     * @param unscaledWeight higher is better, negative for a penalty, positive for a reward,
+     * multiplied by 10 to the power of the {@link #getScale() scale}
+     */
+    public void addHardConstraintMatch(RuleContext kcontext, final long unscaledWeight) {
+        unscaledHardScore += unscaledWeight;
+        registerLongConstraintMatch(kcontext, 0, unscaledWeight, new LongConstraintUndoListener() {
+            @Override
+            public void undo() {
+                unscaledHardScore -= unscaledWeight;
+            }
+        });
+    }
+
+    /**
+     * @param kcontext never null, the magic variable in DRL
+     * @param weight never null, higher is better, negative for a penalty, positive for a reward,
+     * must not have more decimals than the {@link #getScale() scale}
+     */
+    public void addHardConstraintMatch(RuleContext kcontext, BigDecimal weight) {
+        addHardConstraintMatch(kcontext, toUnscaledWeight(weight));
+    }
+
+    /**
+     * @param kcontext never null, the magic variable in DRL
+     * @param unscaledWeight higher is better, negative for a penalty, positive for a reward,
+     * multiplied by 10 to the power of the {@link #getScale() scale}
+     */
+    public void addSoftConstraintMatch(RuleContext kcontext, final long unscaledWeight) {
+        unscaledSoftScore += unscaledWeight;
+        registerLongConstraintMatch(kcontext, 1, unscaledWeight, new LongConstraintUndoListener() {
+            @Override
+            public void undo() {
+                unscaledSoftScore -= unscaledWeight;
+            }
+        });
+    }
+
+    /**
+     * @param kcontext never null, the magic variable in DRL
+     * @param weight never null, higher is better, negative for a penalty, positive for a reward,
+     * must not have more decimals than the {@link #getScale() scale}
+     */
+    public void addSoftConstraintMatch(RuleContext kcontext, BigDecimal weight) {
+        addSoftConstraintMatch(kcontext, toUnscaledWeight(weight));
+    }
+
+    protected long toUnscaledWeight(BigDecimal weight) {
+        try {
+            return weight.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The weight (" + weight
+                    + ") has more decimals than the scale (" + scale + ") or doesn't fit in a long.", e);
+        }
+    }
+
+    @Override
+    public Score extractScore(int initScore) {
+        return HardSoftScaledLongScore.valueOfUnscaled(initScore, unscaledHardScore, unscaledSoftScore, scale);
+    }
+
+}
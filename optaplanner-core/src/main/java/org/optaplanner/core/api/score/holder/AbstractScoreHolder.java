@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +49,12 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
 
     protected final boolean constraintMatchEnabled;
     protected final Map<List<Object>, ConstraintMatchTotal> constraintMatchTotalMap;
+    /**
+     * Resolves a {@link Rule} instance to its {@link ConstraintMatchTotal}s, indexed by score level,
+     * so the {@link #constraintMatchTotalMap} key only needs to be built once per rule and score level.
+     * Transient because a {@link Rule} isn't {@link Serializable}: it is lazily rebuilt after deserialization.
+     */
+    protected transient Map<Rule, ConstraintMatchTotal[]> ruleToConstraintMatchTotalsMap = null;
 
     protected AbstractScoreHolder(boolean constraintMatchEnabled) {
         this.constraintMatchEnabled = constraintMatchEnabled;
@@ -101,16 +108,7 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
     }
 
     private IntConstraintMatchTotal findIntConstraintMatchTotal(RuleContext kcontext, int scoreLevel) {
-        Rule rule = kcontext.getRule();
-        String constraintPackage = rule.getPackageName();
-        String constraintName = rule.getName();
-        List<Object> key = Arrays.<Object>asList(constraintPackage, constraintName, scoreLevel);
-        IntConstraintMatchTotal matchTotal = (IntConstraintMatchTotal) constraintMatchTotalMap.get(key);
-        if (matchTotal == null) {
-            matchTotal = new IntConstraintMatchTotal(constraintPackage, constraintName, scoreLevel);
-            constraintMatchTotalMap.put(key, matchTotal);
-        }
-        return matchTotal;
+        return (IntConstraintMatchTotal) findConstraintMatchTotal(kcontext, scoreLevel, IntConstraintMatchTotal::new);
     }
 
     protected void registerLongConstraintMatch(RuleContext kcontext, int scoreLevel, long weight,
@@ -141,16 +139,7 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
     }
 
     private LongConstraintMatchTotal findLongConstraintMatchTotal(RuleContext kcontext, int scoreLevel) {
-        Rule rule = kcontext.getRule();
-        String constraintPackage = rule.getPackageName();
-        String constraintName = rule.getName();
-        List<Object> key = Arrays.<Object>asList(constraintPackage, constraintName, scoreLevel);
-        LongConstraintMatchTotal matchTotal = (LongConstraintMatchTotal) constraintMatchTotalMap.get(key);
-        if (matchTotal == null) {
-            matchTotal = new LongConstraintMatchTotal(constraintPackage, constraintName, scoreLevel);
-            constraintMatchTotalMap.put(key, matchTotal);
-        }
-        return matchTotal;
+        return (LongConstraintMatchTotal) findConstraintMatchTotal(kcontext, scoreLevel, LongConstraintMatchTotal::new);
     }
 
     protected void registerDoubleConstraintMatch(RuleContext kcontext, int scoreLevel, double weight,
@@ -181,16 +170,8 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
     }
 
     private DoubleConstraintMatchTotal findDoubleConstraintMatchTotal(RuleContext kcontext, int scoreLevel) {
-        Rule rule = kcontext.getRule();
-        String constraintPackage = rule.getPackageName();
-        String constraintName = rule.getName();
-        List<Object> key = Arrays.<Object>asList(constraintPackage, constraintName, scoreLevel);
-        DoubleConstraintMatchTotal matchTotal = (DoubleConstraintMatchTotal) constraintMatchTotalMap.get(key);
-        if (matchTotal == null) {
-            matchTotal = new DoubleConstraintMatchTotal(constraintPackage, constraintName, scoreLevel);
-            constraintMatchTotalMap.put(key, matchTotal);
-        }
-        return matchTotal;
+        return (DoubleConstraintMatchTotal) findConstraintMatchTotal(kcontext, scoreLevel,
+                DoubleConstraintMatchTotal::new);
     }
 
     protected void registerBigDecimalConstraintMatch(RuleContext kcontext, int scoreLevel, BigDecimal weight,
@@ -221,27 +202,71 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
     }
 
     private BigDecimalConstraintMatchTotal findBigDecimalConstraintMatchTotal(RuleContext kcontext, int scoreLevel) {
+        return (BigDecimalConstraintMatchTotal) findConstraintMatchTotal(kcontext, scoreLevel,
+                BigDecimalConstraintMatchTotal::new);
+    }
+
+    private ConstraintMatchTotal findConstraintMatchTotal(RuleContext kcontext, int scoreLevel,
+            ConstraintMatchTotalFactory constraintMatchTotalFactory) {
+        if (ruleToConstraintMatchTotalsMap == null) {
+            ruleToConstraintMatchTotalsMap = new IdentityHashMap<>();
+        }
         Rule rule = kcontext.getRule();
-        String constraintPackage = rule.getPackageName();
-        String constraintName = rule.getName();
-        List<Object> key = Arrays.<Object>asList(constraintPackage, constraintName, scoreLevel);
-        BigDecimalConstraintMatchTotal matchTotal = (BigDecimalConstraintMatchTotal) constraintMatchTotalMap.get(key);
+        ConstraintMatchTotal[] matchTotals = ruleToConstraintMatchTotalsMap.get(rule);
+        if (matchTotals == null) {
+            matchTotals = new ConstraintMatchTotal[scoreLevel + 1];
+            ruleToConstraintMatchTotalsMap.put(rule, matchTotals);
+        } else if (scoreLevel >= matchTotals.length) {
+            matchTotals = Arrays.copyOf(matchTotals, scoreLevel + 1);
+            ruleToConstraintMatchTotalsMap.put(rule, matchTotals);
+        }
+        ConstraintMatchTotal matchTotal = matchTotals[scoreLevel];
         if (matchTotal == null) {
-            matchTotal = new BigDecimalConstraintMatchTotal(constraintPackage, constraintName, scoreLevel);
-            constraintMatchTotalMap.put(key, matchTotal);
+            // Only once per rule instance and score level
+            String constraintPackage = rule.getPackageName();
+            String constraintName = rule.getName();
+            List<Object> key = Arrays.<Object>asList(constraintPackage, constraintName, scoreLevel);
+            matchTotal = constraintMatchTotalMap.get(key);
+            if (matchTotal == null) {
+                matchTotal = constraintMatchTotalFactory.create(constraintPackage, constraintName, scoreLevel);
+                constraintMatchTotalMap.put(key, matchTotal);
+            }
+            matchTotals[scoreLevel] = matchTotal;
         }
         return matchTotal;
     }
 
+    private interface ConstraintMatchTotalFactory {
+
+        ConstraintMatchTotal create(String constraintPackage, String constraintName, int scoreLevel);
+
+    }
+
     private void putConstraintUndoListener(RuleContext kcontext, int scoreLevel, ConstraintUndoListener constraintUndoListener) {
         AgendaItem agendaItem = (AgendaItem) kcontext.getMatch();
         ActivationUnMatchListener activationUnMatchListener = agendaItem.getActivationUnMatchListener();
-        if (activationUnMatchListener != null) {
+        if (activationUnMatchListener == null) {
+            // Most score rules only use 1 score level, so avoid the Map of the multi level listener
+            agendaItem.setActivationUnMatchListener(
+                    new SingleLevelActivationUnMatchListener(scoreLevel, constraintUndoListener));
+        } else if (activationUnMatchListener instanceof SingleLevelActivationUnMatchListener) {
+            SingleLevelActivationUnMatchListener singleLevelActivationUnMatchListener
+                    = (SingleLevelActivationUnMatchListener) activationUnMatchListener;
+            if (singleLevelActivationUnMatchListener.scoreLevel == scoreLevel) {
+                singleLevelActivationUnMatchListener.overwriteMatch(constraintUndoListener);
+            } else {
+                MultiLevelActivationUnMatchListener multiLevelActivationUnMatchListener
+                        = new MultiLevelActivationUnMatchListener(scoreLevel, constraintUndoListener);
+                if (singleLevelActivationUnMatchListener.constraintUndoListener != null) {
+                    multiLevelActivationUnMatchListener.scoreLevelToConstraintUndoListenerMap.put(
+                            singleLevelActivationUnMatchListener.scoreLevel,
+                            singleLevelActivationUnMatchListener.constraintUndoListener);
+                }
+                agendaItem.setActivationUnMatchListener(multiLevelActivationUnMatchListener);
+            }
+        } else {
             MultiLevelActivationUnMatchListener multiLevelActivationUnMatchListener = (MultiLevelActivationUnMatchListener) activationUnMatchListener;
             multiLevelActivationUnMatchListener.overwriteMatch(scoreLevel, constraintUndoListener);
-        } else {
-            MultiLevelActivationUnMatchListener multiLevelActivationUnMatchListener = new MultiLevelActivationUnMatchListener(scoreLevel, constraintUndoListener);
-            agendaItem.setActivationUnMatchListener(multiLevelActivationUnMatchListener);
         }
     }
 
@@ -260,6 +285,34 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
 
     }
 
+    private static class SingleLevelActivationUnMatchListener implements ActivationUnMatchListener {
+
+        private final int scoreLevel;
+        private ConstraintUndoListener constraintUndoListener;
+
+        public SingleLevelActivationUnMatchListener(int scoreLevel, ConstraintUndoListener constraintUndoListener) {
+            this.scoreLevel = scoreLevel;
+            this.constraintUndoListener = constraintUndoListener;
+        }
+
+        @Override
+        public final void unMatch(RuleRuntime ruleRuntime, Match match) {
+            if (constraintUndoListener != null) {
+                constraintUndoListener.unMatch();
+                constraintUndoListener = null;
+            }
+        }
+
+        public void overwriteMatch(ConstraintUndoListener constraintUndoListener) {
+            ConstraintUndoListener oldConstraintUndoListener = this.constraintUndoListener;
+            this.constraintUndoListener = constraintUndoListener;
+            if (oldConstraintUndoListener != null) {
+                oldConstraintUndoListener.unMatch();
+            }
+        }
+
+    }
+
     private static class MultiLevelActivationUnMatchListener implements ActivationUnMatchListener {
 
         private static final int INITIAL_MAP_CAPACITY = 2;
@@ -60,6 +60,7 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
     protected NodeExplorationType nodeExplorationType = null;
     protected EntitySorterManner entitySorterManner = null;
     protected ValueSorterManner valueSorterManner = null;
+    protected Integer expandableNodeCountLimit = null;
 
     @XStreamAlias("entitySelector")
     protected EntitySelectorConfig entitySelectorConfig = null;
@@ -98,6 +99,14 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
         this.valueSorterManner = valueSorterManner;
     }
 
+    public Integer getExpandableNodeCountLimit() {
+        return expandableNodeCountLimit;
+    }
+
+    public void setExpandableNodeCountLimit(Integer expandableNodeCountLimit) {
+        this.expandableNodeCountLimit = expandableNodeCountLimit;
+    }
+
     public EntitySelectorConfig getEntitySelectorConfig() {
         return entitySelectorConfig;
     }
@@ -146,6 +155,15 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
             nodeExplorationType_ = defaultIfNull(nodeExplorationType, NodeExplorationType.DEPTH_FIRST);
         }
         phase.setNodeComparator(nodeExplorationType_.buildNodeComparator(scoreBounderEnabled));
+        if (expandableNodeCountLimit != null) {
+            if (expandableNodeCountLimit < 1) {
+                throw new IllegalArgumentException("The phaseConfig (" + this
+                        + ") has an expandableNodeCountLimit (" + expandableNodeCountLimit
+                        + ") which is lower than 1.");
+            }
+            phase.setExpandableNodeCountLimit(expandableNodeCountLimit);
+            phase.setDiscardNodeComparator(nodeExplorationType_.buildDiscardNodeComparator(scoreBounderEnabled));
+        }
         EntitySelectorConfig entitySelectorConfig_ = buildEntitySelectorConfig(phaseConfigPolicy);
         EntitySelector entitySelector = entitySelectorConfig_.buildEntitySelector(phaseConfigPolicy,
                 SelectionCacheType.PHASE, SelectionOrder.ORIGINAL);
@@ -277,6 +295,8 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
                 inheritedConfig.getEntitySorterManner());
         valueSorterManner = ConfigUtils.inheritOverwritableProperty(valueSorterManner,
                 inheritedConfig.getValueSorterManner());
+        expandableNodeCountLimit = ConfigUtils.inheritOverwritableProperty(expandableNodeCountLimit,
+                inheritedConfig.getExpandableNodeCountLimit());
         entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
         moveSelectorConfig = ConfigUtils.<MoveSelectorConfig>inheritConfig(moveSelectorConfig, inheritedConfig.getMoveSelectorConfig());
     }
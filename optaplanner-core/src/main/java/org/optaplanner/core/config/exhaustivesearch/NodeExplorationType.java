@@ -50,4 +50,29 @@ public enum NodeExplorationType {
         }
     }
 
+    /**
+     * Determines which node to discard when the expandableNodeCountLimit is exceeded.
+     * @param scoreBounderEnabled true if the optimistic bound of each node is calculated
+     * @return null if the least promising node is the lowest node of {@link #buildNodeComparator(boolean)},
+     * otherwise a {@link Comparator} whose lowest node is the least promising one
+     */
+    public Comparator<ExhaustiveSearchNode> buildDiscardNodeComparator(boolean scoreBounderEnabled) {
+        switch (this) {
+            case ORIGINAL_ORDER:
+                // The node that would be expanded last
+                return null;
+            case DEPTH_FIRST:
+                // Depth first ranks the shallowest node lowest, but it has the loosest optimistic bound
+                return scoreBounderEnabled ? new OptimisticBoundFirstNodeComparator(true) : null;
+            case BREADTH_FIRST:
+                // The worst node of the deepest layer, like in a beam search
+            case SCORE_FIRST:
+            case OPTIMISTIC_BOUND_FIRST:
+                return null;
+            default:
+                throw new IllegalStateException("The nodeExplorationType ("
+                        + this + ") is not implemented.");
+        }
+    }
+
 }
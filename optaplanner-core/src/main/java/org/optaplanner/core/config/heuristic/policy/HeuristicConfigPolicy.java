@@ -29,6 +29,7 @@ import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.mimic.ValueMimicRecorder;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.termination.TerminationClock;
 
 public class HeuristicConfigPolicy {
 
@@ -39,6 +40,7 @@ public class HeuristicConfigPolicy {
     private ValueSorterManner valueSorterManner = ValueSorterManner.NONE;
     private boolean reinitializeVariableFilterEnabled = false;
     private boolean initializedChainedValueFilterEnabled = false;
+    private TerminationClock terminationClock = null;
 
     private Map<String, EntityMimicRecorder> entityMimicRecorderMap
             = new HashMap<>();
@@ -114,12 +116,25 @@ public class HeuristicConfigPolicy {
         this.initializedChainedValueFilterEnabled = initializedChainedValueFilterEnabled;
     }
 
+    /**
+     * @return sometimes null, shared by all time based terminations of the solver and its phases
+     */
+    public TerminationClock getTerminationClock() {
+        return terminationClock;
+    }
+
+    public void setTerminationClock(TerminationClock terminationClock) {
+        this.terminationClock = terminationClock;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
 
     public HeuristicConfigPolicy createPhaseConfigPolicy() {
-        return new HeuristicConfigPolicy(environmentMode, scoreDirectorFactory);
+        HeuristicConfigPolicy phaseConfigPolicy = new HeuristicConfigPolicy(environmentMode, scoreDirectorFactory);
+        phaseConfigPolicy.setTerminationClock(terminationClock);
+        return phaseConfigPolicy;
     }
 
     // ************************************************************************
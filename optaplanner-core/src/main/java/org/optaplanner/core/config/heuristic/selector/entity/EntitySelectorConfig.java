@@ -76,6 +76,7 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
     protected Class<? extends SelectionSorterWeightFactory> sorterWeightFactoryClass = null;
     protected SelectionSorterOrder sorterOrder = null;
     protected Class<? extends SelectionSorter> sorterClass = null;
+    protected Boolean incrementalCacheEnabled = null;
 
     protected Class<? extends SelectionProbabilityWeightFactory> probabilityWeightFactoryClass = null;
 
@@ -190,6 +191,14 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
         this.sorterClass = sorterClass;
     }
 
+    public Boolean getIncrementalCacheEnabled() {
+        return incrementalCacheEnabled;
+    }
+
+    public void setIncrementalCacheEnabled(Boolean incrementalCacheEnabled) {
+        this.incrementalCacheEnabled = incrementalCacheEnabled;
+    }
+
     public Class<? extends SelectionProbabilityWeightFactory> getProbabilityWeightFactoryClass() {
         return probabilityWeightFactoryClass;
     }
@@ -287,6 +296,7 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
                 || sorterWeightFactoryClass != null
                 || sorterOrder != null
                 || sorterClass != null
+                || incrementalCacheEnabled != null
                 || probabilityWeightFactoryClass != null
                 || selectedCountLimit != null) {
             throw new IllegalArgumentException("The entitySelectorConfig (" + this
@@ -420,6 +430,12 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
                     + ") with sorterClass (" + sorterClass
                     + ") has a non-null sorterOrder (" + sorterOrder + ").");
         }
+        if (incrementalCacheEnabled != null && resolvedSelectionOrder != SelectionOrder.SORTED) {
+            throw new IllegalArgumentException("The entitySelectorConfig (" + this
+                    + ") with incrementalCacheEnabled (" + incrementalCacheEnabled
+                    + ") has a resolvedSelectionOrder (" + resolvedSelectionOrder
+                    + ") that is not " + SelectionOrder.SORTED + ".");
+        }
     }
 
     private EntitySelector applySorting(SelectionCacheType resolvedCacheType, SelectionOrder resolvedSelectionOrder,
@@ -452,7 +468,8 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
                         + ") or a sorterWeightFactoryClass (" + sorterWeightFactoryClass
                         + ") or a sorterClass (" + sorterClass + ").");
             }
-            entitySelector = new SortingEntitySelector(entitySelector, resolvedCacheType, sorter);
+            entitySelector = new SortingEntitySelector(entitySelector, resolvedCacheType, sorter,
+                    incrementalCacheEnabled == null ? false : incrementalCacheEnabled);
         }
         return entitySelector;
     }
@@ -558,6 +575,8 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
                 sorterOrder, inheritedConfig.getSorterOrder());
         sorterClass = ConfigUtils.inheritOverwritableProperty(
                 sorterClass, inheritedConfig.getSorterClass());
+        incrementalCacheEnabled = ConfigUtils.inheritOverwritableProperty(
+                incrementalCacheEnabled, inheritedConfig.getIncrementalCacheEnabled());
         probabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 probabilityWeightFactoryClass, inheritedConfig.getProbabilityWeightFactoryClass());
         selectedCountLimit = ConfigUtils.inheritOverwritableProperty(
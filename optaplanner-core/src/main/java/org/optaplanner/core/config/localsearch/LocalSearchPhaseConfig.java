@@ -63,6 +63,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     @XStreamAlias("forager")
     private LocalSearchForagerConfig foragerConfig = null;
 
+    private Boolean undoMoveRecyclingEnabled = null;
+
     public LocalSearchType getLocalSearchType() {
         return localSearchType;
     }
@@ -95,6 +97,14 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    public Boolean getUndoMoveRecyclingEnabled() {
+        return undoMoveRecyclingEnabled;
+    }
+
+    public void setUndoMoveRecyclingEnabled(Boolean undoMoveRecyclingEnabled) {
+        this.undoMoveRecyclingEnabled = undoMoveRecyclingEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -127,6 +137,10 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         decider.setAcceptor(acceptor);
         Forager forager = buildForager(configPolicy);
         decider.setForager(forager);
+        decider.setScoreComparator(configPolicy.getScoreDefinition().getScoreComparator());
+        if (undoMoveRecyclingEnabled != null && undoMoveRecyclingEnabled) {
+            decider.setUndoMoveRecyclingEnabled(true);
+        }
         if (moveSelector.isNeverEnding() && !forager.supportsNeverEndingMoveSelector()) {
             throw new IllegalStateException("The moveSelector (" + moveSelector
                     + ") has neverEnding (" + moveSelector.isNeverEnding()
@@ -137,6 +151,7 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
+            decider.setAssertUndoStepNotRecycled(true);
         }
         if (environmentMode.isIntrusiveFastAsserted()) {
             decider.setAssertExpectedUndoMoveScore(true);
@@ -243,6 +258,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        undoMoveRecyclingEnabled = ConfigUtils.inheritOverwritableProperty(undoMoveRecyclingEnabled,
+                inheritedConfig.getUndoMoveRecyclingEnabled());
     }
 
 }
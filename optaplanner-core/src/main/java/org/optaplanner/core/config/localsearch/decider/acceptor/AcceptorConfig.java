@@ -17,15 +17,18 @@
 package org.optaplanner.core.config.localsearch.decider.acceptor;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.heuristic.policy.HeuristicConfigPolicy;
 import org.optaplanner.core.config.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingType;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.hillclimbing.HillClimbingAcceptor;
@@ -387,10 +390,18 @@ public class AcceptorConfig extends AbstractConfig<AcceptorConfig> {
                     stepCountingHillClimbingSize_, stepCountingHillClimbingType_);
             acceptorList.add(acceptor);
         }
+        Comparator<Score> scoreComparator = configPolicy.getScoreDefinition().getScoreComparator();
+        for (Acceptor acceptor : acceptorList) {
+            if (acceptor instanceof AbstractAcceptor) {
+                ((AbstractAcceptor) acceptor).setScoreComparator(scoreComparator);
+            }
+        }
         if (acceptorList.size() == 1) {
             return acceptorList.get(0);
         } else if (acceptorList.size() > 1) {
-            return new CompositeAcceptor(acceptorList);
+            CompositeAcceptor compositeAcceptor = new CompositeAcceptor(acceptorList);
+            compositeAcceptor.setScoreComparator(scoreComparator);
+            return compositeAcceptor;
         } else {
             throw new IllegalArgumentException("The acceptor does not specify any acceptorType (" + acceptorTypeList
                     + ") or other acceptor property.\n"
@@ -16,12 +16,17 @@
 
 package org.optaplanner.core.config.localsearch.decider.forager;
 
+import java.util.Comparator;
+
 import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.heuristic.policy.HeuristicConfigPolicy;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.localsearch.decider.forager.AcceptedForager;
 import org.optaplanner.core.impl.localsearch.decider.forager.Forager;
+import org.optaplanner.core.impl.localsearch.decider.forager.finalist.AbstractFinalistPodium;
+import org.optaplanner.core.impl.localsearch.decider.forager.finalist.FinalistPodium;
 
 import static org.apache.commons.lang3.ObjectUtils.*;
 
@@ -94,7 +99,15 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
         FinalistPodiumType finalistPodiumType_ = defaultIfNull(finalistPodiumType, FinalistPodiumType.HIGHEST_SCORE);
         // Breaking ties randomly leads statistically to much better results
         boolean breakTieRandomly_  = defaultIfNull(breakTieRandomly, true);
-        return new AcceptedForager(finalistPodiumType_.buildFinalistPodium(), pickEarlyType_, acceptedCountLimit_, breakTieRandomly_);
+        Comparator<Score> scoreComparator = configPolicy.getScoreDefinition().getScoreComparator();
+        FinalistPodium finalistPodium = finalistPodiumType_.buildFinalistPodium();
+        if (finalistPodium instanceof AbstractFinalistPodium) {
+            ((AbstractFinalistPodium) finalistPodium).setScoreComparator(scoreComparator);
+        }
+        AcceptedForager forager = new AcceptedForager(finalistPodium, pickEarlyType_, acceptedCountLimit_,
+                breakTieRandomly_);
+        forager.setScoreComparator(scoreComparator);
+        return forager;
     }
 
     @Override
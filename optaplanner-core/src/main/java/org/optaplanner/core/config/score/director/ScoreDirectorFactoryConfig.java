@@ -17,10 +17,14 @@
 package org.optaplanner.core.config.score.director;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.io.ByteStreams;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamConverter;
 import com.thoughtworks.xstream.annotations.XStreamImplicit;
@@ -34,8 +38,11 @@ import org.kie.api.builder.KieFileSystem;
 import org.kie.api.builder.Message;
 import org.kie.api.builder.Results;
 import org.kie.api.io.KieResources;
+import org.kie.api.io.Resource;
 import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
 import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.SolverConfigContext;
@@ -62,11 +69,14 @@ import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.drools.KieBaseCache;
+import org.optaplanner.core.impl.score.director.drools.KieSessionPoolRegistry;
 import org.optaplanner.core.impl.score.director.drools.LegacyDroolsScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.drools.testgen.TestGenDroolsScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.drools.testgen.TestGenLegacyDroolsScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.easy.EasyScoreCalculator;
 import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.easy.PartitionedEasyScoreCalculator;
 import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreCalculator;
 import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirectorFactory;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
@@ -84,6 +94,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @Deprecated protected Integer bendableSoftLevelsSize = null;
 
     protected Class<? extends EasyScoreCalculator> easyScoreCalculatorClass = null;
+    protected Integer partitionThreadCount = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -96,6 +107,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     protected List<File> scoreDrlFileList = null;
     @XStreamConverter(KeyAsElementMapConverter.class)
     protected Map<String, String> kieBaseConfigurationProperties = null;
+    protected Boolean kieBaseCacheEnabled = null;
+    protected Integer kieSessionPoolSize = null;
 
     protected String initializingScoreTrend = null;
 
@@ -176,6 +189,20 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.easyScoreCalculatorClass = easyScoreCalculatorClass;
     }
 
+    public Integer getPartitionThreadCount() {
+        return partitionThreadCount;
+    }
+
+    /**
+     * @param partitionThreadCount sometimes null, if not null, the number of threads (including the solver thread)
+     * that calculate the partitions of a {@link PartitionedEasyScoreCalculator},
+     * defaults to the number of available processors
+     */
+    public void setPartitionThreadCount(Integer partitionThreadCount) {
+        validatePartitionThreadCount(partitionThreadCount);
+        this.partitionThreadCount = partitionThreadCount;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -232,6 +259,32 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.kieBaseConfigurationProperties = kieBaseConfigurationProperties;
     }
 
+    public Boolean isKieBaseCacheEnabled() {
+        return kieBaseCacheEnabled;
+    }
+
+    /**
+     * @param kieBaseCacheEnabled sometimes null, if true, the compiled scoreDrlList and scoreDrlFileList
+     * are shared through the process-wide {@link KieBaseCache} with every other {@link SolverFactory}
+     * that uses the same score DRL contents
+     */
+    public void setKieBaseCacheEnabled(Boolean kieBaseCacheEnabled) {
+        this.kieBaseCacheEnabled = kieBaseCacheEnabled;
+    }
+
+    public Integer getKieSessionPoolSize() {
+        return kieSessionPoolSize;
+    }
+
+    /**
+     * @param kieSessionPoolSize sometimes null, if not null, the maximum number of idle {@link KieSession}s
+     * kept for reuse by the {@link Solver}s that use the same score rules
+     */
+    public void setKieSessionPoolSize(Integer kieSessionPoolSize) {
+        validateKieSessionPoolSize(kieSessionPoolSize);
+        this.kieSessionPoolSize = kieSessionPoolSize;
+    }
+
     public String getInitializingScoreTrend() {
         return initializingScoreTrend;
     }
@@ -353,6 +406,13 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
             }
             scoreDirectorFactory = incrementalScoreDirectorFactory;
         } else if (droolsScoreDirectorFactory != null) {
+            if (kieSessionPoolSize != null) {
+                DroolsScoreDirectorFactory<Solution_> poolingScoreDirectorFactory
+                        = (DroolsScoreDirectorFactory<Solution_>) droolsScoreDirectorFactory;
+                poolingScoreDirectorFactory.setKieSessionPool(KieSessionPoolRegistry.getInstance().obtainKieSessionPool(
+                        poolingScoreDirectorFactory.determineKieSessionKieBase(),
+                        poolingScoreDirectorFactory.getKsessionName(), kieSessionPoolSize));
+            }
             scoreDirectorFactory = droolsScoreDirectorFactory;
         } else {
             throw new IllegalArgumentException("The scoreDirectorFactory lacks a configuration for an "
@@ -393,8 +453,22 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         if (easyScoreCalculatorClass != null) {
             EasyScoreCalculator<Solution_> easyScoreCalculator = ConfigUtils.newInstance(this,
                     "easyScoreCalculatorClass", easyScoreCalculatorClass);
-            return new EasyScoreDirectorFactory<>(easyScoreCalculator);
+            EasyScoreDirectorFactory<Solution_> easyScoreDirectorFactory
+                    = new EasyScoreDirectorFactory<>(easyScoreCalculator);
+            if (easyScoreCalculator instanceof PartitionedEasyScoreCalculator) {
+                easyScoreDirectorFactory.setPartitionThreadCount(partitionThreadCount == null
+                        ? Runtime.getRuntime().availableProcessors() : partitionThreadCount);
+            } else if (partitionThreadCount != null) {
+                throw new IllegalArgumentException("If partitionThreadCount (" + partitionThreadCount
+                        + ") is not null, the easyScoreCalculatorClass (" + easyScoreCalculatorClass
+                        + ") must implement " + PartitionedEasyScoreCalculator.class.getSimpleName() + ".");
+            }
+            return easyScoreDirectorFactory;
         } else {
+            if (partitionThreadCount != null) {
+                throw new IllegalArgumentException("If partitionThreadCount (" + partitionThreadCount
+                        + ") is not null, the scoreDirectorFactory must use an easyScoreCalculatorClass.");
+            }
             return null;
         }
     }
@@ -435,6 +509,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                         + ") is not null, then the kieBaseConfigurationProperties ("
                         + kieBaseConfigurationProperties + ") must be null.");
             }
+            if (kieBaseCacheEnabled != null) {
+                throw new IllegalArgumentException("If kieContainer or ksessionName (" + ksessionName
+                        + ") is not null, then the kieBaseCacheEnabled (" + kieBaseCacheEnabled
+                        + ") must be null.");
+            }
             if (BooleanUtils.isTrue(generateDroolsTestOnError)) {
                 return new TestGenDroolsScoreDirectorFactory<>(kieContainer, ksessionName);
             } else {
@@ -449,6 +528,10 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 throw new IllegalArgumentException("If kieBase is not null, then the kieBaseConfigurationProperties ("
                         + kieBaseConfigurationProperties + ") must be null.");
             }
+            if (kieBaseCacheEnabled != null) {
+                throw new IllegalArgumentException("If kieBase is not null, then the kieBaseCacheEnabled ("
+                        + kieBaseCacheEnabled + ") must be null.");
+            }
             if (BooleanUtils.isTrue(generateDroolsTestOnError)) {
                 return new TestGenLegacyDroolsScoreDirectorFactory<>(kieBase);
             } else {
@@ -457,9 +540,9 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         } else if (!ConfigUtils.isEmptyCollection(scoreDrlList) || !ConfigUtils.isEmptyCollection(scoreDrlFileList)) {
             KieServices kieServices = KieServices.Factory.get();
             KieResources kieResources = kieServices.getResources();
-            KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+            ClassLoader actualClassLoader = configContext.determineActualClassLoader();
+            List<Resource> scoreDrlResourceList = new ArrayList<>();
             if (!ConfigUtils.isEmptyCollection(scoreDrlList)) {
-                ClassLoader actualClassLoader = configContext.determineActualClassLoader();
                 for (String scoreDrl : scoreDrlList) {
                     if (scoreDrl == null) {
                         throw new IllegalArgumentException("The scoreDrl (" + scoreDrl + ") cannot be null.");
@@ -475,7 +558,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                         }
                         throw new IllegalArgumentException(errorMessage);
                     }
-                    kieFileSystem.write(kieResources.newClassPathResource(scoreDrl, "UTF-8", actualClassLoader));
+                    scoreDrlResourceList.add(kieResources.newClassPathResource(scoreDrl, "UTF-8", actualClassLoader));
                 }
             }
             if (!ConfigUtils.isEmptyCollection(scoreDrlFileList)) {
@@ -487,28 +570,26 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                         throw new IllegalArgumentException("The scoreDrlFile (" + scoreDrlFile
                                 + ") does not exist.");
                     }
-                    kieFileSystem.write(kieResources.newFileSystemResource(scoreDrlFile, "UTF-8"));
+                    scoreDrlResourceList.add(kieResources.newFileSystemResource(scoreDrlFile, "UTF-8"));
                 }
             }
-            KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem);
-            kieBuilder.buildAll();
-            Results results = kieBuilder.getResults();
-            if (results.hasMessages(Message.Level.ERROR)) {
-                throw new IllegalStateException("There are errors in a score DRL:\n"
-                        + results.toString());
-            } else if (results.hasMessages(Message.Level.WARNING)) {
-                logger.warn("There are warning in a score DRL:\n"
-                        + results.toString());
-            }
-            kieContainer = kieServices.newKieContainer(kieBuilder.getKieModule().getReleaseId());
-
-            KieBaseConfiguration kieBaseConfiguration = kieServices.newKieBaseConfiguration();
-            if (kieBaseConfigurationProperties != null) {
-                for (Map.Entry<String, String> entry : kieBaseConfigurationProperties.entrySet()) {
-                    kieBaseConfiguration.setProperty(entry.getKey(), entry.getValue());
+            KieBase kieBase;
+            if (BooleanUtils.isTrue(kieBaseCacheEnabled)) {
+                // Read every score DRL only once: the cache digests the same bytes that are compiled
+                List<byte[]> scoreDrlContentList = new ArrayList<>(scoreDrlResourceList.size());
+                List<Resource> inMemoryScoreDrlResourceList = new ArrayList<>(scoreDrlResourceList.size());
+                for (Resource scoreDrlResource : scoreDrlResourceList) {
+                    byte[] scoreDrlContent = readScoreDrlContent(scoreDrlResource);
+                    scoreDrlContentList.add(scoreDrlContent);
+                    inMemoryScoreDrlResourceList.add(kieResources.newByteArrayResource(scoreDrlContent)
+                            .setSourcePath(scoreDrlResource.getSourcePath()));
                 }
+                kieBase = KieBaseCache.getInstance().computeIfAbsent(actualClassLoader, scoreDrlContentList,
+                        kieBaseConfigurationProperties,
+                        () -> buildScoreDrlKieBase(kieServices, inMemoryScoreDrlResourceList));
+            } else {
+                kieBase = buildScoreDrlKieBase(kieServices, scoreDrlResourceList);
             }
-            KieBase kieBase = kieContainer.newKieBase(kieBaseConfiguration);
             if (BooleanUtils.isTrue(generateDroolsTestOnError)) {
                 return new TestGenLegacyDroolsScoreDirectorFactory<>(kieBase);
             } else {
@@ -521,10 +602,81 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                         + ") is not null, the scoreDrlList (" + scoreDrlList
                         + ") and the scoreDrlFileList (" + scoreDrlFileList + ") must not be empty.");
             }
+            if (kieBaseCacheEnabled != null) {
+                throw new IllegalArgumentException(
+                        "If kieBaseCacheEnabled (" + kieBaseCacheEnabled
+                        + ") is not null, the scoreDrlList (" + scoreDrlList
+                        + ") and the scoreDrlFileList (" + scoreDrlFileList + ") must not be empty.");
+            }
+            if (kieSessionPoolSize != null) {
+                throw new IllegalArgumentException(
+                        "If kieSessionPoolSize (" + kieSessionPoolSize
+                        + ") is not null, the scoreDirectorFactory must use a kieContainer, a ksessionName,"
+                        + " a kieBase, a scoreDrlList (" + scoreDrlList
+                        + ") or a scoreDrlFileList (" + scoreDrlFileList + ").");
+            }
             return null;
         }
     }
 
+    private static void validateKieSessionPoolSize(Integer kieSessionPoolSize) {
+        if (kieSessionPoolSize != null && kieSessionPoolSize < 1) {
+            throw new IllegalArgumentException("The kieSessionPoolSize (" + kieSessionPoolSize
+                    + ") must be at least 1.");
+        }
+    }
+
+    private static void validatePartitionThreadCount(Integer partitionThreadCount) {
+        if (partitionThreadCount != null && partitionThreadCount < 1) {
+            throw new IllegalArgumentException("The partitionThreadCount (" + partitionThreadCount
+                    + ") must be at least 1.");
+        }
+    }
+
+    /**
+     * Called by XStream after reading the configuration, which bypasses the setters.
+     * @return this
+     */
+    private Object readResolve() {
+        validateKieSessionPoolSize(kieSessionPoolSize);
+        validatePartitionThreadCount(partitionThreadCount);
+        return this;
+    }
+
+    private byte[] readScoreDrlContent(Resource scoreDrlResource) {
+        try (InputStream in = scoreDrlResource.getInputStream()) {
+            return ByteStreams.toByteArray(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The score DRL (" + scoreDrlResource + ") could not be read.", e);
+        }
+    }
+
+    protected KieBase buildScoreDrlKieBase(KieServices kieServices, List<Resource> scoreDrlResourceList) {
+        KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+        for (Resource scoreDrlResource : scoreDrlResourceList) {
+            kieFileSystem.write(scoreDrlResource);
+        }
+        KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem);
+        kieBuilder.buildAll();
+        Results results = kieBuilder.getResults();
+        if (results.hasMessages(Message.Level.ERROR)) {
+            throw new IllegalStateException("There are errors in a score DRL:\n"
+                    + results.toString());
+        } else if (results.hasMessages(Message.Level.WARNING)) {
+            logger.warn("There are warning in a score DRL:\n"
+                    + results.toString());
+        }
+        KieContainer kieContainer = kieServices.newKieContainer(kieBuilder.getKieModule().getReleaseId());
+
+        KieBaseConfiguration kieBaseConfiguration = kieServices.newKieBaseConfiguration();
+        if (kieBaseConfigurationProperties != null) {
+            for (Map.Entry<String, String> entry : kieBaseConfigurationProperties.entrySet()) {
+                kieBaseConfiguration.setProperty(entry.getKey(), entry.getValue());
+            }
+        }
+        return kieContainer.newKieBase(kieBaseConfiguration);
+    }
+
     @Override
     public void inherit(ScoreDirectorFactoryConfig inheritedConfig) {
         if (scoreDefinitionClass == null && scoreDefinitionType == null
@@ -536,6 +688,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         }
         easyScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 easyScoreCalculatorClass, inheritedConfig.getEasyScoreCalculatorClass());
+        partitionThreadCount = ConfigUtils.inheritOverwritableProperty(
+                partitionThreadCount, inheritedConfig.getPartitionThreadCount());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         ksessionName = ConfigUtils.inheritOverwritableProperty(
@@ -548,6 +702,10 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 scoreDrlFileList, inheritedConfig.getScoreDrlFileList());
         kieBaseConfigurationProperties = ConfigUtils.inheritMergeableMapProperty(
                 kieBaseConfigurationProperties, inheritedConfig.getKieBaseConfigurationProperties());
+        kieBaseCacheEnabled = ConfigUtils.inheritOverwritableProperty(
+                kieBaseCacheEnabled, inheritedConfig.isKieBaseCacheEnabled());
+        kieSessionPoolSize = ConfigUtils.inheritOverwritableProperty(
+                kieSessionPoolSize, inheritedConfig.getKieSessionPoolSize());
         initializingScoreTrend = ConfigUtils.inheritOverwritableProperty(
                 initializingScoreTrend, inheritedConfig.getInitializingScoreTrend());
 
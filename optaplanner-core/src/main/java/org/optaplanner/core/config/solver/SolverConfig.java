@@ -39,6 +39,8 @@ import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.BasicPlumbingTermination;
 import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.metrics.JmxSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
 import org.optaplanner.core.impl.solver.random.DefaultRandomFactory;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -59,6 +61,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected RandomType randomType = null;
     protected Long randomSeed = null;
     protected Class<? extends RandomFactory> randomFactoryClass = null;
+    protected Boolean metricsEnabled = null;
+    protected Class<? extends SolverMetricsRegistry> metricsRegistryClass = null;
 
     @XStreamAlias("scanAnnotatedClasses")
     protected ScanAnnotatedClassesConfig scanAnnotatedClassesConfig = null;
@@ -125,6 +129,22 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.randomFactoryClass = randomFactoryClass;
     }
 
+    public Boolean getMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(Boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public Class<? extends SolverMetricsRegistry> getMetricsRegistryClass() {
+        return metricsRegistryClass;
+    }
+
+    public void setMetricsRegistryClass(Class<? extends SolverMetricsRegistry> metricsRegistryClass) {
+        this.metricsRegistryClass = metricsRegistryClass;
+    }
+
     public ScanAnnotatedClassesConfig getScanAnnotatedClassesConfig() {
         return scanAnnotatedClassesConfig;
     }
@@ -225,11 +245,27 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         Termination termination = terminationConfig_.buildTermination(configPolicy, basicPlumbingTermination);
         solver.setTermination(termination);
         BestSolutionRecaller<Solution_> bestSolutionRecaller = buildBestSolutionRecaller(environmentMode_);
+        bestSolutionRecaller.setScoreComparator(configPolicy.getScoreDefinition().getScoreComparator());
         solver.setBestSolutionRecaller(bestSolutionRecaller);
         solver.setPhaseList(buildPhaseList(configPolicy, bestSolutionRecaller, termination));
+        solver.setSolverMetricsRegistry(buildSolverMetricsRegistry());
         return solver;
     }
 
+    /**
+     * @return sometimes null, if the metrics are disabled
+     */
+    protected SolverMetricsRegistry buildSolverMetricsRegistry() {
+        boolean metricsEnabled_ = defaultIfNull(metricsEnabled, metricsRegistryClass != null);
+        if (!metricsEnabled_) {
+            return null;
+        }
+        if (metricsRegistryClass == null) {
+            return new JmxSolverMetricsRegistry();
+        }
+        return ConfigUtils.newInstance(this, "metricsRegistryClass", metricsRegistryClass);
+    }
+
     protected RandomFactory buildRandomFactory(EnvironmentMode environmentMode_) {
         RandomFactory randomFactory;
         if (randomFactoryClass != null) {
@@ -314,6 +350,9 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         randomSeed = ConfigUtils.inheritOverwritableProperty(randomSeed, inheritedConfig.getRandomSeed());
         randomFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 randomFactoryClass, inheritedConfig.getRandomFactoryClass());
+        metricsEnabled = ConfigUtils.inheritOverwritableProperty(metricsEnabled, inheritedConfig.getMetricsEnabled());
+        metricsRegistryClass = ConfigUtils.inheritOverwritableProperty(
+                metricsRegistryClass, inheritedConfig.getMetricsRegistryClass());
         scanAnnotatedClassesConfig = ConfigUtils.inheritConfig(scanAnnotatedClassesConfig, inheritedConfig.getScanAnnotatedClassesConfig());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
         entityClassList = ConfigUtils.inheritMergeableListProperty(
@@ -32,5 +32,13 @@ public enum RandomType {
     WELL19937A,
     WELL19937C,
     WELL44497A,
-    WELL44497B;
+    WELL44497B,
+    /**
+     * Backed by {@link java.util.SplittableRandom}. Fast and designed to be split into independent streams.
+     */
+    SPLITTABLE_RANDOM,
+    /**
+     * The xoroshiro128+ algorithm. Very fast and with a small state.
+     */
+    XOROSHIRO_128_PLUS;
 }
@@ -35,6 +35,7 @@ import org.optaplanner.core.impl.solver.termination.ScoreCalculationCountTermina
 import org.optaplanner.core.impl.solver.termination.OrCompositeTermination;
 import org.optaplanner.core.impl.solver.termination.StepCountTermination;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.termination.TerminationClock;
 import org.optaplanner.core.impl.solver.termination.TimeMillisSpentTermination;
 import org.optaplanner.core.impl.solver.termination.UnimprovedStepCountTermination;
 import org.optaplanner.core.impl.solver.termination.UnimprovedTimeMillisSpentTermination;
@@ -60,6 +61,7 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
     private Long unimprovedMinutesSpentLimit = null;
     private Long unimprovedHoursSpentLimit = null;
     private Long unimprovedDaysSpentLimit = null;
+    private Long clockLatencyMillisecondsLimit = null;
 
     private String bestScoreLimit = null;
     private Boolean bestScoreFeasible = null;
@@ -173,6 +175,14 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
         this.unimprovedDaysSpentLimit = unimprovedDaysSpentLimit;
     }
 
+    public Long getClockLatencyMillisecondsLimit() {
+        return clockLatencyMillisecondsLimit;
+    }
+
+    public void setClockLatencyMillisecondsLimit(Long clockLatencyMillisecondsLimit) {
+        this.clockLatencyMillisecondsLimit = clockLatencyMillisecondsLimit;
+    }
+
     public String getBestScoreLimit() {
         return bestScoreLimit;
     }
@@ -259,13 +269,18 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
             Termination termination = ConfigUtils.newInstance(this, "terminationClass", terminationClass);
             terminationList.add(termination);
         }
+        if (clockLatencyMillisecondsLimit != null && configPolicy.getTerminationClock() == null) {
+            configPolicy.setTerminationClock(new TerminationClock(clockLatencyMillisecondsLimit));
+        }
+        TerminationClock terminationClock = configPolicy.getTerminationClock();
         Long timeMillisSpentLimit = calculateTimeMillisSpentLimit();
         if (timeMillisSpentLimit != null) {
-            terminationList.add(new TimeMillisSpentTermination(timeMillisSpentLimit));
+            terminationList.add(new TimeMillisSpentTermination(timeMillisSpentLimit, terminationClock));
         }
         Long unimprovedTimeMillisSpentLimit = calculateUnimprovedTimeMillisSpentLimit();
         if (unimprovedTimeMillisSpentLimit != null) {
-            terminationList.add(new UnimprovedTimeMillisSpentTermination(unimprovedTimeMillisSpentLimit));
+            terminationList.add(new UnimprovedTimeMillisSpentTermination(unimprovedTimeMillisSpentLimit,
+                    terminationClock));
         }
         if (bestScoreLimit != null) {
             Score bestScoreLimit_ = configPolicy.getScoreDefinition().parseScore(bestScoreLimit);
@@ -465,6 +480,8 @@ public class TerminationConfig extends AbstractConfig<TerminationConfig> {
                 inheritedConfig.getUnimprovedHoursSpentLimit());
         unimprovedDaysSpentLimit = ConfigUtils.inheritOverwritableProperty(unimprovedDaysSpentLimit,
                 inheritedConfig.getUnimprovedDaysSpentLimit());
+        clockLatencyMillisecondsLimit = ConfigUtils.inheritOverwritableProperty(clockLatencyMillisecondsLimit,
+                inheritedConfig.getClockLatencyMillisecondsLimit());
         bestScoreLimit = ConfigUtils.inheritOverwritableProperty(bestScoreLimit,
                 inheritedConfig.getBestScoreLimit());
         bestScoreFeasible = ConfigUtils.inheritOverwritableProperty(bestScoreFeasible,
@@ -67,6 +67,7 @@ public class EntityDescriptor<Solution_> {
     private final SolutionDescriptor<Solution_> solutionDescriptor;
 
     private final Class<?> entityClass;
+    private int ordinal = -1;
     private SelectionFilter movableEntitySelectionFilter;
     private SelectionSorter decreasingDifficultySorter;
 
@@ -276,6 +277,19 @@ public class EntityDescriptor<Solution_> {
         return solutionDescriptor;
     }
 
+    /**
+     * Unique per {@link EntityDescriptor} of the same {@link SolutionDescriptor},
+     * from {@code 0} up to the number of entity classes (exclusive), in configuration order.
+     * @return {@code >= 0}
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     public Class<?> getEntityClass() {
         return entityClass;
     }
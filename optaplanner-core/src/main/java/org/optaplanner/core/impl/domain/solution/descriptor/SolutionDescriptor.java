@@ -57,6 +57,7 @@ import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftdouble.HardSoftDoubleScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.core.api.score.buildin.hardsoftscaledlong.HardSoftScaledLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
 import org.optaplanner.core.api.score.buildin.simpledouble.SimpleDoubleScore;
@@ -81,6 +82,7 @@ import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.hardsoftdouble.HardSoftDoubleScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.hardsoftlong.HardSoftLongScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.hardsoftscaledlong.HardSoftScaledLongScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.simplebigdecimal.SimpleBigDecimalScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.simpledouble.SimpleDoubleScoreDefinition;
@@ -152,6 +154,7 @@ public class SolutionDescriptor<Solution_> {
     private ScoreDefinition scoreDefinition;
 
     private final Map<Class<?>, EntityDescriptor<Solution_>> entityDescriptorMap;
+    private int variableDescriptorCount = 0;
     private final List<Class<?>> reversedEntityClassList;
     private final Map<Class<?>, EntityDescriptor<Solution_>> lowestEntityDescriptorCache;
 
@@ -429,6 +432,13 @@ public class SolutionDescriptor<Solution_> {
                         + ") that must not have a bendableHardLevelsSize (" + annotation.bendableHardLevelsSize()
                         + ") or a bendableSoftLevelsSize (" + annotation.bendableSoftLevelsSize() + ").");
             }
+            if (annotation.scale() != PlanningScore.NO_SCALE) {
+                throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                        + ") has a " + PlanningScore.class.getSimpleName()
+                        + " annotated member (" + scoreMemberAccessor
+                        + ") that has a scoreDefinition (" + scoreDefinitionClass
+                        + ") that must not have a scale (" + annotation.scale() + ").");
+            }
             return ConfigUtils.newInstance(this, "scoreDefinitionClass", scoreDefinitionClass);
         }
         if (scoreType == Score.class) {
@@ -488,6 +498,22 @@ public class SolutionDescriptor<Solution_> {
                         + ") that must not have a bendableHardLevelsSize (" + annotation.bendableHardLevelsSize()
                         + ") or a bendableSoftLevelsSize (" + annotation.bendableSoftLevelsSize() + ").");
             }
+            if (scoreType.equals(HardSoftScaledLongScore.class)) {
+                if (annotation.scale() == PlanningScore.NO_SCALE) {
+                    throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                            + ") has a " + PlanningScore.class.getSimpleName()
+                            + " annotated member (" + scoreMemberAccessor
+                            + ") that returns a scoreType (" + scoreType
+                            + ") that must have a scale (" + annotation.scale() + ").");
+                }
+                return new HardSoftScaledLongScoreDefinition(annotation.scale());
+            } else if (annotation.scale() != PlanningScore.NO_SCALE) {
+                throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                        + ") has a " + PlanningScore.class.getSimpleName()
+                        + " annotated member (" + scoreMemberAccessor
+                        + ") that returns a scoreType (" + scoreType
+                        + ") that must not have a scale (" + annotation.scale() + ").");
+            }
             if (scoreType.equals(SimpleScore.class)) {
                 return new SimpleScoreDefinition();
             } else if (scoreType.equals(SimpleLongScore.class)) {
@@ -530,6 +556,13 @@ public class SolutionDescriptor<Solution_> {
                         + ") that must have a bendableHardLevelsSize (" + annotation.bendableHardLevelsSize()
                         + ") and a bendableSoftLevelsSize (" + annotation.bendableSoftLevelsSize() + ").");
             }
+            if (annotation.scale() != PlanningScore.NO_SCALE) {
+                throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                        + ") has a " + PlanningScore.class.getSimpleName()
+                        + " annotated member (" + scoreMemberAccessor
+                        + ") that returns a bendable scoreType (" + scoreType
+                        + ") that must not have a scale (" + annotation.scale() + ").");
+            }
             if (scoreType.equals(BendableScore.class)) {
                 return new BendableScoreDefinition(bendableHardLevelsSize, bendableSoftLevelsSize);
             } else if (scoreType.equals(BendableLongScore.class)) {
@@ -556,6 +589,7 @@ public class SolutionDescriptor<Solution_> {
             entityDescriptor.linkShadowSources(descriptorPolicy);
         }
         determineGlobalShadowOrder();
+        determineOrdinals();
         if (logger.isTraceEnabled()) {
             logger.trace("    Model annotations parsed for Solution {}:", solutionClass.getSimpleName());
             for (Map.Entry<Class<?>, EntityDescriptor<Solution_>> entry : entityDescriptorMap.entrySet()) {
@@ -614,6 +648,20 @@ public class SolutionDescriptor<Solution_> {
         }
     }
 
+    private void determineOrdinals() {
+        int entityOrdinal = 0;
+        int variableOrdinal = 0;
+        for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
+            entityDescriptor.setOrdinal(entityOrdinal);
+            entityOrdinal++;
+            for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getDeclaredVariableDescriptors()) {
+                variableDescriptor.setOrdinal(variableOrdinal);
+                variableOrdinal++;
+            }
+        }
+        variableDescriptorCount = variableOrdinal;
+    }
+
     public Class<Solution_> getSolutionClass() {
         return solutionClass;
     }
@@ -673,6 +721,14 @@ public class SolutionDescriptor<Solution_> {
         return entityDescriptorMap.keySet();
     }
 
+    /**
+     * @return {@code >= 0}, the number of declared genuine and shadow variables of all entity classes
+     * @see VariableDescriptor#getOrdinal()
+     */
+    public int getVariableDescriptorCount() {
+        return variableDescriptorCount;
+    }
+
     public Collection<EntityDescriptor<Solution_>> getEntityDescriptors() {
         return entityDescriptorMap.values();
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.changed;
+
+import java.util.Collection;
+
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Reports every entity of which the source variable changes,
+ * so a consumer can patch its own state instead of rebuilding it from all entities.
+ * <p>
+ * To get an instance, demand a {@link ChangedEntityDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ChangedEntitySupply extends Supply {
+
+    /**
+     * The supply is shared by all consumers of the same source variable,
+     * so every consumer registers its own sink and clears it whenever it has processed it.
+     * @param changedEntitySink never null, receives an entity during {@link #flushChangedEntities()}
+     * if its source variable changed since the previous flush
+     */
+    void addChangedEntitySink(Collection<Object> changedEntitySink);
+
+    /**
+     * @param changedEntitySink never null, previously added by {@link #addChangedEntitySink(Collection)}
+     */
+    void removeChangedEntitySink(Collection<Object> changedEntitySink);
+
+    /**
+     * Adds every entity of which the source variable value differs from its value at the previous flush
+     * to every sink, once per entity.
+     * Call this only when no move is being evaluated (for example when a step ends),
+     * so a move that was done and undone isn't reported.
+     */
+    void flushChangedEntities();
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.changed;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Remembers the original source variable value of every touched entity (at most once per entity),
+ * so a move and its undo move cancel each other out before {@link #flushChangedEntities()}.
+ */
+public class ExternalizedChangedEntitySupply implements StatefulVariableListener<Object>, ChangedEntitySupply {
+
+    /**
+     * The original value of an entity that was added or removed, which never equals its current value.
+     */
+    private static final Object ADDED_OR_REMOVED = new Object();
+
+    protected final VariableDescriptor sourceVariableDescriptor;
+
+    protected final List<Collection<Object>> changedEntitySinkList = new ArrayList<>();
+    /**
+     * Identity based, because planning entities might override equals().
+     */
+    protected final Map<Object, Object> originalValueMap = new IdentityHashMap<>();
+    /**
+     * The keys of {@link #originalValueMap} in the order they were touched, to flush in a reproducible order.
+     */
+    protected final List<Object> touchedEntityList = new ArrayList<>();
+
+    public ExternalizedChangedEntitySupply(VariableDescriptor sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public VariableDescriptor getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void addChangedEntitySink(Collection<Object> changedEntitySink) {
+        changedEntitySinkList.add(changedEntitySink);
+    }
+
+    @Override
+    public void removeChangedEntitySink(Collection<Object> changedEntitySink) {
+        changedEntitySinkList.removeIf(sink -> sink == changedEntitySink);
+        if (changedEntitySinkList.isEmpty()) {
+            clearTouchedEntities();
+        }
+    }
+
+    @Override
+    public void flushChangedEntities() {
+        for (Object entity : touchedEntityList) {
+            Object originalValue = originalValueMap.get(entity);
+            if (originalValue == ADDED_OR_REMOVED
+                    || !Objects.equals(originalValue, sourceVariableDescriptor.getValue(entity))) {
+                for (Collection<Object> changedEntitySink : changedEntitySinkList) {
+                    changedEntitySink.add(entity);
+                }
+            }
+        }
+        clearTouchedEntities();
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector scoreDirector) {
+        // The consumers rebuild their state when the working solution is reset
+        clearTouchedEntities();
+    }
+
+    @Override
+    public void clearWorkingSolution(ScoreDirector scoreDirector) {
+        clearTouchedEntities();
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        touch(entity, ADDED_OR_REMOVED);
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        if (!changedEntitySinkList.isEmpty() && !originalValueMap.containsKey(entity)) {
+            touch(entity, sourceVariableDescriptor.getValue(entity));
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        touch(entity, ADDED_OR_REMOVED);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void touch(Object entity, Object originalValue) {
+        if (changedEntitySinkList.isEmpty()) {
+            return;
+        }
+        // The original value might be null, so put() can't tell if the entity was already touched
+        if (!originalValueMap.containsKey(entity)) {
+            touchedEntityList.add(entity);
+        }
+        originalValueMap.put(entity, originalValue);
+    }
+
+    protected void clearTouchedEntities() {
+        originalValueMap.clear();
+        touchedEntityList.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
@@ -23,6 +23,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.variable.PlanningVariable;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -33,6 +34,7 @@ public abstract class VariableDescriptor<Solution_> {
 
     protected final MemberAccessor variableMemberAccessor;
     protected final String variableName;
+    protected int ordinal = -1;
 
     protected List<ShadowVariableDescriptor<Solution_>> sinkVariableDescriptorList = new ArrayList<>(4);
 
@@ -64,6 +66,20 @@ public abstract class VariableDescriptor<Solution_> {
         return variableName;
     }
 
+    /**
+     * Unique per {@link VariableDescriptor} (genuine or shadow) of the same {@link SolutionDescriptor},
+     * from {@code 0} up to {@link SolutionDescriptor#getVariableDescriptorCount()} (exclusive),
+     * in declaration order. Useful for array based lookups instead of {@link #getVariableName()} based lookups.
+     * @return {@code >= 0}
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     public String getSimpleEntityAndVariableName() {
         return entityDescriptor.getEntityClass().getSimpleName() + "." + variableName;
     }
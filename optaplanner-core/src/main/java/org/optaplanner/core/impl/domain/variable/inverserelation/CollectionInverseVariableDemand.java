@@ -45,7 +45,7 @@ public class CollectionInverseVariableDemand implements Demand<CollectionInverse
 
     @Override
     public CollectionInverseVariableSupply createExternalizedSupply(InnerScoreDirector scoreDirector) {
-        return new ExternalizedCollectionInverseVariableSupply(sourceVariableDescriptor);
+        return new CompactCollectionInverseVariableSupply(sourceVariableDescriptor);
     }
 
     // ************************************************************************
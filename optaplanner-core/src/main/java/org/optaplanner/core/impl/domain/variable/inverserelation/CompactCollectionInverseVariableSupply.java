@@ -0,0 +1,382 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.inverserelation;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Implementation of {@link CollectionInverseVariableSupply} with a small memory footprint.
+ * <p>
+ * Every entity gets an ordinal when the working solution is reset or when it's added,
+ * and every planning value gets an ordinal when an entity is first assigned to it.
+ * The inverse entities of a planning value are held as an int array of entity ordinals
+ * (instead of an identity hash based {@link java.util.Set} per planning value, which starts at 64 slots)
+ * and each entity remembers its position in that array, so it's retracted by moving the last one into its place.
+ * The ordinal of a removed entity is reused.
+ * <p>
+ * A variable change does 1 entity lookup and 1 value lookup in an {@link IdentityHashMap}
+ * (because the before and after event of the same entity share the entity lookup),
+ * instead of 2 value lookups and 2 hash based inverse set operations.
+ */
+public class CompactCollectionInverseVariableSupply implements StatefulVariableListener<Object>, CollectionInverseVariableSupply {
+
+    protected static final int NO_ORDINAL = -1;
+    protected static final int INITIAL_CAPACITY = 16;
+    protected static final int INITIAL_INVERSE_CAPACITY = 4;
+
+    protected final VariableDescriptor sourceVariableDescriptor;
+
+    protected Map<Object, Integer> entityOrdinalMap = null;
+    /**
+     * Indexed by entity ordinal, null if that ordinal is free.
+     */
+    protected Object[] entities = null;
+    /**
+     * Indexed by entity ordinal, {@link #NO_ORDINAL} if the entity is not inserted in any inverse collection.
+     */
+    protected int[] entityValueOrdinals = null;
+    /**
+     * Indexed by entity ordinal, the position of that entity in its value's inverse array.
+     */
+    protected int[] entityInversePositions = null;
+    protected int entityCount = 0;
+    /**
+     * Only the first {@link #freeEntityOrdinalCount} elements are used.
+     */
+    protected int[] freeEntityOrdinals = null;
+    protected int freeEntityOrdinalCount = 0;
+    /**
+     * The before and after event of a variable change are for the same entity, so only the first one looks it up.
+     */
+    protected Object lastEntity = null;
+    protected int lastEntityOrdinal = NO_ORDINAL;
+
+    protected Map<Object, Integer> valueOrdinalMap = null;
+    /**
+     * Indexed by value ordinal.
+     */
+    protected Object[] values = null;
+    /**
+     * Indexed by value ordinal, only the first {@link #valueInverseSizes} elements are used.
+     */
+    protected int[][] valueInverseEntityOrdinals = null;
+    protected int[] valueInverseSizes = null;
+    /**
+     * Indexed by value ordinal, incremented on every change to that value's inverse entities,
+     * so the iterators of {@link #getInverseCollection(Object)} are fail-fast.
+     */
+    protected int[] valueModCounts = null;
+    protected int valueCount = 0;
+
+    public CompactCollectionInverseVariableSupply(VariableDescriptor sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public VariableDescriptor getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector scoreDirector) {
+        EntityDescriptor entityDescriptor = sourceVariableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        int entityCapacity = Math.max(entityList.size(), INITIAL_CAPACITY);
+        entityOrdinalMap = new IdentityHashMap<>(entityCapacity);
+        entities = new Object[entityCapacity];
+        entityValueOrdinals = new int[entityCapacity];
+        entityInversePositions = new int[entityCapacity];
+        entityCount = 0;
+        freeEntityOrdinals = new int[INITIAL_CAPACITY];
+        freeEntityOrdinalCount = 0;
+        lastEntity = null;
+        lastEntityOrdinal = NO_ORDINAL;
+        valueOrdinalMap = new IdentityHashMap<>(INITIAL_CAPACITY);
+        values = new Object[INITIAL_CAPACITY];
+        valueInverseEntityOrdinals = new int[INITIAL_CAPACITY][];
+        valueInverseSizes = new int[INITIAL_CAPACITY];
+        valueModCounts = new int[INITIAL_CAPACITY];
+        valueCount = 0;
+        for (Object entity : entityList) {
+            insert(entity, assignEntityOrdinal(entity));
+        }
+    }
+
+    @Override
+    public void clearWorkingSolution(ScoreDirector scoreDirector) {
+        entityOrdinalMap = null;
+        entities = null;
+        entityValueOrdinals = null;
+        entityInversePositions = null;
+        entityCount = 0;
+        freeEntityOrdinals = null;
+        freeEntityOrdinalCount = 0;
+        lastEntity = null;
+        lastEntityOrdinal = NO_ORDINAL;
+        valueOrdinalMap = null;
+        values = null;
+        valueInverseEntityOrdinals = null;
+        valueInverseSizes = null;
+        valueModCounts = null;
+        valueCount = 0;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        insert(entity, assignEntityOrdinal(entity));
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        retract(entity, lookUpEntityOrdinal(entity));
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        insert(entity, lookUpEntityOrdinal(entity));
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        int entityOrdinal = lookUpEntityOrdinal(entity);
+        retract(entity, entityOrdinal);
+        releaseEntityOrdinal(entity, entityOrdinal);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void insert(Object entity, int entityOrdinal) {
+        Object value = sourceVariableDescriptor.getValue(entity);
+        if (value == null) {
+            return;
+        }
+        if (entityValueOrdinals[entityOrdinal] != NO_ORDINAL) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") for sourceVariable (" + sourceVariableDescriptor.getVariableName()
+                    + ") cannot be inserted: it was already inserted.");
+        }
+        int valueOrdinal = findOrAssignValueOrdinal(value);
+        int[] inverseEntityOrdinals = valueInverseEntityOrdinals[valueOrdinal];
+        int inverseSize = valueInverseSizes[valueOrdinal];
+        if (inverseSize == inverseEntityOrdinals.length) {
+            inverseEntityOrdinals = Arrays.copyOf(inverseEntityOrdinals, inverseSize * 2);
+            valueInverseEntityOrdinals[valueOrdinal] = inverseEntityOrdinals;
+        }
+        inverseEntityOrdinals[inverseSize] = entityOrdinal;
+        valueInverseSizes[valueOrdinal] = inverseSize + 1;
+        valueModCounts[valueOrdinal]++;
+        entityValueOrdinals[entityOrdinal] = valueOrdinal;
+        entityInversePositions[entityOrdinal] = inverseSize;
+    }
+
+    protected void retract(Object entity, int entityOrdinal) {
+        Object value = sourceVariableDescriptor.getValue(entity);
+        if (value == null) {
+            return;
+        }
+        int valueOrdinal = entityValueOrdinals[entityOrdinal];
+        if (valueOrdinal == NO_ORDINAL || values[valueOrdinal] != value) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") for sourceVariable (" + sourceVariableDescriptor.getVariableName()
+                    + ") cannot be retracted: it was never inserted.");
+        }
+        int[] inverseEntityOrdinals = valueInverseEntityOrdinals[valueOrdinal];
+        int lastPosition = valueInverseSizes[valueOrdinal] - 1;
+        int position = entityInversePositions[entityOrdinal];
+        int lastInverseEntityOrdinal = inverseEntityOrdinals[lastPosition];
+        inverseEntityOrdinals[position] = lastInverseEntityOrdinal;
+        entityInversePositions[lastInverseEntityOrdinal] = position;
+        valueInverseSizes[valueOrdinal] = lastPosition;
+        valueModCounts[valueOrdinal]++;
+        entityValueOrdinals[entityOrdinal] = NO_ORDINAL;
+    }
+
+    private int lookUpEntityOrdinal(Object entity) {
+        if (entity == lastEntity) {
+            return lastEntityOrdinal;
+        }
+        Integer entityOrdinal = entityOrdinalMap.get(entity);
+        if (entityOrdinal == null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") for sourceVariable (" + sourceVariableDescriptor.getVariableName()
+                    + ") was never added.");
+        }
+        lastEntity = entity;
+        lastEntityOrdinal = entityOrdinal;
+        return entityOrdinal;
+    }
+
+    private int assignEntityOrdinal(Object entity) {
+        int entityOrdinal;
+        if (freeEntityOrdinalCount > 0) {
+            freeEntityOrdinalCount--;
+            entityOrdinal = freeEntityOrdinals[freeEntityOrdinalCount];
+        } else {
+            if (entityCount == entities.length) {
+                int capacity = entityCount * 2;
+                entities = Arrays.copyOf(entities, capacity);
+                entityValueOrdinals = Arrays.copyOf(entityValueOrdinals, capacity);
+                entityInversePositions = Arrays.copyOf(entityInversePositions, capacity);
+            }
+            entityOrdinal = entityCount;
+            entityCount++;
+        }
+        Integer oldEntityOrdinal = entityOrdinalMap.put(entity, entityOrdinal);
+        if (oldEntityOrdinal != null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") for sourceVariable (" + sourceVariableDescriptor.getVariableName()
+                    + ") cannot be added: it was already added.");
+        }
+        entities[entityOrdinal] = entity;
+        entityValueOrdinals[entityOrdinal] = NO_ORDINAL;
+        return entityOrdinal;
+    }
+
+    private void releaseEntityOrdinal(Object entity, int entityOrdinal) {
+        entityOrdinalMap.remove(entity);
+        entities[entityOrdinal] = null;
+        if (freeEntityOrdinalCount == freeEntityOrdinals.length) {
+            freeEntityOrdinals = Arrays.copyOf(freeEntityOrdinals, freeEntityOrdinalCount * 2);
+        }
+        freeEntityOrdinals[freeEntityOrdinalCount] = entityOrdinal;
+        freeEntityOrdinalCount++;
+        if (entity == lastEntity) {
+            lastEntity = null;
+            lastEntityOrdinal = NO_ORDINAL;
+        }
+    }
+
+    private int findOrAssignValueOrdinal(Object value) {
+        Integer valueOrdinal = valueOrdinalMap.get(value);
+        if (valueOrdinal != null) {
+            return valueOrdinal;
+        }
+        if (valueCount == values.length) {
+            int capacity = valueCount * 2;
+            values = Arrays.copyOf(values, capacity);
+            valueInverseEntityOrdinals = Arrays.copyOf(valueInverseEntityOrdinals, capacity);
+            valueInverseSizes = Arrays.copyOf(valueInverseSizes, capacity);
+            valueModCounts = Arrays.copyOf(valueModCounts, capacity);
+        }
+        int newValueOrdinal = valueCount;
+        valueCount++;
+        valueOrdinalMap.put(value, newValueOrdinal);
+        values[newValueOrdinal] = value;
+        valueInverseEntityOrdinals[newValueOrdinal] = new int[INITIAL_INVERSE_CAPACITY];
+        valueInverseSizes[newValueOrdinal] = 0;
+        return newValueOrdinal;
+    }
+
+    @Override
+    public Collection<?> getInverseCollection(Object value) {
+        Integer valueOrdinal = valueOrdinalMap.get(value);
+        if (valueOrdinal == null) {
+            return Collections.emptySet();
+        }
+        return new InverseCollection(valueOrdinal);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+    /**
+     * A live, read-only view of the inverse entities of 1 planning value.
+     * Its iterators are fail-fast: they throw a {@link ConcurrentModificationException}
+     * if the inverse entities changed since the iterator was created.
+     */
+    private class InverseCollection extends AbstractCollection<Object> {
+
+        private final int valueOrdinal;
+
+        public InverseCollection(int valueOrdinal) {
+            this.valueOrdinal = valueOrdinal;
+        }
+
+        @Override
+        public int size() {
+            return valueInverseSizes[valueOrdinal];
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            // Identity based, like an identity hash based set
+            Integer entityOrdinal = entityOrdinalMap.get(o);
+            return entityOrdinal != null && entityValueOrdinals[entityOrdinal] == valueOrdinal;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+
+                private final int expectedModCount = valueModCounts[valueOrdinal];
+                private int position = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return position < valueInverseSizes[valueOrdinal];
+                }
+
+                @Override
+                public Object next() {
+                    if (valueModCounts[valueOrdinal] != expectedModCount) {
+                        throw new ConcurrentModificationException("The inverse entities of the value ("
+                                + values[valueOrdinal] + ") for sourceVariable ("
+                                + sourceVariableDescriptor.getVariableName()
+                                + ") changed during iteration.");
+                    }
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int entityOrdinal = valueInverseEntityOrdinals[valueOrdinal][position];
+                    position++;
+                    return entities[entityOrdinal];
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * A {@link VariableListener} that receives all variable changes of a
+ * {@link ScoreDirector#triggerVariableListeners()} at once,
+ * so it can propagate through a shared downstream structure (such as a chain suffix) only once,
+ * instead of once per changed entity.
+ * <p>
+ * {@link #afterVariableChanged(ScoreDirector, Object)} is never called by Planner,
+ * {@link #afterVariablesChanged(ScoreDirector, List)} is called instead.
+ * The added and removed entities are still notified one by one, before that batch.
+ */
+public interface BatchVariableListener<Entity_> extends VariableListener<Entity_> {
+
+    /**
+     * @param scoreDirector never null
+     * @param entityList never null, never empty, in notification order,
+     * contains duplicates unless {@link #requiresUniqueEntityEvents()} is true.
+     * It is reused by Planner after this call returns, so do not modify it or hold on to it.
+     */
+    void afterVariablesChanged(ScoreDirector scoreDirector, List<Entity_> entityList);
+
+}
@@ -16,11 +16,10 @@
 
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Set;
+import java.util.List;
 
+import org.optaplanner.core.impl.domain.variable.listener.BatchVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 
 public class VariableListenerNotifiable implements Comparable<VariableListenerNotifiable> {
@@ -28,16 +27,17 @@ public class VariableListenerNotifiable implements Comparable<VariableListenerNo
     protected final VariableListener variableListener;
     protected final int globalOrder;
 
-    protected final Collection<VariableListenerNotification> notificationQueue;
+    protected final VariableListenerNotificationQueue notificationQueue;
+    /**
+     * Only used for a {@link BatchVariableListener}, reused for every batch.
+     */
+    protected final List<Object> batchEntityList;
 
     public VariableListenerNotifiable(VariableListener variableListener, int globalOrder) {
         this.variableListener = variableListener;
         this.globalOrder = globalOrder;
-        if (variableListener.requiresUniqueEntityEvents()) {
-            notificationQueue = new SmallScalingOrderedSet<>();
-        } else {
-            notificationQueue = new ArrayDeque<>();
-        }
+        notificationQueue = new VariableListenerNotificationQueue(variableListener.requiresUniqueEntityEvents());
+        batchEntityList = (variableListener instanceof BatchVariableListener) ? new ArrayList<>() : null;
     }
 
     public VariableListener getVariableListener() {
@@ -48,10 +48,17 @@ public class VariableListenerNotifiable implements Comparable<VariableListenerNo
         return globalOrder;
     }
 
-    public Collection<VariableListenerNotification> getNotificationQueue() {
+    public VariableListenerNotificationQueue getNotificationQueue() {
         return notificationQueue;
     }
 
+    /**
+     * @return null if the {@link #getVariableListener()} is not a {@link BatchVariableListener}
+     */
+    public List<Object> getBatchEntityList() {
+        return batchEntityList;
+    }
+
     @Override
     public int compareTo(VariableListenerNotifiable other) {
         if (globalOrder < other.globalOrder) {
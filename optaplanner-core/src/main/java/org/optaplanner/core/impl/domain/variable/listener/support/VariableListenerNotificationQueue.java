@@ -0,0 +1,168 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import java.util.Arrays;
+
+import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
+
+/**
+ * An insertion ordered queue of (entity, {@link VariableListenerNotificationType}) pairs,
+ * held in parallel arrays that are reused after every {@link #clear()},
+ * so adding a notification doesn't allocate once the queue has grown to its working size.
+ * <p>
+ * If unique, a pair that is already in the queue is not added again.
+ * The pairs are deduplicated on entity identity (not {@link Object#equals(Object)})
+ * with an open addressing table that holds queue indexes.
+ * Each slot is stamped with the epoch in which it was filled,
+ * so {@link #clear()} only needs to increment the epoch instead of wiping the table.
+ */
+public final class VariableListenerNotificationQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final VariableListenerNotificationType[] TYPES = VariableListenerNotificationType.values();
+
+    private final boolean unique;
+
+    private Object[] entities;
+    private byte[] typeOrdinals;
+    private int size;
+
+    // Only used if unique
+    private int[] slotEpochs;
+    private int[] slotIndexes;
+    private int slotMask;
+    private int epoch;
+
+    /**
+     * @param unique true if {@link VariableListener#requiresUniqueEntityEvents()}
+     */
+    public VariableListenerNotificationQueue(boolean unique) {
+        this.unique = unique;
+        entities = new Object[INITIAL_CAPACITY];
+        typeOrdinals = new byte[INITIAL_CAPACITY];
+        size = 0;
+        if (unique) {
+            createSlots(INITIAL_CAPACITY);
+        }
+    }
+
+    /**
+     * @param entity never null
+     * @param type never null
+     * @return true if it was added, false if unique and it was already in the queue
+     */
+    public boolean add(Object entity, VariableListenerNotificationType type) {
+        if (size == entities.length) {
+            grow();
+        }
+        byte typeOrdinal = (byte) type.ordinal();
+        if (unique) {
+            int slot = findSlot(entity, typeOrdinal);
+            if (slotEpochs[slot] == epoch) {
+                return false;
+            }
+            slotEpochs[slot] = epoch;
+            slotIndexes[slot] = size;
+        }
+        entities[size] = entity;
+        typeOrdinals[size] = typeOrdinal;
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index {@code 0 <= index < }{@link #size()}
+     * @return never null
+     */
+    public Object getEntity(int index) {
+        return entities[index];
+    }
+
+    /**
+     * @param index {@code 0 <= index < }{@link #size()}
+     * @return never null
+     */
+    public VariableListenerNotificationType getType(int index) {
+        return TYPES[typeOrdinals[index]];
+    }
+
+    public void clear() {
+        // Do not hold on to entities of a previous working solution
+        Arrays.fill(entities, 0, size, null);
+        size = 0;
+        if (unique) {
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(slotEpochs, 0);
+                epoch = 1;
+            } else {
+                epoch++;
+            }
+        }
+    }
+
+    private void createSlots(int capacity) {
+        // Twice the capacity keeps the load factor at or below 0.5
+        int slotCapacity = capacity * 2;
+        slotEpochs = new int[slotCapacity];
+        slotIndexes = new int[slotCapacity];
+        slotMask = slotCapacity - 1;
+        epoch = 1;
+    }
+
+    private int findSlot(Object entity, byte typeOrdinal) {
+        int hash = System.identityHashCode(entity) * 31 + typeOrdinal;
+        int slot = (hash ^ (hash >>> 16)) & slotMask;
+        while (slotEpochs[slot] == epoch) {
+            int index = slotIndexes[slot];
+            if (entities[index] == entity && typeOrdinals[index] == typeOrdinal) {
+                return slot;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        typeOrdinals = Arrays.copyOf(typeOrdinals, capacity);
+        if (unique) {
+            createSlots(capacity);
+            for (int i = 0; i < size; i++) {
+                int slot = findSlot(entities[i], typeOrdinals[i]);
+                slotEpochs[slot] = epoch;
+                slotIndexes[slot] = i;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationQueue(" + size + ")";
+    }
+
+}
@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -30,6 +29,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.BatchVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
@@ -149,9 +149,8 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
     public void beforeEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         List<VariableListenerNotifiable> notifiableList = sourceEntityToNotifiableMap.get(entityDescriptor);
         for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            boolean added = notificationQueue.add(
-                    new VariableListenerNotification(entity, VariableListenerNotificationType.ENTITY_ADDED));
+            VariableListenerNotificationQueue notificationQueue = notifiable.getNotificationQueue();
+            boolean added = notificationQueue.add(entity, VariableListenerNotificationType.ENTITY_ADDED);
             if (added) {
                 notifiable.getVariableListener().beforeEntityAdded(scoreDirector, entity);
             }
@@ -166,9 +165,8 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
     public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
         List<VariableListenerNotifiable> notifiableList = sourceVariableToNotifiableMap.get(variableDescriptor);
         for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            boolean added = notificationQueue.add(
-                    new VariableListenerNotification(entity, VariableListenerNotificationType.VARIABLE_CHANGED));
+            VariableListenerNotificationQueue notificationQueue = notifiable.getNotificationQueue();
+            boolean added = notificationQueue.add(entity, VariableListenerNotificationType.VARIABLE_CHANGED);
             if (added) {
                 notifiable.getVariableListener().beforeVariableChanged(scoreDirector, entity);
             }
@@ -183,9 +181,8 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         List<VariableListenerNotifiable> notifiableList = sourceEntityToNotifiableMap.get(entityDescriptor);
         for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            boolean added = notificationQueue.add(
-                    new VariableListenerNotification(entity, VariableListenerNotificationType.ENTITY_REMOVED));
+            VariableListenerNotificationQueue notificationQueue = notifiable.getNotificationQueue();
+            boolean added = notificationQueue.add(entity, VariableListenerNotificationType.ENTITY_REMOVED);
             if (added) {
                 notifiable.getVariableListener().beforeEntityRemoved(scoreDirector, entity);
             }
@@ -199,26 +196,34 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
 
     public void triggerVariableListenersInNotificationQueues() {
         for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            int notifiedCount = 0;
+            VariableListenerNotificationQueue notificationQueue = notifiable.getNotificationQueue();
+            int notifiedCount = notificationQueue.size();
             VariableListener variableListener = notifiable.getVariableListener();
-            for (VariableListenerNotification notification : notificationQueue) {
-                Object entity = notification.getEntity();
-                switch (notification.getType()) {
+            List<Object> batchEntityList = notifiable.getBatchEntityList();
+            for (int i = 0; i < notifiedCount; i++) {
+                Object entity = notificationQueue.getEntity(i);
+                switch (notificationQueue.getType(i)) {
                     case ENTITY_ADDED:
                         variableListener.afterEntityAdded(scoreDirector, entity);
                         break;
                     case VARIABLE_CHANGED:
-                        variableListener.afterVariableChanged(scoreDirector, entity);
+                        if (batchEntityList != null) {
+                            batchEntityList.add(entity);
+                        } else {
+                            variableListener.afterVariableChanged(scoreDirector, entity);
+                        }
                         break;
                     case ENTITY_REMOVED:
                         variableListener.afterEntityRemoved(scoreDirector, entity);
                         break;
                     default:
                         throw new IllegalStateException("The variableListenerNotificationType ("
-                                + notification.getType() + ") is not implemented.");
+                                + notificationQueue.getType(i) + ") is not implemented.");
                 }
-                notifiedCount++;
+            }
+            if (batchEntityList != null && !batchEntityList.isEmpty()) {
+                ((BatchVariableListener) variableListener).afterVariablesChanged(scoreDirector, batchEntityList);
+                batchEntityList.clear();
             }
             if (notifiedCount != notificationQueue.size()) {
                 throw new IllegalStateException("The variableListener (" + variableListener.getClass()
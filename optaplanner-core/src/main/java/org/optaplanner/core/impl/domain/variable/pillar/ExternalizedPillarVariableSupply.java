@@ -1,5 +1,5 @@
 /*
- * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -14,14 +14,15 @@
  * limitations under the License.
  */
 
-package org.optaplanner.core.impl.domain.variable.inverserelation;
+package org.optaplanner.core.impl.domain.variable.pillar;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -29,15 +30,22 @@ import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListen
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 
 /**
- * Alternative to {@link CollectionInverseVariableListener}.
+ * Groups the entities by their value for the source variable
+ * and moves an entity to another pillar when its value changes,
+ * so the pillars never need to be regrouped from scratch.
  */
-public class ExternalizedCollectionInverseVariableSupply implements StatefulVariableListener<Object>, CollectionInverseVariableSupply {
+public class ExternalizedPillarVariableSupply implements StatefulVariableListener<Object>, PillarVariableSupply {
 
     protected final VariableDescriptor sourceVariableDescriptor;
 
-    protected Map<Object, Set<Object>> inverseEntitySetMap = null;
+    protected Map<Object, List<Object>> valueToPillarMap = null;
+    /**
+     * The index of each entity in its pillar, to retract it in constant time
+     * by moving the last entity of that pillar into its place.
+     */
+    protected Map<Object, Integer> entityToPillarIndexMap = null;
 
-    public ExternalizedCollectionInverseVariableSupply(VariableDescriptor sourceVariableDescriptor) {
+    public ExternalizedPillarVariableSupply(VariableDescriptor sourceVariableDescriptor) {
         this.sourceVariableDescriptor = sourceVariableDescriptor;
     }
 
@@ -50,7 +58,9 @@ public class ExternalizedCollectionInverseVariableSupply implements StatefulVari
     public void resetWorkingSolution(ScoreDirector scoreDirector) {
         EntityDescriptor entityDescriptor = sourceVariableDescriptor.getEntityDescriptor();
         List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
-        inverseEntitySetMap = new IdentityHashMap<>(entityList.size());
+        // LinkedHashMap to keep the pillar order reproducible
+        valueToPillarMap = new LinkedHashMap<>();
+        entityToPillarIndexMap = new IdentityHashMap<>(entityList.size());
         for (Object entity : entityList) {
             insert(scoreDirector, entity);
         }
@@ -58,7 +68,8 @@ public class ExternalizedCollectionInverseVariableSupply implements StatefulVari
 
     @Override
     public void clearWorkingSolution(ScoreDirector scoreDirector) {
-        inverseEntitySetMap = null;
+        valueToPillarMap = null;
+        entityToPillarIndexMap = null;
     }
 
     @Override
@@ -93,48 +104,50 @@ public class ExternalizedCollectionInverseVariableSupply implements StatefulVari
 
     protected void insert(ScoreDirector scoreDirector, Object entity) {
         Object value = sourceVariableDescriptor.getValue(entity);
-        if (value == null) {
-            return;
+        List<Object> pillar = valueToPillarMap.get(value);
+        if (pillar == null) {
+            pillar = new ArrayList<>();
+            valueToPillarMap.put(value, pillar);
         }
-        Set<Object> inverseEntitySet = inverseEntitySetMap.get(value);
-        if (inverseEntitySet == null) {
-            inverseEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
-            inverseEntitySetMap.put(value, inverseEntitySet);
-        }
-        boolean addSucceeded = inverseEntitySet.add(entity);
-        if (!addSucceeded) {
+        Integer oldIndex = entityToPillarIndexMap.put(entity, pillar.size());
+        if (oldIndex != null) {
             throw new IllegalStateException("The supply (" + this + ") is corrupted,"
                     + " because the entity (" + entity
                     + ") for sourceVariable (" + sourceVariableDescriptor.getVariableName()
                     + ") cannot be inserted: it was already inserted.");
         }
+        pillar.add(entity);
     }
 
     protected void retract(ScoreDirector scoreDirector, Object entity) {
         Object value = sourceVariableDescriptor.getValue(entity);
-        if (value == null) {
-            return;
-        }
-        Set<Object> inverseEntitySet = inverseEntitySetMap.get(value);
-        boolean removeSucceeded = inverseEntitySet.remove(entity);
-        if (!removeSucceeded) {
+        List<Object> pillar = valueToPillarMap.get(value);
+        Integer index = entityToPillarIndexMap.remove(entity);
+        if (pillar == null || index == null || pillar.get(index) != entity) {
             throw new IllegalStateException("The supply (" + this + ") is corrupted,"
                     + " because the entity (" + entity
                     + ") for sourceVariable (" + sourceVariableDescriptor.getVariableName()
-                    + ") cannot be retracted: it was never inserted.");
+                    + ") cannot be retracted: the entity was never inserted for that value (" + value + ").");
         }
-        if (inverseEntitySet.isEmpty()) {
-            inverseEntitySetMap.put(value, null);
+        int lastIndex = pillar.size() - 1;
+        Object lastEntity = pillar.remove(lastIndex);
+        if (index != lastIndex) {
+            pillar.set(index, lastEntity);
+            entityToPillarIndexMap.put(lastEntity, index);
+        }
+        if (pillar.isEmpty()) {
+            valueToPillarMap.remove(value);
         }
     }
 
     @Override
-    public Collection<?> getInverseCollection(Object value) {
-        Set<Object> inverseEntitySet = inverseEntitySetMap.get(value);
-        if (inverseEntitySet == null) {
-            return Collections.emptySet();
-        }
-        return inverseEntitySet;
+    public Collection<List<Object>> getPillars() {
+        return Collections.unmodifiableCollection(valueToPillarMap.values());
+    }
+
+    @Override
+    public int getPillarCount() {
+        return valueToPillarMap.size();
     }
 
     @Override
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.pillar;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Only supported for a single genuine, non chained variable.
+ * <p>
+ * To get an instance, demand a {@link PillarVariableDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface PillarVariableSupply extends Supply {
+
+    /**
+     * The returned pillars are live: they change when a planning variable changes,
+     * so copy them before a {@link org.optaplanner.core.impl.heuristic.move.Move} is done on them.
+     * @return never null, every pillar is never empty
+     */
+    Collection<List<Object>> getPillars();
+
+    /**
+     * @return {@code >= 0}
+     */
+    int getPillarCount();
+
+}
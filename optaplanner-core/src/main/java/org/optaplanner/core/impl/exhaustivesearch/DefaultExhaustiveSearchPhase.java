@@ -48,6 +48,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
     protected Comparator<ExhaustiveSearchNode> nodeComparator;
     protected EntitySelector entitySelector;
     protected ExhaustiveSearchDecider<Solution_> decider;
+    protected int expandableNodeCountLimit = Integer.MAX_VALUE;
+    protected Comparator<ExhaustiveSearchNode> discardNodeComparator = null;
 
     protected boolean assertWorkingSolutionScoreFromScratch = false;
     protected boolean assertExpectedWorkingSolutionScore = false;
@@ -76,6 +78,26 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         this.decider = decider;
     }
 
+    public int getExpandableNodeCountLimit() {
+        return expandableNodeCountLimit;
+    }
+
+    public void setExpandableNodeCountLimit(int expandableNodeCountLimit) {
+        this.expandableNodeCountLimit = expandableNodeCountLimit;
+    }
+
+    public Comparator<ExhaustiveSearchNode> getDiscardNodeComparator() {
+        return discardNodeComparator;
+    }
+
+    /**
+     * @param discardNodeComparator null if the lowest node of the {@link #getNodeComparator() nodeComparator}
+     * is discarded when the {@link #getExpandableNodeCountLimit() expandableNodeCountLimit} is exceeded
+     */
+    public void setDiscardNodeComparator(Comparator<ExhaustiveSearchNode> discardNodeComparator) {
+        this.discardNodeComparator = discardNodeComparator;
+    }
+
     public void setAssertWorkingSolutionScoreFromScratch(boolean assertWorkingSolutionScoreFromScratch) {
         this.assertWorkingSolutionScoreFromScratch = assertWorkingSolutionScoreFromScratch;
     }
@@ -98,12 +120,16 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         SortedSet<ExhaustiveSearchNode> expandableNodeQueue = new TreeSet<>(nodeComparator);
         ExhaustiveSearchPhaseScope<Solution_> phaseScope = new ExhaustiveSearchPhaseScope<>(solverScope);
         phaseScope.setExpandableNodeQueue(expandableNodeQueue);
+        phaseScope.setExpandableNodeCountLimit(expandableNodeCountLimit);
+        if (expandableNodeCountLimit != Integer.MAX_VALUE && discardNodeComparator != null) {
+            phaseScope.setDiscardableNodeQueue(new TreeSet<>(discardNodeComparator));
+        }
         phaseStarted(phaseScope);
 
         while (!expandableNodeQueue.isEmpty() && !termination.isPhaseTerminated(phaseScope)) {
             ExhaustiveSearchStepScope<Solution_> stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
             ExhaustiveSearchNode node = expandableNodeQueue.last();
-            expandableNodeQueue.remove(node);
+            phaseScope.removeExpandableNode(node);
             stepScope.setExpandingNode(node);
             stepStarted(stepScope);
             restoreWorkingSolution(stepScope);
@@ -255,6 +281,12 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
                 phaseScope.getBestScore(),
                 phaseScope.getPhaseScoreCalculationSpeed(),
                 phaseScope.getNextStepIndex());
+        if (phaseScope.getDiscardedNodeCount() > 0L) {
+            logger.warn("Exhaustive Search phase ({}) discarded {} nodes because of the expandableNodeCountLimit ({}),"
+                            + " so the best score ({}) is not guaranteed to be optimal.",
+                    phaseIndex, phaseScope.getDiscardedNodeCount(), expandableNodeCountLimit,
+                    phaseScope.getBestScore());
+        }
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
 import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
+import org.optaplanner.core.impl.exhaustivesearch.node.comparator.OptimisticBoundFirstNodeComparator;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
@@ -34,6 +35,10 @@ public class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseScope<So
 
     private List<ExhaustiveSearchLayer> layerList;
     private SortedSet<ExhaustiveSearchNode> expandableNodeQueue;
+    private boolean expandableNodeQueueSortedByOptimisticBound;
+    private int expandableNodeCountLimit = Integer.MAX_VALUE;
+    private SortedSet<ExhaustiveSearchNode> discardableNodeQueue = null;
+    private long discardedNodeCount = 0L;
     private Score bestPessimisticBound;
 
     private ExhaustiveSearchStepScope<Solution_> lastCompletedStepScope;
@@ -57,6 +62,37 @@ public class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseScope<So
 
     public void setExpandableNodeQueue(SortedSet<ExhaustiveSearchNode> expandableNodeQueue) {
         this.expandableNodeQueue = expandableNodeQueue;
+        expandableNodeQueueSortedByOptimisticBound
+                = expandableNodeQueue.comparator() instanceof OptimisticBoundFirstNodeComparator;
+    }
+
+    public int getExpandableNodeCountLimit() {
+        return expandableNodeCountLimit;
+    }
+
+    public void setExpandableNodeCountLimit(int expandableNodeCountLimit) {
+        this.expandableNodeCountLimit = expandableNodeCountLimit;
+    }
+
+    public SortedSet<ExhaustiveSearchNode> getDiscardableNodeQueue() {
+        return discardableNodeQueue;
+    }
+
+    /**
+     * @param discardableNodeQueue null if the first node of the {@link #getExpandableNodeQueue() expandableNodeQueue}
+     * is the least promising one, otherwise an empty queue with the same nodes in a different order,
+     * sorted from the least promising to the most promising node
+     */
+    public void setDiscardableNodeQueue(SortedSet<ExhaustiveSearchNode> discardableNodeQueue) {
+        this.discardableNodeQueue = discardableNodeQueue;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of expandable nodes thrown away because of the
+     * {@link #getExpandableNodeCountLimit() expandableNodeCountLimit}
+     */
+    public long getDiscardedNodeCount() {
+        return discardedNodeCount;
     }
 
     public Score getBestPessimisticBound() {
@@ -88,12 +124,18 @@ public class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseScope<So
     public void registerPessimisticBound(Score pessimisticBound) {
         if (pessimisticBound.compareTo(bestPessimisticBound) > 0) {
             bestPessimisticBound = pessimisticBound;
-            // TODO optimize this because expandableNodeQueue is too long to iterate
+            // The queue is iterated from the worst node to the best node
             for (Iterator<ExhaustiveSearchNode> iterator = expandableNodeQueue.iterator(); iterator.hasNext(); ) {
-                // Prune it
                 ExhaustiveSearchNode node = iterator.next();
                 if (node.getOptimisticBound().compareTo(bestPessimisticBound) <= 0) {
+                    // Prune it
                     iterator.remove();
+                    if (discardableNodeQueue != null) {
+                        discardableNodeQueue.remove(node);
+                    }
+                } else if (expandableNodeQueueSortedByOptimisticBound) {
+                    // All remaining nodes have a better optimistic bound, so none of them can be pruned
+                    break;
                 }
             }
         }
@@ -102,6 +144,28 @@ public class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseScope<So
     public void addExpandableNode(ExhaustiveSearchNode moveNode) {
         expandableNodeQueue.add(moveNode);
         moveNode.setExpandable(true);
+        if (discardableNodeQueue != null) {
+            discardableNodeQueue.add(moveNode);
+        }
+        if (expandableNodeQueue.size() > expandableNodeCountLimit) {
+            ExhaustiveSearchNode discardedNode;
+            if (discardableNodeQueue == null) {
+                // The last node is expanded first, so the first node is the least promising one
+                discardedNode = expandableNodeQueue.first();
+            } else {
+                discardedNode = discardableNodeQueue.first();
+            }
+            removeExpandableNode(discardedNode);
+            discardedNode.setExpandable(false);
+            discardedNodeCount++;
+        }
+    }
+
+    public void removeExpandableNode(ExhaustiveSearchNode node) {
+        expandableNodeQueue.remove(node);
+        if (discardableNodeQueue != null) {
+            discardableNodeQueue.remove(node);
+        }
     }
 
 }
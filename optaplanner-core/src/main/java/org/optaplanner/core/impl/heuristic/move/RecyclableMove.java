@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * A {@link Move} that can reinitialize an undo move that is no longer used,
+ * instead of allocating a new one for every evaluated move.
+ * @see UndoMovePool
+ */
+public interface RecyclableMove extends Move {
+
+    /**
+     * Does the same as {@link #createUndoMove(ScoreDirector)},
+     * but reinitializes the recycledUndoMove instead of creating a new instance if it is of the expected class.
+     * @param scoreDirector never null, the {@link ScoreDirector} on which the undo move will be done
+     * @param recycledUndoMove sometimes null, an undo move that is no longer referenced by anything else
+     * @return an undoMove which does the exact opposite of this move, never null,
+     * either the recycledUndoMove or a new instance
+     */
+    Move createUndoMove(ScoreDirector scoreDirector, Move recycledUndoMove);
+
+}
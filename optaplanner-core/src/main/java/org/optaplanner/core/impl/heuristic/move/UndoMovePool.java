@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Recycles the undo moves of {@link RecyclableMove}s.
+ * <p>
+ * Every undo move handed out stays reserved until it is {@link #release(RecyclableMove, Move) released}
+ * (or until the next {@link #reset()}). After that, it is recycled again,
+ * so the caller must not keep a reference to it past that point:
+ * for example the undo move of a picked step must be recreated with {@link Move#createUndoMove(ScoreDirector)}.
+ * <p>
+ * The pool grows to the highest number of undo moves reserved at the same time (per move class).
+ * Not thread-safe.
+ */
+public class UndoMovePool {
+
+    protected final Map<Class<? extends Move>, RecycledMoveList> recycledMoveListMap = new HashMap<>();
+
+    public Move createUndoMove(RecyclableMove move, ScoreDirector scoreDirector) {
+        Class<? extends Move> moveClass = move.getClass();
+        RecycledMoveList recycledMoveList = recycledMoveListMap.get(moveClass);
+        if (recycledMoveList == null) {
+            recycledMoveList = new RecycledMoveList();
+            recycledMoveListMap.put(moveClass, recycledMoveList);
+        }
+        if (recycledMoveList.recyclingUnsupported) {
+            return move.createUndoMove(scoreDirector);
+        }
+        Move recycledUndoMove = recycledMoveList.poll();
+        Move undoMove = move.createUndoMove(scoreDirector, recycledUndoMove);
+        if (recycledUndoMove == null) {
+            recycledMoveList.add(undoMove);
+        } else if (undoMove != recycledUndoMove) {
+            // For example a subclass that doesn't reinitialize the recycledUndoMove: stop pooling its undo moves
+            recycledMoveList.recyclingUnsupported = true;
+        }
+        return undoMove;
+    }
+
+    /**
+     * Makes an undo move available for recycling as soon as it has been done.
+     * @param move never null, the move that was passed to {@link #createUndoMove(RecyclableMove, ScoreDirector)}
+     * @param undoMove never null, the undo move returned by {@link #createUndoMove(RecyclableMove, ScoreDirector)}
+     */
+    public void release(RecyclableMove move, Move undoMove) {
+        RecycledMoveList recycledMoveList = recycledMoveListMap.get(move.getClass());
+        if (recycledMoveList == null) {
+            throw new IllegalArgumentException("The undoMove (" + undoMove
+                    + ") was not created by this pool for the move (" + move + ").");
+        }
+        recycledMoveList.release(undoMove);
+    }
+
+    /**
+     * Makes every undo move handed out so far available for recycling.
+     */
+    public void reset() {
+        for (RecycledMoveList recycledMoveList : recycledMoveListMap.values()) {
+            recycledMoveList.reset();
+        }
+    }
+
+    /**
+     * Only for assertions, because it is a linear search.
+     * @param move sometimes null
+     * @return true if the move instance is owned by this pool
+     */
+    public boolean isPooled(Move move) {
+        if (move == null) {
+            return false;
+        }
+        RecycledMoveList recycledMoveList = recycledMoveListMap.get(move.getClass());
+        if (recycledMoveList == null) {
+            return false;
+        }
+        for (Move pooledMove : recycledMoveList.moveList) {
+            if (pooledMove == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static class RecycledMoveList {
+
+        private final List<Move> moveList = new ArrayList<>();
+        private final Deque<Move> availableMoveDeque = new ArrayDeque<>();
+        private boolean recyclingUnsupported = false;
+
+        /**
+         * @return null if every pooled move is reserved
+         */
+        private Move poll() {
+            return availableMoveDeque.pollFirst();
+        }
+
+        private void add(Move move) {
+            moveList.add(move);
+        }
+
+        private void release(Move move) {
+            if (recyclingUnsupported) {
+                return;
+            }
+            availableMoveDeque.addFirst(move);
+        }
+
+        private void reset() {
+            availableMoveDeque.clear();
+            availableMoveDeque.addAll(moveList);
+        }
+
+    }
+
+}
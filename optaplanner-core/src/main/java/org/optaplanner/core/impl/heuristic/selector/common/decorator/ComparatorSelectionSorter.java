@@ -29,7 +29,7 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @param <T> the selection type
  */
-public class ComparatorSelectionSorter<Solution_, T> implements SelectionSorter<Solution_, T> {
+public class ComparatorSelectionSorter<Solution_, T> implements IncrementalSelectionSorter<Solution_, T> {
 
     private final Comparator<T> appliedComparator;
 
@@ -56,4 +56,19 @@ public class ComparatorSelectionSorter<Solution_, T> implements SelectionSorter<
         Collections.sort(selectionList, appliedComparator);
     }
 
+    @Override
+    public void insert(ScoreDirector<Solution_> scoreDirector, List<T> sortedSelectionList, T selection) {
+        int low = 0;
+        int high = sortedSelectionList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (appliedComparator.compare(sortedSelectionList.get(middle), selection) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        sortedSelectionList.add(low, selection);
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.decorator;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * A {@link SelectionSorter} that can also insert a single selection in a list that it sorted before,
+ * so a changed selection doesn't require to sort the entire list again.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <T> the selection type
+ */
+public interface IncrementalSelectionSorter<Solution_, T> extends SelectionSorter<Solution_, T> {
+
+    /**
+     * Inserts the selection after every selection that sorts before or equal to it,
+     * the same place a stable sort puts it.
+     * @param scoreDirector never null, the {@link ScoreDirector}
+     * which has the {@link ScoreDirector#getWorkingSolution()} to which the selections belong or apply to
+     * @param sortedSelectionList never null, already sorted by {@link #sort(ScoreDirector, List)}
+     * @param selection never null, not yet in the sortedSelectionList
+     */
+    void insert(ScoreDirector<Solution_> scoreDirector, List<T> sortedSelectionList, T selection);
+
+}
@@ -35,7 +35,7 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @param <T> the selection type
  */
-public class WeightFactorySelectionSorter<Solution_, T> implements SelectionSorter<Solution_, T> {
+public class WeightFactorySelectionSorter<Solution_, T> implements IncrementalSelectionSorter<Solution_, T> {
 
     private final SelectionSorterWeightFactory<Solution_, T> selectionSorterWeightFactory;
     private final Comparator<Comparable> appliedWeightComparator;
@@ -80,4 +80,28 @@ public class WeightFactorySelectionSorter<Solution_, T> implements SelectionSort
         selectionList.addAll(selectionMap.values());
     }
 
+    @Override
+    public void insert(ScoreDirector<Solution_> scoreDirector, List<T> sortedSelectionList, T selection) {
+        Solution_ solution = scoreDirector.getWorkingSolution();
+        Comparable difficultyWeight = selectionSorterWeightFactory.createSorterWeight(solution, selection);
+        int low = 0;
+        int high = sortedSelectionList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            T middleSelection = sortedSelectionList.get(middle);
+            int comparison = appliedWeightComparator.compare(
+                    selectionSorterWeightFactory.createSorterWeight(solution, middleSelection), difficultyWeight);
+            if (comparison == 0) {
+                // Consistent with sort(), which cannot hold 2 selections with the same weight either
+                throw new IllegalStateException("The sortedSelectionList contains a selection (" + middleSelection
+                        + ") with the same weight as the inserted selection (" + selection + ").");
+            } else if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        sortedSelectionList.add(low, selection);
+    }
+
 }
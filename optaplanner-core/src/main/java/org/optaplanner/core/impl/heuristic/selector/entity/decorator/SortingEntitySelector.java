@@ -16,36 +16,213 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.changed.ChangedEntityDemand;
+import org.optaplanner.core.impl.domain.variable.changed.ChangedEntitySupply;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.IncrementalSelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class SortingEntitySelector extends AbstractCachingEntitySelector {
 
     protected final SelectionSorter sorter;
+    /**
+     * If true, the {@link SelectionCacheType#STEP} cache survives the step
+     * and only the entities that changed are filtered and sorted again.
+     */
+    protected final boolean incrementalCacheEnabled;
+    /**
+     * Only used if {@link #incrementalCacheEnabled}: the filters between this selector
+     * and its {@link FromSolutionEntitySelector}, from outer to inner.
+     */
+    protected final List<FilteringEntitySelector> childFilteringEntitySelectorList;
+
+    protected List<ChangedEntitySupply> changedEntitySupplyList = null;
+    protected List<Object> changedEntitySink = null;
+    protected Long cachedEntityListRevision = null;
 
     public SortingEntitySelector(EntitySelector childEntitySelector, SelectionCacheType cacheType,
             SelectionSorter sorter) {
+        this(childEntitySelector, cacheType, sorter, false);
+    }
+
+    public SortingEntitySelector(EntitySelector childEntitySelector, SelectionCacheType cacheType,
+            SelectionSorter sorter, boolean incrementalCacheEnabled) {
         super(childEntitySelector, cacheType);
         this.sorter = sorter;
+        this.incrementalCacheEnabled = incrementalCacheEnabled;
+        if (incrementalCacheEnabled) {
+            if (cacheType != SelectionCacheType.STEP) {
+                throw new IllegalArgumentException("The selector (" + this
+                        + ") with incrementalCacheEnabled (" + incrementalCacheEnabled
+                        + ") has a cacheType (" + cacheType
+                        + ") that is not " + SelectionCacheType.STEP + ".");
+            }
+            if (!(sorter instanceof IncrementalSelectionSorter)) {
+                throw new IllegalArgumentException("The selector (" + this
+                        + ") with incrementalCacheEnabled (" + incrementalCacheEnabled
+                        + ") has a sorter (" + sorter
+                        + ") that does not implement " + IncrementalSelectionSorter.class.getSimpleName() + ".");
+            }
+            childFilteringEntitySelectorList = new ArrayList<>();
+            EntitySelector descendantEntitySelector = childEntitySelector;
+            while (descendantEntitySelector instanceof FilteringEntitySelector) {
+                FilteringEntitySelector filteringEntitySelector = (FilteringEntitySelector) descendantEntitySelector;
+                childFilteringEntitySelectorList.add(filteringEntitySelector);
+                descendantEntitySelector = filteringEntitySelector.childEntitySelector;
+            }
+            if (!(descendantEntitySelector instanceof FromSolutionEntitySelector)) {
+                throw new IllegalArgumentException("The selector (" + this
+                        + ") with incrementalCacheEnabled (" + incrementalCacheEnabled
+                        + ") has a descendant entitySelector (" + descendantEntitySelector
+                        + ") that is not a " + FromSolutionEntitySelector.class.getSimpleName()
+                        + " or a filter of it.");
+            }
+        } else {
+            childFilteringEntitySelectorList = null;
+        }
     }
 
     // ************************************************************************
-    // Worker methods
+    // Cache lifecycle methods
     // ************************************************************************
 
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        super.solvingStarted(solverScope);
+        if (incrementalCacheEnabled) {
+            changedEntitySupplyList = new ArrayList<>();
+            changedEntitySink = new ArrayList<>();
+            SupplyManager supplyManager = solverScope.getScoreDirector().getSupplyManager();
+            EntityDescriptor<?> entityDescriptor = childEntitySelector.getEntityDescriptor();
+            List<VariableDescriptor> variableDescriptorList = new ArrayList<>();
+            variableDescriptorList.addAll(entityDescriptor.getGenuineVariableDescriptors());
+            variableDescriptorList.addAll(entityDescriptor.getShadowVariableDescriptors());
+            for (VariableDescriptor variableDescriptor : variableDescriptorList) {
+                ChangedEntitySupply changedEntitySupply = supplyManager.demand(
+                        new ChangedEntityDemand(variableDescriptor));
+                changedEntitySupply.addChangedEntitySink(changedEntitySink);
+                changedEntitySupplyList.add(changedEntitySupply);
+            }
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope phaseScope) {
+        super.phaseEnded(phaseScope);
+        if (incrementalCacheEnabled) {
+            cachedEntityList = null;
+            cachedEntityListRevision = null;
+        }
+    }
+
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        super.solvingEnded(solverScope);
+        if (incrementalCacheEnabled) {
+            // The supplies outlive a solver restart, so deregister to avoid piling up sinks
+            for (ChangedEntitySupply changedEntitySupply : changedEntitySupplyList) {
+                changedEntitySupply.removeChangedEntitySink(changedEntitySink);
+            }
+            changedEntitySupplyList = null;
+            changedEntitySink = null;
+        }
+    }
+
     @Override
     public void constructCache(DefaultSolverScope solverScope) {
+        InnerScoreDirector scoreDirector = solverScope.getScoreDirector();
+        if (incrementalCacheEnabled && cachedEntityList != null
+                && !scoreDirector.isWorkingEntityListDirty(cachedEntityListRevision)) {
+            updateCache(scoreDirector);
+            return;
+        }
         super.constructCache(solverScope);
-        sorter.sort(solverScope.getScoreDirector(), cachedEntityList);
+        sorter.sort(scoreDirector, cachedEntityList);
         logger.trace("    Sorted cachedEntityList: size ({}), entitySelector ({}).",
                 cachedEntityList.size(), this);
+        if (incrementalCacheEnabled) {
+            cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+            flushChangedEntities();
+            changedEntitySink.clear();
+        }
     }
 
+    protected void flushChangedEntities() {
+        for (ChangedEntitySupply changedEntitySupply : changedEntitySupplyList) {
+            changedEntitySupply.flushChangedEntities();
+        }
+    }
+
+    /**
+     * Only filters and sorts the entities that changed since the last step,
+     * which presumes that the filters and the sorter of an entity only depend on that entity's own variables.
+     * @param scoreDirector never null
+     */
+    protected void updateCache(InnerScoreDirector scoreDirector) {
+        if (changedEntitySink.isEmpty()) {
+            return;
+        }
+        // Identity based, because planning entities might override equals()
+        Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>(changedEntitySink.size()));
+        // Keep the sink order, to insert in a reproducible order
+        List<Object> changedEntityList = new ArrayList<>(changedEntitySink.size());
+        for (Object entity : changedEntitySink) {
+            if (changedEntitySet.add(entity)) {
+                changedEntityList.add(entity);
+            }
+        }
+        changedEntitySink.clear();
+        cachedEntityList.removeIf(changedEntitySet::contains);
+        IncrementalSelectionSorter incrementalSorter = (IncrementalSelectionSorter) sorter;
+        for (Object entity : changedEntityList) {
+            if (accept(scoreDirector, entity)) {
+                incrementalSorter.insert(scoreDirector, cachedEntityList, entity);
+            }
+        }
+        logger.trace("    Updated cachedEntityList: size ({}), changed entities ({}), entitySelector ({}).",
+                cachedEntityList.size(), changedEntityList.size(), this);
+    }
+
+    protected boolean accept(InnerScoreDirector scoreDirector, Object entity) {
+        for (FilteringEntitySelector filteringEntitySelector : childFilteringEntitySelectorList) {
+            if (!filteringEntitySelector.accept(scoreDirector, entity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void disposeCache(DefaultSolverScope solverScope) {
+        if (!incrementalCacheEnabled) {
+            super.disposeCache(solverScope);
+        } else {
+            // The step has ended, so only the changes of the step move remain, not those of the evaluated moves.
+            // The cachedEntityList is updated in the next step and disposed in phaseEnded()
+            flushChangedEntities();
+        }
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
     @Override
     public boolean isNeverEnding() {
         return false;
@@ -27,12 +27,16 @@ import java.util.Map;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.pillar.PillarVariableDemand;
+import org.optaplanner.core.impl.domain.variable.pillar.PillarVariableSupply;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelector;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.value.chained.DefaultSubChainSelector;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
@@ -55,7 +59,14 @@ public class DefaultPillarSelector extends AbstractSelector
      */
     protected final int minimumSubPillarSize;
     protected final int maximumSubPillarSize;
+    /**
+     * True if the pillars can be maintained incrementally by a {@link PillarVariableSupply}:
+     * that requires a single variable and an entitySelector that selects all entities of that variable's
+     * {@link EntityDescriptor}, unfiltered and rebuilt every step.
+     */
+    protected final boolean pillarVariableSupplyEnabled;
 
+    protected PillarVariableSupply pillarVariableSupply = null;
     protected List<List<Object>> cachedBasePillarList = null;
 
     public DefaultPillarSelector(EntitySelector entitySelector,
@@ -96,6 +107,7 @@ public class DefaultPillarSelector extends AbstractSelector
         this.subPillarEnabled = subPillarEnabled;
         this.minimumSubPillarSize = minimumSubPillarSize;
         this.maximumSubPillarSize = maximumSubPillarSize;
+        pillarVariableSupplyEnabled = isPillarVariableSupplyApplicable(entitySelector, variableDescriptors);
         if (minimumSubPillarSize < 1) {
             throw new IllegalStateException("The selector (" + this
                     + ")'s minimumPillarSize (" + minimumSubPillarSize
@@ -114,6 +126,22 @@ public class DefaultPillarSelector extends AbstractSelector
         }
     }
 
+    private static boolean isPillarVariableSupplyApplicable(EntitySelector entitySelector,
+            Collection<GenuineVariableDescriptor> variableDescriptors) {
+        if (variableDescriptors.size() != 1 || !(entitySelector instanceof FromSolutionEntitySelector)) {
+            return false;
+        }
+        // The supply reflects the working solution at every step,
+        // so the entitySelector must not cache its entities for longer than a step
+        if (entitySelector.getCacheType() != SelectionCacheType.STEP) {
+            return false;
+        }
+        // The supply groups the entities of the variable's entity descriptor,
+        // which differ from the selected entities if the entitySelector is for another entity class
+        GenuineVariableDescriptor variableDescriptor = variableDescriptors.iterator().next();
+        return variableDescriptor.getEntityDescriptor() == entitySelector.getEntityDescriptor();
+    }
+
     @Override
     public EntityDescriptor getEntityDescriptor() {
         return entitySelector.getEntityDescriptor();
@@ -128,8 +156,33 @@ public class DefaultPillarSelector extends AbstractSelector
     // Cache lifecycle methods
     // ************************************************************************
 
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        super.solvingStarted(solverScope);
+        if (pillarVariableSupplyEnabled) {
+            SupplyManager supplyManager = solverScope.getScoreDirector().getSupplyManager();
+            pillarVariableSupply = supplyManager.demand(
+                    new PillarVariableDemand(variableDescriptors.iterator().next()));
+        }
+    }
+
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        super.solvingEnded(solverScope);
+        pillarVariableSupply = null;
+    }
+
     @Override
     public void constructCache(DefaultSolverScope solverScope) {
+        if (pillarVariableSupply != null) {
+            // The supply already grouped the entities, so only copy the pillars
+            // because a move changes the supply's pillars while it iterates them
+            cachedBasePillarList = new ArrayList<>(pillarVariableSupply.getPillarCount());
+            for (List<Object> pillar : pillarVariableSupply.getPillars()) {
+                cachedBasePillarList.add(new ArrayList<>(pillar));
+            }
+            return;
+        }
         long entitySize = entitySelector.getSize();
         if (entitySize > (long) Integer.MAX_VALUE) {
             throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
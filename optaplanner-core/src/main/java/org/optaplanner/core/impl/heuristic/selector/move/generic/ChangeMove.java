@@ -25,13 +25,15 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.RecyclableMove;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 
-public class ChangeMove extends AbstractMove {
+public class ChangeMove extends AbstractMove implements RecyclableMove {
 
-    protected final Object entity;
-    protected final GenuineVariableDescriptor variableDescriptor;
-    protected final Object toPlanningValue;
+    // Not final, so an undo move can be recycled
+    protected Object entity;
+    protected GenuineVariableDescriptor variableDescriptor;
+    protected Object toPlanningValue;
 
     public ChangeMove(Object entity, GenuineVariableDescriptor variableDescriptor,
             Object toPlanningValue) {
@@ -68,6 +70,19 @@ public class ChangeMove extends AbstractMove {
         return new ChangeMove(entity, variableDescriptor, oldValue);
     }
 
+    @Override
+    public Move createUndoMove(ScoreDirector scoreDirector, Move recycledUndoMove) {
+        if (getClass() != ChangeMove.class
+                || recycledUndoMove == null || recycledUndoMove.getClass() != ChangeMove.class) {
+            return createUndoMove(scoreDirector);
+        }
+        ChangeMove undoMove = (ChangeMove) recycledUndoMove;
+        undoMove.entity = entity;
+        undoMove.variableDescriptor = variableDescriptor;
+        undoMove.toPlanningValue = variableDescriptor.getValue(entity);
+        return undoMove;
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector scoreDirector) {
         scoreDirector.beforeVariableChanged(variableDescriptor, entity);
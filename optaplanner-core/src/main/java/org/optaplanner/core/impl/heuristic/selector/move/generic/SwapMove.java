@@ -30,17 +30,19 @@ import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescript
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.RecyclableMove;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class SwapMove<Solution_> extends AbstractMove {
+public class SwapMove<Solution_> extends AbstractMove implements RecyclableMove {
 
-    protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
+    // Not final, so an undo move can be recycled
+    protected List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
 
-    protected final Object leftEntity;
-    protected final Object rightEntity;
+    protected Object leftEntity;
+    protected Object rightEntity;
 
     public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
         this.variableDescriptorList = variableDescriptorList;
@@ -99,6 +101,19 @@ public class SwapMove<Solution_> extends AbstractMove {
         return new SwapMove<>(variableDescriptorList, rightEntity, leftEntity);
     }
 
+    @Override
+    public Move createUndoMove(ScoreDirector scoreDirector, Move recycledUndoMove) {
+        if (getClass() != SwapMove.class
+                || recycledUndoMove == null || recycledUndoMove.getClass() != SwapMove.class) {
+            return createUndoMove(scoreDirector);
+        }
+        SwapMove<Solution_> undoMove = (SwapMove<Solution_>) recycledUndoMove;
+        undoMove.variableDescriptorList = variableDescriptorList;
+        undoMove.leftEntity = rightEntity;
+        undoMove.rightEntity = leftEntity;
+        return undoMove;
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector scoreDirector) {
         for (GenuineVariableDescriptor variableDescriptor : variableDescriptorList) {
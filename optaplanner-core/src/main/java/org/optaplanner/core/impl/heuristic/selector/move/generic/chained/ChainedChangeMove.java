@@ -26,7 +26,7 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
 
 public class ChainedChangeMove extends ChangeMove {
 
-    protected final SingletonInverseVariableSupply inverseVariableSupply;
+    protected SingletonInverseVariableSupply inverseVariableSupply;
 
     public ChainedChangeMove(Object entity, GenuineVariableDescriptor variableDescriptor,
             SingletonInverseVariableSupply inverseVariableSupply, Object toPlanningValue) {
@@ -50,6 +50,20 @@ public class ChainedChangeMove extends ChangeMove {
         return new ChainedChangeMove(entity, variableDescriptor, inverseVariableSupply, oldValue);
     }
 
+    @Override
+    public Move createUndoMove(ScoreDirector scoreDirector, Move recycledUndoMove) {
+        if (getClass() != ChainedChangeMove.class
+                || recycledUndoMove == null || recycledUndoMove.getClass() != ChainedChangeMove.class) {
+            return createUndoMove(scoreDirector);
+        }
+        ChainedChangeMove undoMove = (ChainedChangeMove) recycledUndoMove;
+        undoMove.entity = entity;
+        undoMove.variableDescriptor = variableDescriptor;
+        undoMove.inverseVariableSupply = inverseVariableSupply;
+        undoMove.toPlanningValue = variableDescriptor.getValue(entity);
+        return undoMove;
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector scoreDirector) {
         Object oldValue = variableDescriptor.getValue(entity);
@@ -31,7 +31,7 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
  */
 public class ChainedSwapMove<Solution_> extends SwapMove<Solution_> {
 
-    protected final List<SingletonInverseVariableSupply> inverseVariableSupplyList;
+    protected List<SingletonInverseVariableSupply> inverseVariableSupplyList;
 
     public ChainedSwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList,
             List<SingletonInverseVariableSupply> inverseVariableSupplyList, Object leftEntity, Object rightEntity) {
@@ -48,6 +48,20 @@ public class ChainedSwapMove<Solution_> extends SwapMove<Solution_> {
         return new ChainedSwapMove<>(variableDescriptorList, inverseVariableSupplyList, rightEntity, leftEntity);
     }
 
+    @Override
+    public Move createUndoMove(ScoreDirector scoreDirector, Move recycledUndoMove) {
+        if (getClass() != ChainedSwapMove.class
+                || recycledUndoMove == null || recycledUndoMove.getClass() != ChainedSwapMove.class) {
+            return createUndoMove(scoreDirector);
+        }
+        ChainedSwapMove<Solution_> undoMove = (ChainedSwapMove<Solution_>) recycledUndoMove;
+        undoMove.variableDescriptorList = variableDescriptorList;
+        undoMove.inverseVariableSupplyList = inverseVariableSupplyList;
+        undoMove.leftEntity = rightEntity;
+        undoMove.rightEntity = leftEntity;
+        return undoMove;
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector scoreDirector) {
         for (int i = 0; i < variableDescriptorList.size(); i++) {
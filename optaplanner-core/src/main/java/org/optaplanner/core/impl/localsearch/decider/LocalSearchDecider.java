@@ -16,15 +16,21 @@
 
 package org.optaplanner.core.impl.localsearch.decider;
 
+import java.util.Comparator;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.RecyclableMove;
+import org.optaplanner.core.impl.heuristic.move.UndoMovePool;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.forager.Forager;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.comparator.NaturalScoreComparator;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
@@ -43,9 +49,16 @@ public class LocalSearchDecider<Solution_> {
     protected MoveSelector moveSelector;
     protected Acceptor acceptor;
     protected Forager forager;
+    protected UndoMovePool undoMovePool = null;
+    protected Comparator<Score> scoreComparator = NaturalScoreComparator.INSTANCE;
 
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
+    protected boolean assertUndoStepNotRecycled = false;
+
+    // Only used to reject a move early, before its score is fully calculated, once another move has been accepted
+    protected Score acceptableScoreLowerBound = null;
+    protected boolean acceptedMoveFound = false;
 
     public Termination getTermination() {
         return termination;
@@ -79,6 +92,25 @@ public class LocalSearchDecider<Solution_> {
         this.forager = forager;
     }
 
+    /**
+     * @param scoreComparator never null, usually {@link ScoreDefinition#getScoreComparator()}
+     */
+    public void setScoreComparator(Comparator<Score> scoreComparator) {
+        this.scoreComparator = scoreComparator;
+    }
+
+    public boolean isUndoMoveRecyclingEnabled() {
+        return undoMovePool != null;
+    }
+
+    /**
+     * @param undoMoveRecyclingEnabled true if the undo moves of {@link RecyclableMove}s are recycled
+     * from one step to the next
+     */
+    public void setUndoMoveRecyclingEnabled(boolean undoMoveRecyclingEnabled) {
+        undoMovePool = undoMoveRecyclingEnabled ? new UndoMovePool() : null;
+    }
+
     public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
         this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
     }
@@ -87,6 +119,10 @@ public class LocalSearchDecider<Solution_> {
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
     }
 
+    public void setAssertUndoStepNotRecycled(boolean assertUndoStepNotRecycled) {
+        this.assertUndoStepNotRecycled = assertUndoStepNotRecycled;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -104,6 +140,13 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
+        if (undoMovePool != null && assertUndoStepNotRecycled) {
+            Move lastUndoStep = stepScope.getPhaseScope().getLastCompletedStepScope().getUndoStep();
+            if (undoMovePool.isPooled(lastUndoStep)) {
+                throw new IllegalStateException("Impossible state: the undoStep (" + lastUndoStep
+                        + ") of the last completed step is still owned by the undo move pool.");
+            }
+        }
         moveSelector.stepStarted(stepScope);
         acceptor.stepStarted(stepScope);
         forager.stepStarted(stepScope);
@@ -112,6 +155,14 @@ public class LocalSearchDecider<Solution_> {
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         InnerScoreDirector scoreDirector = stepScope.getScoreDirector();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        MoveEvaluationProfiler moveEvaluationProfiler = stepScope.getPhaseScope().getSolverScope()
+                .getMoveEvaluationProfiler();
+        boolean sampled = moveEvaluationProfiler != null && moveEvaluationProfiler.isNextMoveSampled();
+        long selectionStartingTimeNanos = sampled ? System.nanoTime() : 0L;
+        // The score from scratch assertion needs the full score of every move
+        acceptableScoreLowerBound = assertMoveScoreFromScratch ? null
+                : acceptor.getAcceptableScoreLowerBound(stepScope);
+        acceptedMoveFound = false;
         int moveIndex = 0;
         for (Move move : moveSelector) {
             LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope);
@@ -122,7 +173,11 @@ public class LocalSearchDecider<Solution_> {
             if (!move.isMoveDoable(scoreDirector)) {
                 logger.trace("        Move index ({}) not doable, ignoring move ({}).", moveScope.getMoveIndex(), move);
             } else {
-                doMove(moveScope);
+                if (sampled) {
+                    doMove(moveScope, moveEvaluationProfiler, System.nanoTime() - selectionStartingTimeNanos);
+                } else {
+                    doMove(moveScope, null, 0L);
+                }
                 if (forager.isQuitEarly()) {
                     break;
                 }
@@ -130,8 +185,15 @@ public class LocalSearchDecider<Solution_> {
             if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
                 break;
             }
+            if (moveEvaluationProfiler != null) {
+                sampled = moveEvaluationProfiler.isNextMoveSampled();
+                if (sampled) {
+                    selectionStartingTimeNanos = System.nanoTime();
+                }
+            }
         }
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        acceptableScoreLowerBound = null;
         LocalSearchMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
             Move step = pickedMoveScope.getMove();
@@ -139,36 +201,124 @@ public class LocalSearchDecider<Solution_> {
             if (logger.isDebugEnabled()) {
                 stepScope.setStepString(step.toString());
             }
-            stepScope.setUndoStep(pickedMoveScope.getUndoMove());
+            if (undoMovePool != null && step instanceof RecyclableMove) {
+                // The picked undo move will be recycled, so create a new one that the step can keep.
+                // All moves have been undone, so the working solution is in the same state as before the step.
+                stepScope.setUndoStep(step.createUndoMove(scoreDirector));
+            } else {
+                stepScope.setUndoStep(pickedMoveScope.getUndoMove());
+            }
             stepScope.setScore(pickedMoveScope.getScore());
         }
     }
 
-    private void doMove(LocalSearchMoveScope<Solution_> moveScope) {
-        ScoreDirector scoreDirector = moveScope.getScoreDirector();
+    private Move createUndoMove(Move move, ScoreDirector scoreDirector) {
+        if (undoMovePool != null && move instanceof RecyclableMove) {
+            return undoMovePool.createUndoMove((RecyclableMove) move, scoreDirector);
+        }
+        return move.createUndoMove(scoreDirector);
+    }
+
+    private void releaseUndoMove(LocalSearchMoveScope<Solution_> moveScope) {
         Move move = moveScope.getMove();
-        Move undoMove = move.createUndoMove(scoreDirector);
+        if (undoMovePool != null && move instanceof RecyclableMove) {
+            undoMovePool.release((RecyclableMove) move, moveScope.getUndoMove());
+            // The next move will reinitialize the undo move, so the forager must not reach it through this moveScope
+            moveScope.setUndoMove(null);
+        }
+    }
+
+    /**
+     * @param moveScope never null
+     * @param moveEvaluationProfiler null if the evaluation of this move is not sampled
+     * @param selectionTimeNanos ignored if moveEvaluationProfiler is null
+     */
+    private void doMove(LocalSearchMoveScope<Solution_> moveScope,
+            MoveEvaluationProfiler moveEvaluationProfiler, long selectionTimeNanos) {
+        InnerScoreDirector<Solution_> scoreDirector = moveScope.getStepScope().getScoreDirector();
+        Move move = moveScope.getMove();
+        boolean profiled = moveEvaluationProfiler != null;
+        long doMoveStartingTimeNanos = profiled ? System.nanoTime() : 0L;
+        Move undoMove = createUndoMove(move, scoreDirector);
         moveScope.setUndoMove(undoMove);
+        long variableListenerStartingTimeNanos = 0L;
+        if (profiled) {
+            variableListenerStartingTimeNanos = scoreDirector.getMeasuredVariableListenerTimeNanos();
+            scoreDirector.setVariableListenerTimeMeasured(true);
+        }
         move.doMove(scoreDirector);
-        processMove(moveScope);
+        long scoreCalculationStartingTimeNanos = 0L;
+        long variableListenerTimeNanos = 0L;
+        if (profiled) {
+            scoreDirector.setVariableListenerTimeMeasured(false);
+            scoreCalculationStartingTimeNanos = System.nanoTime();
+            variableListenerTimeNanos = scoreDirector.getMeasuredVariableListenerTimeNanos()
+                    - variableListenerStartingTimeNanos;
+        }
+        boolean rejectedEarly = isRejectedEarly(moveScope, scoreDirector);
+        Score score = rejectedEarly ? null : moveScope.getStepScope().getPhaseScope().calculateScore();
+        long scoreCalculationEndingTimeNanos = profiled ? System.nanoTime() : 0L;
+        if (rejectedEarly) {
+            forager.addRejectedEarlyMove(moveScope);
+        } else {
+            processMove(moveScope, score);
+        }
+        // The acceptor and forager time (between the score calculation and the undo move) is not attributed
+        long undoMoveStartingTimeNanos = profiled ? System.nanoTime() : 0L;
         undoMove.doMove(scoreDirector);
+        if (profiled) {
+            moveEvaluationProfiler.moveEvaluated(move, selectionTimeNanos,
+                    scoreCalculationStartingTimeNanos - doMoveStartingTimeNanos - variableListenerTimeNanos,
+                    variableListenerTimeNanos,
+                    scoreCalculationEndingTimeNanos - scoreCalculationStartingTimeNanos,
+                    System.nanoTime() - undoMoveStartingTimeNanos);
+        }
         if (assertExpectedUndoMoveScore) {
             LocalSearchPhaseScope<Solution_> phaseScope = moveScope.getStepScope().getPhaseScope();
             phaseScope.assertExpectedUndoMoveScore(move, undoMove, phaseScope.getLastCompletedStepScope().getScore());
         }
-        logger.trace("        Move index ({}), score ({}), accepted ({}), move ({}).",
-                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
-                moveScope.getMove());
+        releaseUndoMove(moveScope);
+        if (rejectedEarly) {
+            logger.trace("        Move index ({}), rejected early, move ({}).",
+                    moveScope.getMoveIndex(), moveScope.getMove());
+        } else {
+            logger.trace("        Move index ({}), score ({}), accepted ({}), move ({}).",
+                    moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
+                    moveScope.getMove());
+        }
+    }
+
+    /**
+     * A move that is rejected early can never become a finalist of the {@link Forager},
+     * because another move has already been accepted during this step.
+     * So its score doesn't need to be fully calculated: the optimistic bound suffices.
+     * The optimistic bound is not the score of the move, so the score of its {@link LocalSearchMoveScope} stays null
+     * and it is only counted by {@link Forager#addRejectedEarlyMove(LocalSearchMoveScope)}.
+     */
+    private boolean isRejectedEarly(LocalSearchMoveScope<Solution_> moveScope,
+            InnerScoreDirector<Solution_> scoreDirector) {
+        if (acceptableScoreLowerBound == null || !acceptedMoveFound) {
+            return false;
+        }
+        Score optimisticScoreBound = scoreDirector.calculateOptimisticScoreBound();
+        if (optimisticScoreBound == null
+                || scoreComparator.compare(optimisticScoreBound, acceptableScoreLowerBound) >= 0) {
+            return false;
+        }
+        moveScope.setAccepted(false);
+        return true;
     }
 
-    private void processMove(LocalSearchMoveScope<Solution_> moveScope) {
-        Score score = moveScope.getStepScope().getPhaseScope().calculateScore();
+    private void processMove(LocalSearchMoveScope<Solution_> moveScope, Score score) {
         if (assertMoveScoreFromScratch) {
             moveScope.getStepScope().getPhaseScope().assertWorkingScoreFromScratch(score, moveScope.getMove());
         }
         moveScope.setScore(score);
         boolean accepted = acceptor.isAccepted(moveScope);
         moveScope.setAccepted(accepted);
+        if (accepted) {
+            acceptedMoveFound = true;
+        }
         forager.addMove(moveScope);
     }
 
@@ -179,6 +329,9 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        if (undoMovePool != null) {
+            undoMovePool.reset();
+        }
         moveSelector.phaseEnded(phaseScope);
         acceptor.phaseEnded(phaseScope);
         forager.phaseEnded(phaseScope);
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+/**
+ * Measures what the evaluation of a {@link Move} costs in the {@link LocalSearchDecider}.
+ * <p>
+ * To keep the overhead low, only a sample of the moves is measured: the other moves don't call {@link System#nanoTime()}.
+ * @see DefaultSolver#setMoveEvaluationProfiler(MoveEvaluationProfiler)
+ */
+public interface MoveEvaluationProfiler {
+
+    /**
+     * Called before every move selection, so the implementation decides the sampling rate.
+     * @return true if the next selected move should be measured
+     */
+    boolean isNextMoveSampled();
+
+    /**
+     * Called for every sampled move that is doable.
+     * @param move never null
+     * @param selectionTimeNanos {@code >= 0}, time spent by the move selector to select the move
+     * @param doMoveTimeNanos {@code >= 0}, time spent in {@link Move#createUndoMove(ScoreDirector)}
+     * and {@link Move#doMove(ScoreDirector)}, excluding the variable listener triggering
+     * @param variableListenerTimeNanos {@code >= 0}, time spent in {@link ScoreDirector#triggerVariableListeners()}
+     * during {@link Move#doMove(ScoreDirector)}
+     * @param scoreCalculationTimeNanos {@code >= 0}, time spent calculating the score
+     * @param undoMoveTimeNanos {@code >= 0}, time spent doing the undo move (including its variable listeners)
+     */
+    void moveEvaluated(Move move, long selectionTimeNanos, long doMoveTimeNanos, long variableListenerTimeNanos,
+            long scoreCalculationTimeNanos, long undoMoveTimeNanos);
+
+}
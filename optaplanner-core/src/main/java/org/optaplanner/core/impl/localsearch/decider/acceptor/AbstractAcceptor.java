@@ -16,7 +16,12 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor;
 
+import java.util.Comparator;
+
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.score.comparator.NaturalScoreComparator;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +33,15 @@ public abstract class AbstractAcceptor extends LocalSearchPhaseLifecycleListener
 
     protected final transient Logger logger = LoggerFactory.getLogger(getClass());
 
+    protected Comparator<Score> scoreComparator = NaturalScoreComparator.INSTANCE;
+
+    /**
+     * @param scoreComparator never null, usually {@link ScoreDefinition#getScoreComparator()}
+     */
+    public void setScoreComparator(Comparator<Score> scoreComparator) {
+        this.scoreComparator = scoreComparator;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
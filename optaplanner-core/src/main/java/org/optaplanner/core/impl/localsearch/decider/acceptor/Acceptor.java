@@ -16,10 +16,12 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.forager.Forager;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * An Acceptor accepts or rejects a selected {@link Move}.
@@ -34,4 +36,14 @@ public interface Acceptor extends LocalSearchPhaseLifecycleListener {
      */
     boolean isAccepted(LocalSearchMoveScope moveScope);
 
+    /**
+     * Allows the decider to reject a {@link Move} before its {@link Score} is fully calculated.
+     * @param stepScope not null
+     * @return null if a {@link Move} with any {@link Score} might be accepted during this step,
+     * otherwise a {@link Move} with a lower {@link Score} is never accepted during this step
+     */
+    default Score getAcceptableScoreLowerBound(LocalSearchStepScope stepScope) {
+        return null;
+    }
+
 }
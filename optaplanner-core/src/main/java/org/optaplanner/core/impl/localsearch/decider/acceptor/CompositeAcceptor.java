@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor;
 import java.util.Arrays;
 import java.util.List;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -77,6 +78,20 @@ public class CompositeAcceptor extends AbstractAcceptor {
         return true;
     }
 
+    @Override
+    public Score getAcceptableScoreLowerBound(LocalSearchStepScope stepScope) {
+        // Every acceptor must accept, so the highest lower bound applies
+        Score acceptableScoreLowerBound = null;
+        for (Acceptor acceptor : acceptorList) {
+            Score lowerBound = acceptor.getAcceptableScoreLowerBound(stepScope);
+            if (lowerBound != null
+                    && (acceptableScoreLowerBound == null || scoreComparator.compare(lowerBound, acceptableScoreLowerBound) > 0)) {
+                acceptableScoreLowerBound = lowerBound;
+            }
+        }
+        return acceptableScoreLowerBound;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope stepScope) {
         for (Acceptor acceptor : acceptorList) {
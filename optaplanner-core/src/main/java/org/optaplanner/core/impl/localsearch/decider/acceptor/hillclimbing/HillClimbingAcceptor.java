@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor.hillclimbing;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 public class HillClimbingAcceptor extends AbstractAcceptor {
 
@@ -30,7 +31,12 @@ public class HillClimbingAcceptor extends AbstractAcceptor {
     public boolean isAccepted(LocalSearchMoveScope moveScope) {
         Score moveScore = moveScope.getScore();
         Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
-        return moveScore.compareTo(lastStepScore) >= 0;
+        return scoreComparator.compare(moveScore, lastStepScore) >= 0;
+    }
+
+    @Override
+    public Score getAcceptableScoreLowerBound(LocalSearchStepScope stepScope) {
+        return stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
     }
 
 }
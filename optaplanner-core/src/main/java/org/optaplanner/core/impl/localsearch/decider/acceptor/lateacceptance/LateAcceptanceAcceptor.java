@@ -65,18 +65,30 @@ public class LateAcceptanceAcceptor extends AbstractAcceptor {
     public boolean isAccepted(LocalSearchMoveScope moveScope) {
         Score moveScore = moveScope.getScore();
         Score lateScore = previousScores[lateScoreIndex];
-        if (moveScore.compareTo(lateScore) >= 0) {
+        if (scoreComparator.compare(moveScore, lateScore) >= 0) {
             return true;
         }
         if (hillClimbingEnabled) {
             Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
-            if (moveScore.compareTo(lastStepScore) >= 0) {
+            if (scoreComparator.compare(moveScore, lastStepScore) >= 0) {
                 return true;
             }
         }
         return false;
     }
 
+    @Override
+    public Score getAcceptableScoreLowerBound(LocalSearchStepScope stepScope) {
+        Score lateScore = previousScores[lateScoreIndex];
+        if (hillClimbingEnabled) {
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            if (scoreComparator.compare(lastStepScore, lateScore) < 0) {
+                return lastStepScore;
+            }
+        }
+        return lateScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope stepScope) {
         super.stepEnded(stepScope);
@@ -72,7 +72,7 @@ public class SimulatedAnnealingAcceptor extends AbstractAcceptor {
         LocalSearchPhaseScope phaseScope = moveScope.getStepScope().getPhaseScope();
         Score lastStepScore = phaseScope.getLastCompletedStepScope().getScore();
         Score moveScore = moveScope.getScore();
-        if (moveScore.compareTo(lastStepScore) >= 0) {
+        if (scoreComparator.compare(moveScore, lastStepScore) >= 0) {
             return true;
         }
         Score moveScoreDifference = lastStepScore.subtract(moveScore);
@@ -60,10 +60,16 @@ public class StepCountingHillClimbingAcceptor extends AbstractAcceptor {
     public boolean isAccepted(LocalSearchMoveScope moveScope) {
         Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
         Score moveScore = moveScope.getScore();
-        if (moveScore.compareTo(lastStepScore) >= 0) {
+        if (scoreComparator.compare(moveScore, lastStepScore) >= 0) {
             return true;
         }
-        return moveScore.compareTo(thresholdScore) >= 0;
+        return scoreComparator.compare(moveScore, thresholdScore) >= 0;
+    }
+
+    @Override
+    public Score getAcceptableScoreLowerBound(LocalSearchStepScope stepScope) {
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return scoreComparator.compare(lastStepScore, thresholdScore) < 0 ? lastStepScore : thresholdScore;
     }
 
     @Override
@@ -136,8 +136,8 @@ public abstract class AbstractTabuAcceptor extends AbstractAcceptor {
             return true;
         }
         if (aspirationEnabled) {
-            // Natural comparison because shifting penalties don't apply
-            if (moveScope.getScore().compareTo(
+            // The ScoreDefinition's comparator (natural order) because shifting penalties don't apply
+            if (scoreComparator.compare(moveScope.getScore(),
                     moveScope.getStepScope().getPhaseScope().getBestScore()) > 0) {
                 logger.trace("        Proposed move ({}) is tabu, but is accepted anyway due to aspiration.",
                         moveScope.getMove());
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.localsearch.decider.forager;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.optaplanner.core.api.score.Score;
@@ -25,6 +26,8 @@ import org.optaplanner.core.impl.localsearch.decider.forager.finalist.FinalistPo
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.comparator.NaturalScoreComparator;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 /**
@@ -39,6 +42,8 @@ public class AcceptedForager extends AbstractForager {
     protected final int acceptedCountLimit;
     protected final boolean breakTieRandomly;
 
+    protected Comparator<Score> scoreComparator = NaturalScoreComparator.INSTANCE;
+
     protected long selectedMoveCount;
     protected long acceptedMoveCount;
 
@@ -56,6 +61,13 @@ public class AcceptedForager extends AbstractForager {
         this.breakTieRandomly = breakTieRandomly;
     }
 
+    /**
+     * @param scoreComparator never null, usually {@link ScoreDefinition#getScoreComparator()}
+     */
+    public void setScoreComparator(Comparator<Score> scoreComparator) {
+        this.scoreComparator = scoreComparator;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -97,20 +109,25 @@ public class AcceptedForager extends AbstractForager {
         finalistPodium.addMove(moveScope);
     }
 
+    @Override
+    public void addRejectedEarlyMove(LocalSearchMoveScope moveScope) {
+        selectedMoveCount++;
+    }
+
     protected void checkPickEarly(LocalSearchMoveScope moveScope) {
         switch (pickEarlyType) {
             case NEVER:
                 break;
             case FIRST_BEST_SCORE_IMPROVING:
                 Score bestScore = moveScope.getStepScope().getPhaseScope().getBestScore();
-                if (moveScope.getScore().compareTo(bestScore) > 0) {
+                if (scoreComparator.compare(moveScope.getScore(), bestScore) > 0) {
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
             case FIRST_LAST_STEP_SCORE_IMPROVING:
                 Score lastStepScore = moveScope.getStepScope().getPhaseScope()
                         .getLastCompletedStepScope().getScore();
-                if (moveScope.getScore().compareTo(lastStepScore) > 0) {
+                if (scoreComparator.compare(moveScope.getScore(), lastStepScore) > 0) {
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
@@ -38,6 +38,13 @@ public interface Forager extends LocalSearchPhaseLifecycleListener {
      */
     void addMove(LocalSearchMoveScope moveScope);
 
+    /**
+     * Counts a move that was rejected before its score was fully calculated,
+     * so it is never a finalist and it doesn't affect {@link #isQuitEarly()}.
+     * @param moveScope never null, its score is null
+     */
+    void addRejectedEarlyMove(LocalSearchMoveScope moveScope);
+
     /**
      * @return true if no further moves should be selected (and evaluated) for this step.
      */
@@ -17,12 +17,16 @@
 package org.optaplanner.core.impl.localsearch.decider.forager.finalist;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.comparator.NaturalScoreComparator;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,9 +38,18 @@ public abstract class AbstractFinalistPodium extends LocalSearchPhaseLifecycleLi
 
     protected final transient Logger logger = LoggerFactory.getLogger(getClass());
 
+    protected Comparator<Score> scoreComparator = NaturalScoreComparator.INSTANCE;
+
     protected boolean finalistIsAccepted;
     protected List<LocalSearchMoveScope> finalistList;
 
+    /**
+     * @param scoreComparator never null, usually {@link ScoreDefinition#getScoreComparator()}
+     */
+    public void setScoreComparator(Comparator<Score> scoreComparator) {
+        this.scoreComparator = scoreComparator;
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope stepScope) {
         super.stepStarted(stepScope);
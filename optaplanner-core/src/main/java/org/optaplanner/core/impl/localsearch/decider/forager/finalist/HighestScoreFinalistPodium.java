@@ -60,7 +60,7 @@ public class HighestScoreFinalistPodium extends AbstractFinalistPodium {
         if (finalistScore == null) {
             return 1;
         }
-        return moveScore.compareTo(finalistScore);
+        return scoreComparator.compare(moveScore, finalistScore);
     }
 
     @Override
@@ -89,7 +89,7 @@ public class StrategicOscillationByLevelFinalistPodium extends AbstractFinalistP
                 return -1;
             }
         }
-        return moveScore.compareTo(finalistScore);
+        return scoreComparator.compare(moveScore, finalistScore);
     }
 
     @Override
@@ -17,17 +17,22 @@
 package org.optaplanner.core.impl.score.buildin.bendable;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScoreHolder;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.score.comparator.BendableScoreComparator;
 import org.optaplanner.core.impl.score.definition.AbstractBendableScoreDefinition;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
 public class BendableScoreDefinition extends AbstractBendableScoreDefinition<BendableScore> {
 
+    private final BendableScoreComparator scoreComparator;
+
     public BendableScoreDefinition(int hardLevelsSize, int softLevelsSize) {
         super(hardLevelsSize, softLevelsSize);
+        scoreComparator = new BendableScoreComparator(hardLevelsSize, softLevelsSize);
     }
 
     // ************************************************************************
@@ -39,6 +44,27 @@ public class BendableScoreDefinition extends AbstractBendableScoreDefinition<Ben
         return BendableScore.class;
     }
 
+    @Override
+    public Comparator<BendableScore> getScoreComparator() {
+        return scoreComparator;
+    }
+
+    @Override
+    public boolean isFeasible(BendableScore score) {
+        if (score.getInitScore() < 0) {
+            return false;
+        }
+        for (int i = 0; i < hardLevelsSize; i++) {
+            int hardScore = score.getHardScore(i);
+            if (hardScore > 0) {
+                return true;
+            } else if (hardScore < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public BendableScore parseScore(String scoreString) {
         BendableScore score = BendableScore.parseScore(scoreString);
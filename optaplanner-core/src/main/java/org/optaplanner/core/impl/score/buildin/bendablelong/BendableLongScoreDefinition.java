@@ -17,18 +17,23 @@
 package org.optaplanner.core.impl.score.buildin.bendablelong;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
 import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScoreHolder;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.score.comparator.BendableLongScoreComparator;
 import org.optaplanner.core.impl.score.definition.AbstractBendableScoreDefinition;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
 public class BendableLongScoreDefinition extends AbstractBendableScoreDefinition<BendableLongScore> {
 
+    private final BendableLongScoreComparator scoreComparator;
+
     public BendableLongScoreDefinition(int hardLevelsSize, int softLevelsSize) {
         super(hardLevelsSize, softLevelsSize);
+        scoreComparator = new BendableLongScoreComparator(hardLevelsSize, softLevelsSize);
     }
 
     // ************************************************************************
@@ -40,6 +45,27 @@ public class BendableLongScoreDefinition extends AbstractBendableScoreDefinition
         return BendableLongScore.class;
     }
 
+    @Override
+    public Comparator<BendableLongScore> getScoreComparator() {
+        return scoreComparator;
+    }
+
+    @Override
+    public boolean isFeasible(BendableLongScore score) {
+        if (score.getInitScore() < 0) {
+            return false;
+        }
+        for (int i = 0; i < hardLevelsSize; i++) {
+            long hardScore = score.getHardScore(i);
+            if (hardScore > 0) {
+                return true;
+            } else if (hardScore < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public BendableLongScore parseScore(String scoreString) {
         BendableLongScore score = BendableLongScore.parseScore(scoreString);
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin.hardsoftscaledlong;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.optaplanner.core.api.score.buildin.hardsoftscaledlong.HardSoftScaledLongScore;
+import org.optaplanner.core.api.score.buildin.hardsoftscaledlong.HardSoftScaledLongScoreHolder;
+import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.score.definition.AbstractFeasibilityScoreDefinition;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+
+public class HardSoftScaledLongScoreDefinition extends AbstractFeasibilityScoreDefinition<HardSoftScaledLongScore> {
+
+    protected final int scale;
+
+    /**
+     * @param scale {@code >= 0}, the number of decimals of every score level
+     */
+    public HardSoftScaledLongScoreDefinition(int scale) {
+        super(new String[]{"hard score", "soft score"});
+        if (scale < 0) {
+            throw new IllegalArgumentException("The scale (" + scale + ") must be positive or zero.");
+        }
+        this.scale = scale;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public int getLevelsSize() {
+        return 2;
+    }
+
+    @Override
+    public int getFeasibleLevelsSize() {
+        return 1;
+    }
+
+    @Override
+    public Class<HardSoftScaledLongScore> getScoreClass() {
+        return HardSoftScaledLongScore.class;
+    }
+
+    @Override
+    public HardSoftScaledLongScore parseScore(String scoreString) {
+        HardSoftScaledLongScore score = HardSoftScaledLongScore.parseScore(scoreString);
+        if (score.getScale() > scale) {
+            throw new IllegalArgumentException("The scoreString (" + scoreString
+                    + ") has a scale (" + score.getScale() + ") that is higher than the scale (" + scale
+                    + ") of the scoreDefinition (" + this + ").");
+        }
+        return score.withScale(scale);
+    }
+
+    @Override
+    public HardSoftScaledLongScore fromLevelNumbers(int initScore, Number[] levelNumbers) {
+        if (levelNumbers.length != getLevelsSize()) {
+            throw new IllegalStateException("The levelNumbers (" + Arrays.toString(levelNumbers)
+                    + ")'s length (" + levelNumbers.length + ") must equal the levelSize (" + getLevelsSize() + ").");
+        }
+        return HardSoftScaledLongScore.valueOf(initScore, (BigDecimal) levelNumbers[0], (BigDecimal) levelNumbers[1])
+                .withScale(scale);
+    }
+
+    @Override
+    public HardSoftScaledLongScoreHolder buildScoreHolder(boolean constraintMatchEnabled) {
+        return new HardSoftScaledLongScoreHolder(constraintMatchEnabled, scale);
+    }
+
+    @Override
+    public HardSoftScaledLongScore buildOptimisticBound(InitializingScoreTrend initializingScoreTrend,
+            HardSoftScaledLongScore score) {
+        InitializingScoreTrendLevel[] trendLevels = initializingScoreTrend.getTrendLevels();
+        return HardSoftScaledLongScore.valueOfUnscaled(0,
+                trendLevels[0] == InitializingScoreTrendLevel.ONLY_DOWN ? score.getUnscaledHardScore() : Long.MAX_VALUE,
+                trendLevels[1] == InitializingScoreTrendLevel.ONLY_DOWN ? score.getUnscaledSoftScore() : Long.MAX_VALUE,
+                score.getScale());
+    }
+
+    @Override
+    public HardSoftScaledLongScore buildPessimisticBound(InitializingScoreTrend initializingScoreTrend,
+            HardSoftScaledLongScore score) {
+        InitializingScoreTrendLevel[] trendLevels = initializingScoreTrend.getTrendLevels();
+        return HardSoftScaledLongScore.valueOfUnscaled(0,
+                trendLevels[0] == InitializingScoreTrendLevel.ONLY_UP ? score.getUnscaledHardScore() : Long.MIN_VALUE,
+                trendLevels[1] == InitializingScoreTrendLevel.ONLY_UP ? score.getUnscaledSoftScore() : Long.MIN_VALUE,
+                score.getScale());
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.comparator;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
+import org.optaplanner.core.impl.score.buildin.bendable.BendableScoreDefinition;
+
+/**
+ * Compares 2 {@link BendableScore}s of the same {@link BendableScoreDefinition}
+ * like {@link BendableScore#compareTo(BendableScore)}, but with the levels sizes fixed up front,
+ * so it doesn't validate that both {@link Score}s are compatible on every comparison.
+ * @see BendableScoreDefinition#getScoreComparator()
+ */
+public class BendableScoreComparator implements Comparator<BendableScore>, Serializable {
+
+    private final int hardLevelsSize;
+    private final int softLevelsSize;
+
+    public BendableScoreComparator(int hardLevelsSize, int softLevelsSize) {
+        this.hardLevelsSize = hardLevelsSize;
+        this.softLevelsSize = softLevelsSize;
+    }
+
+    @Override
+    public int compare(BendableScore s1, BendableScore s2) {
+        if (s1 == s2) {
+            return 0;
+        }
+        int initScore1 = s1.getInitScore();
+        int initScore2 = s2.getInitScore();
+        if (initScore1 != initScore2) {
+            return initScore1 < initScore2 ? -1 : 1;
+        }
+        for (int i = 0; i < hardLevelsSize; i++) {
+            int hardScore1 = s1.getHardScore(i);
+            int hardScore2 = s2.getHardScore(i);
+            if (hardScore1 != hardScore2) {
+                return hardScore1 < hardScore2 ? -1 : 1;
+            }
+        }
+        for (int i = 0; i < softLevelsSize; i++) {
+            int softScore1 = s1.getSoftScore(i);
+            int softScore2 = s2.getSoftScore(i);
+            if (softScore1 != softScore2) {
+                return softScore1 < softScore2 ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+}
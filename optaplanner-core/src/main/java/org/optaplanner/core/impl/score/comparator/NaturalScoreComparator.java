@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.comparator;
+
+import java.io.Serializable;
+import java.util.Comparator;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+
+/**
+ * Compares 2 {@link Score}s with {@link Score#compareTo(Object)}.
+ * @see ScoreDefinition#getScoreComparator()
+ */
+public final class NaturalScoreComparator implements Comparator<Score>, Serializable {
+
+    public static final NaturalScoreComparator INSTANCE = new NaturalScoreComparator();
+
+    private NaturalScoreComparator() {
+    }
+
+    @Override
+    public int compare(Score s1, Score s2) {
+        return s1.compareTo(s2);
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+}
@@ -33,4 +33,9 @@ public abstract class AbstractFeasibilityScoreDefinition<S extends FeasibilitySc
         super(levelLabels);
     }
 
+    @Override
+    public boolean isFeasible(S score) {
+        return score.isFeasible();
+    }
+
 }
@@ -17,9 +17,11 @@
 package org.optaplanner.core.impl.score.definition;
 
 import java.io.Serializable;
+import java.util.Comparator;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreDefinition;
+import org.optaplanner.core.impl.score.comparator.NaturalScoreComparator;
 
 /**
  * Abstract superclass for {@link ScoreDefinition}.
@@ -52,6 +54,13 @@ public abstract class AbstractScoreDefinition<S extends Score> implements ScoreD
         return levelLabels;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Comparator<S> getScoreComparator() {
+        // Safe because a Comparator<Score> accepts any S
+        return (Comparator<S>) (Comparator<? super S>) NaturalScoreComparator.INSTANCE;
+    }
+
     @Override
     public String formatScore(S score) {
         return score.toString();
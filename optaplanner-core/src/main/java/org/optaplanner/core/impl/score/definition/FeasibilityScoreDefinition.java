@@ -27,4 +27,16 @@ public interface FeasibilityScoreDefinition<S extends FeasibilityScore> extends
      */
     int getFeasibleLevelsSize();
 
+    /**
+     * Equivalent to {@link FeasibilityScore#isFeasible()} for every {@link Score} of this definition,
+     * but might be specialized for its score levels.
+     * <p>
+     * Defaults to {@link FeasibilityScore#isFeasible()}.
+     * @param score never null
+     * @return true if the score is feasible
+     */
+    default boolean isFeasible(S score) {
+        return score.isFeasible();
+    }
+
 }
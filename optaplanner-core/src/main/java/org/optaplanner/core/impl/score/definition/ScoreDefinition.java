@@ -16,10 +16,13 @@
 
 package org.optaplanner.core.impl.score.definition;
 
+import java.util.Comparator;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.holder.ScoreHolder;
 import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreDefinition;
+import org.optaplanner.core.impl.score.comparator.NaturalScoreComparator;
 import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirector;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
@@ -60,6 +63,20 @@ public interface ScoreDefinition<S extends Score> {
      */
     Class<S> getScoreClass();
 
+    /**
+     * Returns a {@link Comparator} that is equivalent to {@link Score#compareTo(Object)}
+     * for every {@link Score} of this definition, but that might be specialized for its score levels.
+     * The hot loops of the optimization algorithms use it to compare {@link Score}s.
+     * <p>
+     * Defaults to the natural order of {@link Score#compareTo(Object)}.
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    default Comparator<S> getScoreComparator() {
+        // Safe because a Comparator<Score> accepts any S
+        return (Comparator<S>) (Comparator<? super S>) NaturalScoreComparator.INSTANCE;
+    }
+
     /**
      * Returns a {@link String} representation of the {@link Score}.
      * @param score never null
@@ -67,6 +67,8 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
     protected Integer workingInitScore = null;
 
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
+    protected boolean variableListenerTimeMeasured = false;
+    protected long measuredVariableListenerTimeNanos = 0L;
 
     protected long calculationCount = 0L;
 
@@ -111,6 +113,16 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         this.allChangesWillBeUndoneBeforeStepEnds = allChangesWillBeUndoneBeforeStepEnds;
     }
 
+    @Override
+    public void setVariableListenerTimeMeasured(boolean variableListenerTimeMeasured) {
+        this.variableListenerTimeMeasured = variableListenerTimeMeasured;
+    }
+
+    @Override
+    public long getMeasuredVariableListenerTimeNanos() {
+        return measuredVariableListenerTimeNanos;
+    }
+
     @Override
     public long getCalculationCount() {
         return calculationCount;
@@ -201,7 +213,13 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
 
     @Override
     public void triggerVariableListeners() {
-        variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        if (variableListenerTimeMeasured) {
+            long startingTimeNanos = System.nanoTime();
+            variableListenerSupport.triggerVariableListenersInNotificationQueues();
+            measuredVariableListenerTimeNanos += System.nanoTime() - startingTimeNanos;
+        } else {
+            variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        }
     }
 
     protected void setCalculatedScore(Score score) {
@@ -209,6 +227,11 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         calculationCount++;
     }
 
+    @Override
+    public Score calculateOptimisticScoreBound() {
+        return null;
+    }
+
     @Override
     public Map<Object, List<ConstraintMatch>> extractIndictmentMap() {
         Map<Object, List<ConstraintMatch>> indictmentMap = new HashMap<>();
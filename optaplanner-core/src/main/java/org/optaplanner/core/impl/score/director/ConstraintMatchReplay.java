@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+
+/**
+ * The explanation of the {@link Score} of a {@link PlanningSolution},
+ * calculated by a {@link ConstraintMatchReplayer}.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ConstraintMatchReplay<Solution_> {
+
+    private final Solution_ solution;
+    private final Score score;
+    private final Collection<ConstraintMatchTotal> constraintMatchTotals;
+    private final Map<Object, List<ConstraintMatch>> indictmentMap;
+
+    public ConstraintMatchReplay(Solution_ solution, Score score,
+            Collection<ConstraintMatchTotal> constraintMatchTotals,
+            Map<Object, List<ConstraintMatch>> indictmentMap) {
+        this.solution = solution;
+        this.score = score;
+        this.constraintMatchTotals = constraintMatchTotals;
+        this.indictmentMap = indictmentMap;
+    }
+
+    /**
+     * @return never null, a planning clone of the replayed solution
+     */
+    public Solution_ getSolution() {
+        return solution;
+    }
+
+    /**
+     * @return never null
+     */
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * @return never null
+     * @see ScoreDirector#getConstraintMatchTotals()
+     */
+    public Collection<ConstraintMatchTotal> getConstraintMatchTotals() {
+        return constraintMatchTotals;
+    }
+
+    /**
+     * @return never null
+     * @see ScoreDirector#extractIndictmentMap()
+     */
+    public Map<Object, List<ConstraintMatch>> getIndictmentMap() {
+        return indictmentMap;
+    }
+
+    @Override
+    public String toString() {
+        return "ConstraintMatchReplay(" + score + ")";
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
+
+/**
+ * Explains a {@link PlanningSolution} on demand,
+ * so the {@link Solver} itself can solve with {@link ConstraintMatch} tracking disabled.
+ * <p>
+ * Each replay calculates the {@link Score} of a planning clone from scratch
+ * with a throwaway {@link ScoreDirector} that has {@link ConstraintMatch} tracking enabled.
+ * That calculation happens on the {@link Executor}, not on the calling thread.
+ * <p>
+ * Register it as a {@link SolverEventListener} to replay the best solution:
+ * the replay of a best solution is cached until a new best solution is found.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ConstraintMatchReplayer<Solution_> implements SolverEventListener<Solution_> {
+
+    private final InnerScoreDirectorFactory<Solution_> scoreDirectorFactory;
+    private final Executor executor;
+
+    private Solution_ bestSolution = null;
+    private long bestSolutionRevision = 0L;
+    private long replayedBestSolutionRevision = -1L;
+    private CompletableFuture<ConstraintMatchReplay<Solution_>> bestSolutionReplay = null;
+
+    /**
+     * Replays on the {@link ForkJoinPool#commonPool()}.
+     * @param scoreDirectorFactory never null
+     */
+    public ConstraintMatchReplayer(InnerScoreDirectorFactory<Solution_> scoreDirectorFactory) {
+        this(scoreDirectorFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param scoreDirectorFactory never null
+     * @param executor never null
+     */
+    public ConstraintMatchReplayer(InnerScoreDirectorFactory<Solution_> scoreDirectorFactory, Executor executor) {
+        this.scoreDirectorFactory = scoreDirectorFactory;
+        this.executor = executor;
+    }
+
+    // ************************************************************************
+    // Best solution methods
+    // ************************************************************************
+
+    /**
+     * Called from the solver thread, so it only remembers the new best solution.
+     * @param event never null
+     */
+    @Override
+    public synchronized void bestSolutionChanged(BestSolutionChangedEvent<Solution_> event) {
+        bestSolution = event.getNewBestSolution();
+        bestSolutionRevision++;
+    }
+
+    /**
+     * @return the number of times the best solution has changed
+     */
+    public synchronized long getBestSolutionRevision() {
+        return bestSolutionRevision;
+    }
+
+    /**
+     * Replays the last best solution, unless that revision has already been replayed.
+     * <p>
+     * The planning clone is made outside of the lock, so it doesn't block the solver thread.
+     * @return never null, completes on the {@link Executor}
+     * @throws IllegalStateException if no best solution has been found yet
+     */
+    public CompletableFuture<ConstraintMatchReplay<Solution_>> replayBestSolution() {
+        Solution_ solution;
+        long revision;
+        synchronized (this) {
+            if (bestSolution == null) {
+                throw new IllegalStateException("No best solution has been found yet"
+                        + " to replay the constraint matches of.");
+            }
+            if (bestSolutionReplay != null && replayedBestSolutionRevision == bestSolutionRevision) {
+                return bestSolutionReplay;
+            }
+            // A best solution is never changed after its event, so it can be cloned without holding the lock
+            solution = bestSolution;
+            revision = bestSolutionRevision;
+        }
+        CompletableFuture<ConstraintMatchReplay<Solution_>> replay = replay(solution);
+        synchronized (this) {
+            if (revision > replayedBestSolutionRevision) {
+                bestSolutionReplay = replay;
+                replayedBestSolutionRevision = revision;
+            } else if (revision == replayedBestSolutionRevision) {
+                // Another thread replayed the same revision in the meantime
+                return bestSolutionReplay;
+            }
+            return replay;
+        }
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * The solution is planning cloned on the calling thread, so it can be changed as soon as this method returns.
+     * @param solution never null
+     * @return never null, completes on the {@link Executor}
+     */
+    public CompletableFuture<ConstraintMatchReplay<Solution_>> replay(Solution_ solution) {
+        Solution_ clone = scoreDirectorFactory.getSolutionDescriptor().getSolutionCloner().cloneSolution(solution);
+        return CompletableFuture.supplyAsync(() -> calculateReplay(clone), executor);
+    }
+
+    protected ConstraintMatchReplay<Solution_> calculateReplay(Solution_ clone) {
+        InnerScoreDirector<Solution_> scoreDirector = scoreDirectorFactory.buildScoreDirector(true);
+        try {
+            if (!scoreDirector.isConstraintMatchEnabled()) {
+                throw new IllegalStateException("The scoreDirector (" + scoreDirector
+                        + ") does not support constraint matches, so they can not be replayed.");
+            }
+            scoreDirector.setWorkingSolution(clone);
+            Score score = scoreDirector.calculateScore();
+            Collection<ConstraintMatchTotal> constraintMatchTotals
+                    = new ArrayList<>(scoreDirector.getConstraintMatchTotals());
+            Map<Object, List<ConstraintMatch>> indictmentMap = scoreDirector.extractIndictmentMap();
+            return new ConstraintMatchReplay<>(clone, score, constraintMatchTotals, indictmentMap);
+        } finally {
+            scoreDirector.dispose();
+        }
+    }
+
+}
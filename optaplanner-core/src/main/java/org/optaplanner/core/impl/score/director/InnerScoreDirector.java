@@ -24,6 +24,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.incremental.PartialScoreIncrementalScoreCalculator;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -67,6 +68,15 @@ public interface InnerScoreDirector<Solution_> extends ScoreDirector<Solution_>
      */
     Solution_ cloneSolution(Solution_ originalSolution);
 
+    /**
+     * Calculates a {@link Score} that is equal or better than {@link #calculateScore()} would return,
+     * without the cost of a full calculation.
+     * It does not update the {@link Score} of the {@link PlanningSolution working solution}.
+     * @return null if this {@link ScoreDirector} cannot calculate it cheaper than {@link #calculateScore()}
+     * @see PartialScoreIncrementalScoreCalculator
+     */
+    Score calculateOptimisticScoreBound();
+
     /**
      * @return {@code >= 0}
      */
@@ -104,6 +114,19 @@ public interface InnerScoreDirector<Solution_> extends ScoreDirector<Solution_>
      */
     ScoreDirector<Solution_> clone();
 
+    /**
+     * Only measure the time spent in {@link #triggerVariableListeners()} while profiling,
+     * so it doesn't call {@link System#nanoTime()} otherwise.
+     * @param variableListenerTimeMeasured true to accumulate {@link #getMeasuredVariableListenerTimeNanos()}
+     */
+    void setVariableListenerTimeMeasured(boolean variableListenerTimeMeasured);
+
+    /**
+     * @return {@code >= 0}, the total time spent in {@link #triggerVariableListeners()}
+     * while {@link #setVariableListenerTimeMeasured(boolean)} was true
+     */
+    long getMeasuredVariableListenerTimeNanos();
+
     /**
      * Do not waste performance by propagating changes to step (or higher) mechanisms.
      * @param allChangesWillBeUndoneBeforeStepEnds true if all changes will be undone
@@ -64,9 +64,9 @@ public class DroolsScoreDirector<Solution_>
 
     private void resetKieSession() {
         if (kieSession != null) {
-            kieSession.dispose();
+            scoreDirectorFactory.releaseKieSession(kieSession);
         }
-        kieSession = scoreDirectorFactory.newKieSession();
+        kieSession = scoreDirectorFactory.acquireKieSession();
         workingScoreHolder = getScoreDefinition().buildScoreHolder(constraintMatchEnabledPreference);
         kieSession.setGlobal(GLOBAL_SCORE_HOLDER_KEY, workingScoreHolder);
         // TODO Adjust when uninitialized entities from getWorkingFacts get added automatically too (and call afterEntityAdded)
@@ -119,7 +119,7 @@ public class DroolsScoreDirector<Solution_>
     public void dispose() {
         super.dispose();
         if (kieSession != null) {
-            kieSession.dispose();
+            scoreDirectorFactory.releaseKieSession(kieSession);
             kieSession = null;
         }
     }
@@ -37,6 +37,9 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
 
     protected final KieContainer kieContainer;
     protected final String ksessionName;
+    protected final String kbaseName;
+
+    protected KieSessionPool kieSessionPool = null;
 
     /**
      * For {@link LegacyDroolsScoreDirectorFactory} only. Do not use.
@@ -45,6 +48,7 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
     protected DroolsScoreDirectorFactory(KieBase kieBase) {
         kieContainer = null;
         ksessionName = null;
+        kbaseName = null;
     }
 
     /**
@@ -71,7 +75,7 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
                     + "Stateless sessions are not allowed because they don't support incremental score calculation"
                     + " and are therefore exponentially slower.");
         }
-        String kbaseName = kieSessionModel.getKieBaseModel().getName();
+        kbaseName = kieSessionModel.getKieBaseModel().getName();
         KieBase kieBase = kieContainer.newKieBase(kbaseName, null);
         checkIfGlobalScoreHolderExists(kieBase);
     }
@@ -116,6 +120,25 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
         return ksessionName;
     }
 
+    /**
+     * @return sometimes null, if null every {@link DroolsScoreDirector} builds and disposes its own {@link KieSession}
+     */
+    public KieSessionPool getKieSessionPool() {
+        return kieSessionPool;
+    }
+
+    public void setKieSessionPool(KieSessionPool kieSessionPool) {
+        this.kieSessionPool = kieSessionPool;
+    }
+
+    /**
+     * @return never null, the {@link KieBase} that builds the {@link KieSession}s of {@link #newKieSession()}
+     * @see KieSessionPoolRegistry#obtainKieSessionPool(KieBase, String, int)
+     */
+    public KieBase determineKieSessionKieBase() {
+        return kieContainer.getKieBase(kbaseName);
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -129,4 +152,24 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
         return kieContainer.newKieSession(ksessionName);
     }
 
+    /**
+     * @return never null, a new {@link KieSession} or a reset one from the {@link KieSessionPool}
+     */
+    public KieSession acquireKieSession() {
+        if (kieSessionPool == null) {
+            return newKieSession();
+        }
+        return kieSessionPool.acquire(this::newKieSession);
+    }
+
+    /**
+     * @param kieSession never null, from {@link #acquireKieSession()}
+     */
+    public void releaseKieSession(KieSession kieSession) {
+        // The pool is closed if it has been evicted or replaced while the kieSession was in use
+        if (kieSessionPool == null || !kieSessionPool.release(kieSession)) {
+            kieSession.dispose();
+        }
+    }
+
 }
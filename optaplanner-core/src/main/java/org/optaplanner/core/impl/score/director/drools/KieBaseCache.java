@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import org.kie.api.KieBase;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide cache of compiled score DRL {@link KieBase}s,
+ * so multiple {@link SolverFactory} instances with the same score DRL's don't compile them again.
+ * <p>
+ * A {@link KieBase} is cached by the contents of its score DRL's (not their location),
+ * its kieBaseConfigurationProperties and the {@link ClassLoader} it was built with.
+ * Concurrent requests for the same uncached {@link KieBase} compile it only once.
+ * <p>
+ * The {@link ClassLoader}s are weakly referenced, so an undeployed application doesn't leak its {@link ClassLoader}.
+ * Because a {@link KieBase} references its {@link ClassLoader}, the {@link KieBase}s are softly referenced:
+ * the garbage collector can release a {@link KieBase} that no {@link SolverFactory} uses anymore.
+ * Use {@link #evict(ClassLoader)} or {@link #clear()} to release them immediately.
+ * <p>
+ * This class is thread-safe.
+ */
+public class KieBaseCache {
+
+    private static final KieBaseCache INSTANCE = new KieBaseCache();
+
+    public static KieBaseCache getInstance() {
+        return INSTANCE;
+    }
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    /**
+     * Guarded by this.
+     */
+    private final Map<ClassLoader, Map<Digest, SoftReference<Future<KieBase>>>> classLoaderMap = new WeakHashMap<>();
+
+    protected KieBaseCache() {
+    }
+
+    /**
+     * @param classLoader never null, the {@link ClassLoader} the {@link KieBase} is built with
+     * @param scoreDrlContentList never null, the contents of the score DRL's, in the order they are compiled
+     * @param kieBaseConfigurationProperties sometimes null
+     * @param kieBaseBuilder never null, only called if the {@link KieBase} isn't cached yet,
+     * it should compile the same scoreDrlContentList
+     * @return never null
+     */
+    public KieBase computeIfAbsent(ClassLoader classLoader, List<byte[]> scoreDrlContentList,
+            Map<String, String> kieBaseConfigurationProperties, Supplier<KieBase> kieBaseBuilder) {
+        Digest digest = new Digest(digest(scoreDrlContentList, kieBaseConfigurationProperties));
+        Future<KieBase> kieBaseFuture;
+        FutureTask<KieBase> kieBaseTask = null;
+        synchronized (this) {
+            Map<Digest, SoftReference<Future<KieBase>>> digestMap
+                    = classLoaderMap.computeIfAbsent(classLoader, key -> new HashMap<>());
+            SoftReference<Future<KieBase>> kieBaseFutureReference = digestMap.get(digest);
+            kieBaseFuture = kieBaseFutureReference == null ? null : kieBaseFutureReference.get();
+            if (kieBaseFuture == null) {
+                kieBaseTask = new FutureTask<>(kieBaseBuilder::get);
+                kieBaseFuture = kieBaseTask;
+                digestMap.put(digest, new SoftReference<>(kieBaseTask));
+            }
+        }
+        if (kieBaseTask != null) {
+            // Compile outside of the lock, so other score DRL's can be compiled concurrently
+            logger.debug("Compiling {} score DRL's into a cached KieBase.", scoreDrlContentList.size());
+            kieBaseTask.run();
+        }
+        try {
+            return kieBaseFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the compilation of the score DRL's.", e);
+        } catch (ExecutionException e) {
+            // Don't cache a failure: the next SolverFactory tries again
+            remove(classLoader, digest, kieBaseFuture);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("The compilation of the score DRL's failed.", cause);
+        }
+    }
+
+    private synchronized void remove(ClassLoader classLoader, Digest digest, Future<KieBase> kieBaseFuture) {
+        Map<Digest, SoftReference<Future<KieBase>>> digestMap = classLoaderMap.get(classLoader);
+        if (digestMap != null) {
+            SoftReference<Future<KieBase>> kieBaseFutureReference = digestMap.get(digest);
+            if (kieBaseFutureReference != null && kieBaseFutureReference.get() == kieBaseFuture) {
+                digestMap.remove(digest);
+            }
+        }
+    }
+
+    /**
+     * @return {@code >= 0}, the number of cached {@link KieBase}s, including those still compiling
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (Map<Digest, SoftReference<Future<KieBase>>> digestMap : classLoaderMap.values()) {
+            for (SoftReference<Future<KieBase>> kieBaseFutureReference : digestMap.values()) {
+                if (kieBaseFutureReference.get() != null) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Releases all cached {@link KieBase}s built with that {@link ClassLoader},
+     * for example when the application that owns it is undeployed.
+     * @param classLoader never null
+     */
+    public synchronized void evict(ClassLoader classLoader) {
+        classLoaderMap.remove(classLoader);
+    }
+
+    /**
+     * Releases all cached {@link KieBase}s.
+     * Existing {@link SolverFactory} instances keep using the {@link KieBase} they were built with.
+     */
+    public synchronized void clear() {
+        classLoaderMap.clear();
+    }
+
+    private static byte[] digest(List<byte[]> scoreDrlContentList,
+            Map<String, String> kieBaseConfigurationProperties) {
+        MessageDigest messageDigest = newMessageDigest();
+        for (byte[] scoreDrlContent : scoreDrlContentList) {
+            // Digest each DRL separately, so moving a rule from one DRL to the next changes the key
+            messageDigest.update(newMessageDigest().digest(scoreDrlContent));
+        }
+        if (kieBaseConfigurationProperties != null) {
+            for (Map.Entry<String, String> entry : new TreeMap<>(kieBaseConfigurationProperties).entrySet()) {
+                messageDigest.update((entry.getKey() + "=" + entry.getValue() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return messageDigest.digest();
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("The JVM does not support the SHA-256 digest algorithm.", e);
+        }
+    }
+
+    private static final class Digest {
+
+        private final byte[] bytes;
+
+        public Digest(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (o instanceof Digest) {
+                return Arrays.equals(bytes, ((Digest) o).bytes);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bytes);
+        }
+
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.optaplanner.core.api.solver.Solver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of idle {@link KieSession}s, so concurrent {@link Solver}s that share the same rules
+ * reuse warmed up sessions instead of building a new one for every working solution.
+ * To get an instance, use {@link KieSessionPoolRegistry}.
+ * <p>
+ * A released {@link KieSession} is reset by deleting all of its facts,
+ * which keeps the Rete node memory it already allocated.
+ * This presumes the score rules don't depend on session state other than the facts and the score holder global,
+ * such as agenda group focus or lock-on-active rules.
+ * <p>
+ * Acquiring never blocks: if no idle {@link KieSession} is available, a new one is built.
+ * The idle {@link KieSession}s are softly referenced, because they reference their {@link KieBase},
+ * which is the weak key of this pool in the {@link KieSessionPoolRegistry}.
+ * <p>
+ * This class is thread-safe.
+ */
+public class KieSessionPool {
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final int maximumIdleSize;
+
+    /**
+     * Guarded by this.
+     */
+    private final Deque<SoftReference<KieSession>> idleKieSessionReferenceDeque;
+    /**
+     * Guarded by this.
+     */
+    private boolean closed = false;
+
+    /**
+     * @param maximumIdleSize {@code >= 1}, the maximum number of idle {@link KieSession}s kept for reuse
+     */
+    public KieSessionPool(int maximumIdleSize) {
+        if (maximumIdleSize < 1) {
+            throw new IllegalArgumentException("The maximumIdleSize (" + maximumIdleSize
+                    + ") must be at least 1.");
+        }
+        this.maximumIdleSize = maximumIdleSize;
+        idleKieSessionReferenceDeque = new ArrayDeque<>(maximumIdleSize);
+    }
+
+    public int getMaximumIdleSize() {
+        return maximumIdleSize;
+    }
+
+    /**
+     * @param kieSessionBuilder never null, only called if no idle {@link KieSession} is available
+     * @return never null, a {@link KieSession} without facts
+     */
+    public KieSession acquire(Supplier<KieSession> kieSessionBuilder) {
+        KieSession kieSession = pollIdleKieSession();
+        if (kieSession == null) {
+            kieSession = kieSessionBuilder.get();
+        }
+        return kieSession;
+    }
+
+    private synchronized KieSession pollIdleKieSession() {
+        while (!idleKieSessionReferenceDeque.isEmpty()) {
+            KieSession kieSession = idleKieSessionReferenceDeque.pollLast().get();
+            if (kieSession != null) {
+                return kieSession;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resets the {@link KieSession} and keeps it for reuse.
+     * The caller must not use the {@link KieSession} afterwards, unless this method returns false.
+     * @param kieSession never null
+     * @return false if the {@link KieSession} was not pooled (because this pool is closed or full,
+     * or because the {@link KieSession} could not be reset), so the caller must dispose it
+     */
+    public boolean release(KieSession kieSession) {
+        if (isClosed()) {
+            return false;
+        }
+        try {
+            // Copy because the fact handle collection is a view on the working memory
+            List<FactHandle> factHandleList = new ArrayList<>(kieSession.getFactHandles());
+            for (FactHandle factHandle : factHandleList) {
+                kieSession.delete(factHandle);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Not pooling a kieSession that could not be reset.", e);
+            return false;
+        }
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            // Cleared references don't count towards the maximum
+            idleKieSessionReferenceDeque.removeIf(kieSessionReference -> kieSessionReference.get() == null);
+            if (idleKieSessionReferenceDeque.size() >= maximumIdleSize) {
+                return false;
+            }
+            idleKieSessionReferenceDeque.addLast(new SoftReference<>(kieSession));
+            return true;
+        }
+    }
+
+    /**
+     * @return {@code >= 0}
+     */
+    public synchronized int getIdleSize() {
+        int idleSize = 0;
+        for (SoftReference<KieSession> kieSessionReference : idleKieSessionReferenceDeque) {
+            if (kieSessionReference.get() != null) {
+                idleSize++;
+            }
+        }
+        return idleSize;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Disposes all idle {@link KieSession}s.
+     * Afterwards, every {@link #release(KieSession) released} {@link KieSession} is rejected.
+     */
+    public synchronized void close() {
+        closed = true;
+        for (SoftReference<KieSession> kieSessionReference : idleKieSessionReferenceDeque) {
+            KieSession kieSession = kieSessionReference.get();
+            if (kieSession != null) {
+                kieSession.dispose();
+            }
+        }
+        idleKieSessionReferenceDeque.clear();
+    }
+
+}
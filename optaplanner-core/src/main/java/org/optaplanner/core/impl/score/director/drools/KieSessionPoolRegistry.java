@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.optaplanner.core.api.solver.SolverFactory;
+
+/**
+ * Process-wide registry of {@link KieSessionPool}s, one per {@link KieBase} and ksessionName,
+ * so every {@link DroolsScoreDirectorFactory} that builds its {@link KieSession}s the same way shares one pool,
+ * even across {@link SolverFactory} instances.
+ * <p>
+ * The {@link KieBase}s are weakly referenced, so a {@link KieBase} that no solver uses anymore
+ * (and its {@link ClassLoader}) can be garbage collected.
+ * Use {@link #evict(KieBase)} or {@link #clear()} to dispose the idle {@link KieSession}s immediately.
+ * <p>
+ * This class is thread-safe.
+ */
+public class KieSessionPoolRegistry {
+
+    private static final KieSessionPoolRegistry INSTANCE = new KieSessionPoolRegistry();
+
+    public static KieSessionPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Guarded by this.
+     * The inner map is keyed by ksessionName, which is null for the default ksession or a legacy {@link KieBase}.
+     */
+    private final Map<KieBase, Map<String, KieSessionPool>> kieBaseMap = new WeakHashMap<>();
+
+    protected KieSessionPoolRegistry() {
+    }
+
+    /**
+     * If the existing pool has a different maximumIdleSize, it is closed and replaced.
+     * @param kieBase never null
+     * @param ksessionName sometimes null
+     * @param maximumIdleSize {@code >= 1}
+     * @return never null, not closed
+     */
+    public synchronized KieSessionPool obtainKieSessionPool(KieBase kieBase, String ksessionName,
+            int maximumIdleSize) {
+        Map<String, KieSessionPool> ksessionNameMap = kieBaseMap.computeIfAbsent(kieBase, key -> new HashMap<>());
+        KieSessionPool kieSessionPool = ksessionNameMap.get(ksessionName);
+        if (kieSessionPool == null || kieSessionPool.getMaximumIdleSize() != maximumIdleSize) {
+            if (kieSessionPool != null) {
+                kieSessionPool.close();
+            }
+            kieSessionPool = new KieSessionPool(maximumIdleSize);
+            ksessionNameMap.put(ksessionName, kieSessionPool);
+        }
+        return kieSessionPool;
+    }
+
+    /**
+     * Closes the pools of that {@link KieBase}.
+     * The {@link KieSession}s that are still in use are disposed when they are released.
+     * @param kieBase never null
+     */
+    public synchronized void evict(KieBase kieBase) {
+        Map<String, KieSessionPool> ksessionNameMap = kieBaseMap.remove(kieBase);
+        if (ksessionNameMap != null) {
+            ksessionNameMap.values().forEach(KieSessionPool::close);
+        }
+    }
+
+    /**
+     * Closes all pools.
+     * The {@link KieSession}s that are still in use are disposed when they are released.
+     */
+    public synchronized void clear() {
+        for (Map<String, KieSessionPool> ksessionNameMap : kieBaseMap.values()) {
+            ksessionNameMap.values().forEach(KieSessionPool::close);
+        }
+        kieBaseMap.clear();
+    }
+
+}
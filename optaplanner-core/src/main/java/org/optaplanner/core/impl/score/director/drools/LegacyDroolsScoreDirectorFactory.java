@@ -37,6 +37,11 @@ public class LegacyDroolsScoreDirectorFactory<Solution_> extends DroolsScoreDire
         return kieBase;
     }
 
+    @Override
+    public KieBase determineKieSessionKieBase() {
+        return kieBase;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
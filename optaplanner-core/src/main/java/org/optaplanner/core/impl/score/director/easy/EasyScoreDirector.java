@@ -16,7 +16,12 @@
 
 package org.optaplanner.core.impl.score.director.easy;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -35,12 +40,18 @@ public class EasyScoreDirector<Solution_>
         extends AbstractScoreDirector<Solution_, EasyScoreDirectorFactory<Solution_>> {
 
     private final EasyScoreCalculator<Solution_> easyScoreCalculator;
+    // Null if the easyScoreCalculator doesn't implement PartitionedEasyScoreCalculator
+    private final PartitionedEasyScoreCalculator<Solution_> partitionedEasyScoreCalculator;
+    // Lazily acquired from the scoreDirectorFactory and released when this score director is disposed
+    private ExecutorService partitionExecutor = null;
 
     public EasyScoreDirector(EasyScoreDirectorFactory<Solution_> scoreDirectorFactory,
                              boolean constraintMatchEnabledPreference,
                              EasyScoreCalculator<Solution_> easyScoreCalculator) {
         super(scoreDirectorFactory, constraintMatchEnabledPreference);
         this.easyScoreCalculator = easyScoreCalculator;
+        partitionedEasyScoreCalculator = easyScoreCalculator instanceof PartitionedEasyScoreCalculator
+                ? (PartitionedEasyScoreCalculator<Solution_>) easyScoreCalculator : null;
     }
 
     // ************************************************************************
@@ -50,11 +61,79 @@ public class EasyScoreDirector<Solution_>
     @Override
     public Score calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
-        Score score = easyScoreCalculator.calculateScore(workingSolution, workingInitScore);
+        Score score;
+        if (partitionedEasyScoreCalculator != null) {
+            score = calculatePartitionedScore();
+        } else {
+            score = easyScoreCalculator.calculateScore(workingSolution, workingInitScore);
+        }
         setCalculatedScore(score);
         return score;
     }
 
+    protected Score calculatePartitionedScore() {
+        Solution_ solution = workingSolution;
+        int partitionCount = partitionedEasyScoreCalculator.getPartitionCount(solution);
+        int partitionThreadCount = scoreDirectorFactory.getPartitionThreadCount();
+        if (partitionCount < 2 || partitionThreadCount < 2) {
+            return easyScoreCalculator.calculateScore(solution, workingInitScore);
+        }
+        if (partitionExecutor == null) {
+            partitionExecutor = scoreDirectorFactory.acquirePartitionExecutor();
+        }
+        // Each thread calculates 1 contiguous range of partitions, the solver thread calculates the first range
+        int rangeCount = Math.min(partitionCount, partitionThreadCount);
+        List<Future<Score>> futureList = new ArrayList<>(rangeCount - 1);
+        for (int rangeIndex = 1; rangeIndex < rangeCount; rangeIndex++) {
+            int fromPartitionIndex = (int) ((long) partitionCount * rangeIndex / rangeCount);
+            int toPartitionIndex = (int) ((long) partitionCount * (rangeIndex + 1) / rangeCount);
+            futureList.add(partitionExecutor.submit(
+                    () -> calculatePartitionRangeScore(solution, fromPartitionIndex, toPartitionIndex)));
+        }
+        Score totalScore;
+        try {
+            totalScore = calculatePartitionRangeScore(solution, 0, partitionCount / rangeCount);
+            // Sum up in a fixed order, so the result doesn't depend on which thread finishes first
+            for (Future<Score> future : futureList) {
+                totalScore = totalScore.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calculating the partitioned score.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("The partitioned score calculation failed.", cause);
+        } finally {
+            // Only has an effect if the calculation failed
+            for (Future<Score> future : futureList) {
+                future.cancel(true);
+            }
+        }
+        return getScoreDefinition().fromLevelNumbers(workingInitScore, totalScore.toLevelNumbers());
+    }
+
+    private Score calculatePartitionRangeScore(Solution_ solution, int fromPartitionIndex, int toPartitionIndex) {
+        Score score = partitionedEasyScoreCalculator.calculatePartitionScore(solution, fromPartitionIndex);
+        for (int partitionIndex = fromPartitionIndex + 1; partitionIndex < toPartitionIndex; partitionIndex++) {
+            score = score.add(partitionedEasyScoreCalculator.calculatePartitionScore(solution, partitionIndex));
+        }
+        return score;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (partitionExecutor != null) {
+            scoreDirectorFactory.releasePartitionExecutor();
+            partitionExecutor = null;
+        }
+    }
+
     /**
      * Always false, {@link ConstraintMatchTotal}s are not supported by this {@link ScoreDirector} implementation.
      * @return false
@@ -16,6 +16,10 @@
 
 package org.optaplanner.core.impl.score.director.easy;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
@@ -30,6 +34,12 @@ public class EasyScoreDirectorFactory<Solution_> extends AbstractScoreDirectorFa
 
     private final EasyScoreCalculator<Solution_> easyScoreCalculator;
 
+    protected int partitionThreadCount = 1;
+
+    // Guarded by this
+    private ExecutorService partitionExecutor = null;
+    private int partitionExecutorUserCount = 0;
+
     public EasyScoreDirectorFactory(EasyScoreCalculator<Solution_> easyScoreCalculator) {
         this.easyScoreCalculator = easyScoreCalculator;
     }
@@ -38,6 +48,19 @@ public class EasyScoreDirectorFactory<Solution_> extends AbstractScoreDirectorFa
         return easyScoreCalculator;
     }
 
+    public int getPartitionThreadCount() {
+        return partitionThreadCount;
+    }
+
+    /**
+     * @param partitionThreadCount {@code >= 1}, the number of threads (including the solver thread)
+     * that calculate the partitions of a {@link PartitionedEasyScoreCalculator},
+     * 1 to calculate the score on the solver thread only
+     */
+    public void setPartitionThreadCount(int partitionThreadCount) {
+        this.partitionThreadCount = partitionThreadCount;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -47,4 +70,46 @@ public class EasyScoreDirectorFactory<Solution_> extends AbstractScoreDirectorFa
         return new EasyScoreDirector<>(this, constraintMatchEnabledPreference, easyScoreCalculator);
     }
 
+    /**
+     * Every call must be followed by a {@link #releasePartitionExecutor()} call,
+     * for example when the {@link EasyScoreDirector} is disposed at the end of solving.
+     * @return never null, the executor shared by all {@link EasyScoreDirector}s of this factory,
+     * with {@link #getPartitionThreadCount()} - 1 daemon threads
+     */
+    public synchronized ExecutorService acquirePartitionExecutor() {
+        if (partitionThreadCount < 2) {
+            throw new IllegalStateException("The partitionThreadCount (" + partitionThreadCount
+                    + ") must be at least 2 to use a partitionExecutor.");
+        }
+        if (partitionExecutor == null) {
+            AtomicInteger threadIndex = new AtomicInteger(0);
+            partitionExecutor = Executors.newFixedThreadPool(partitionThreadCount - 1, runnable -> {
+                Thread thread = new Thread(runnable, "OptaPlannerPartitionedScore-" + threadIndex.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        partitionExecutorUserCount++;
+        return partitionExecutor;
+    }
+
+    public synchronized void releasePartitionExecutor() {
+        if (partitionExecutorUserCount == 0) {
+            throw new IllegalStateException("The partitionExecutor has already been released by every user.");
+        }
+        partitionExecutorUserCount--;
+        if (partitionExecutorUserCount == 0) {
+            // Don't keep threads alive while no score director calculates partitions
+            partitionExecutor.shutdownNow();
+            partitionExecutor = null;
+        }
+    }
+
+    /**
+     * @return true if the threads of the partitionExecutor currently exist
+     */
+    protected synchronized boolean isPartitionExecutorAlive() {
+        return partitionExecutor != null;
+    }
+
 }
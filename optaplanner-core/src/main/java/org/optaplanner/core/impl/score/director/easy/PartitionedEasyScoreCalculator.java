@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.easy;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+
+/**
+ * Allows an {@link EasyScoreCalculator} to split the {@link Score} calculation in independent partitions
+ * (for example 1 partition per planning entity), which the {@link EasyScoreDirector} calculates in parallel
+ * and then sums up.
+ * <p>
+ * Every constraint match must be counted in exactly 1 partition.
+ * For example, for a constraint between 2 entities, only count it in the partition of the first entity.
+ * <p>
+ * An implementation must be stateless and thread-safe.
+ * It must still implement {@link #calculateScore(Object, int)}, which is used if there are less than 2 partitions.
+ * Also use it as the assertionScoreDirectorFactory of an incremental score calculation
+ * to speed up {@code FAST_ASSERT} and {@code FULL_ASSERT} on large datasets.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see EasyScoreCalculator
+ */
+public interface PartitionedEasyScoreCalculator<Solution_> extends EasyScoreCalculator<Solution_> {
+
+    /**
+     * Called on the solver thread, before any {@link #calculatePartitionScore(Object, int)} call.
+     * @param solution never null
+     * @return {@code >= 0}
+     */
+    int getPartitionCount(Solution_ solution);
+
+    /**
+     * Called concurrently from multiple threads, each for a different partitionIndex.
+     * Must not modify the solution.
+     * @param solution never null
+     * @param partitionIndex {@code 0 <= partitionIndex < } {@link #getPartitionCount(Object)}
+     * @return never null, the {@link Score} of the constraint matches of that partition,
+     * its {@link Score#getInitScore()} is ignored (the {@link ScoreDefinition} replaces it)
+     */
+    Score calculatePartitionScore(Solution_ solution, int partitionIndex);
+
+}
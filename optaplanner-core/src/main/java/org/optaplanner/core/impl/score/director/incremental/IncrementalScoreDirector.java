@@ -21,10 +21,13 @@ import java.util.Collection;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
 /**
  * Incremental java implementation of {@link ScoreDirector}, which only recalculates the {@link Score}
@@ -37,12 +40,62 @@ public class IncrementalScoreDirector<Solution_>
         extends AbstractScoreDirector<Solution_, IncrementalScoreDirectorFactory<Solution_>> {
 
     private final IncrementalScoreCalculator<Solution_> incrementalScoreCalculator;
+    // Null if the incrementalScoreCalculator doesn't implement VariableDescriptorAwareIncrementalScoreCalculator
+    private final VariableDescriptorAwareIncrementalScoreCalculator<Solution_> variableDescriptorAwareCalculator;
+    // Indexed by VariableDescriptor.getOrdinal()
+    private final boolean[] listenedVariables;
+    // Null if the incrementalScoreCalculator doesn't implement PartialScoreIncrementalScoreCalculator
+    // or if none of its score levels are optimistic
+    private final PartialScoreIncrementalScoreCalculator<Solution_> partialScoreCalculator;
+    // ONLY_DOWN for the optimistic score levels of the partialScoreCalculator, ANY for the others
+    private final InitializingScoreTrend partialScoreTrend;
 
     public IncrementalScoreDirector(IncrementalScoreDirectorFactory scoreDirectorFactory,
                                     boolean constraintMatchEnabledPreference,
                                     IncrementalScoreCalculator<Solution_> incrementalScoreCalculator) {
         super(scoreDirectorFactory, constraintMatchEnabledPreference);
         this.incrementalScoreCalculator = incrementalScoreCalculator;
+        if (incrementalScoreCalculator instanceof VariableDescriptorAwareIncrementalScoreCalculator) {
+            variableDescriptorAwareCalculator
+                    = (VariableDescriptorAwareIncrementalScoreCalculator<Solution_>) incrementalScoreCalculator;
+            SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
+            listenedVariables = new boolean[solutionDescriptor.getVariableDescriptorCount()];
+            for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+                for (VariableDescriptor<Solution_> variableDescriptor
+                        : entityDescriptor.getDeclaredVariableDescriptors()) {
+                    listenedVariables[variableDescriptor.getOrdinal()]
+                            = variableDescriptorAwareCalculator.isVariableChangeListened(variableDescriptor);
+                }
+            }
+        } else {
+            variableDescriptorAwareCalculator = null;
+            listenedVariables = null;
+        }
+        partialScoreTrend = incrementalScoreCalculator instanceof PartialScoreIncrementalScoreCalculator
+                ? buildPartialScoreTrend((PartialScoreIncrementalScoreCalculator<Solution_>) incrementalScoreCalculator)
+                : null;
+        partialScoreCalculator = partialScoreTrend == null ? null
+                : (PartialScoreIncrementalScoreCalculator<Solution_>) incrementalScoreCalculator;
+    }
+
+    /**
+     * @param partialScoreCalculator never null
+     * @return null if no score level is optimistic
+     */
+    private InitializingScoreTrend buildPartialScoreTrend(
+            PartialScoreIncrementalScoreCalculator<Solution_> partialScoreCalculator) {
+        int levelsSize = getScoreDefinition().getLevelsSize();
+        InitializingScoreTrendLevel[] trendLevels = new InitializingScoreTrendLevel[levelsSize];
+        boolean optimisticLevelFound = false;
+        for (int i = 0; i < levelsSize; i++) {
+            if (partialScoreCalculator.isPartialScoreLevelOptimistic(i)) {
+                trendLevels[i] = InitializingScoreTrendLevel.ONLY_DOWN;
+                optimisticLevelFound = true;
+            } else {
+                trendLevels[i] = InitializingScoreTrendLevel.ANY;
+            }
+        }
+        return optimisticLevelFound ? new InitializingScoreTrend(trendLevels) : null;
     }
 
     public IncrementalScoreCalculator<Solution_> getIncrementalScoreCalculator() {
@@ -72,6 +125,16 @@ public class IncrementalScoreDirector<Solution_>
         return score;
     }
 
+    @Override
+    public Score calculateOptimisticScoreBound() {
+        if (partialScoreCalculator == null) {
+            return null;
+        }
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        Score partialScore = partialScoreCalculator.calculatePartialScore(workingInitScore);
+        return getScoreDefinition().buildOptimisticBound(partialScoreTrend, partialScore);
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference
@@ -106,13 +169,25 @@ public class IncrementalScoreDirector<Solution_>
 
     @Override
     public void beforeVariableChanged(VariableDescriptor variableDescriptor, Object entity) {
-        incrementalScoreCalculator.beforeVariableChanged(entity, variableDescriptor.getVariableName());
+        if (variableDescriptorAwareCalculator != null) {
+            if (listenedVariables[variableDescriptor.getOrdinal()]) {
+                variableDescriptorAwareCalculator.beforeVariableChanged(entity, variableDescriptor);
+            }
+        } else {
+            incrementalScoreCalculator.beforeVariableChanged(entity, variableDescriptor.getVariableName());
+        }
         super.beforeVariableChanged(variableDescriptor, entity);
     }
 
     @Override
     public void afterVariableChanged(VariableDescriptor variableDescriptor, Object entity) {
-        incrementalScoreCalculator.afterVariableChanged(entity, variableDescriptor.getVariableName());
+        if (variableDescriptorAwareCalculator != null) {
+            if (listenedVariables[variableDescriptor.getOrdinal()]) {
+                variableDescriptorAwareCalculator.afterVariableChanged(entity, variableDescriptor);
+            }
+        } else {
+            incrementalScoreCalculator.afterVariableChanged(entity, variableDescriptor.getVariableName());
+        }
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.incremental;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+
+/**
+ * Allows a {@link IncrementalScoreCalculator} to report the result of its most important constraints
+ * (typically the hard constraints) before it does the work for the other constraints,
+ * so Local Search can abort the evaluation of a move that its {@link Acceptor} will reject anyway.
+ * <p>
+ * This only pays off if the calculator delays the work for the other constraints
+ * until {@link #calculateScore(int)} is called.
+ * That delayed work must still be done if {@link #calculateScore(int)} is called after the move has been undone.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see InnerScoreDirector#calculateOptimisticScoreBound()
+ */
+public interface PartialScoreIncrementalScoreCalculator<Solution_> extends IncrementalScoreCalculator<Solution_> {
+
+    /**
+     * Declares on which score levels {@link #calculatePartialScore(int)} is optimistic:
+     * the delayed constraints can only lower that score level,
+     * so it is always equal or better than that score level of {@link #calculateScore(int)}.
+     * <p>
+     * This is unrelated to the {@link InitializingScoreTrend},
+     * which describes how initializing more variables changes the score, not how the delayed constraints do.
+     * <p>
+     * Called once, when the {@link InnerScoreDirector} is built.
+     * If it returns false for every score level, the partial score is never used.
+     * @param levelIndex {@code 0 <= levelIndex <} {@link ScoreDefinition#getLevelsSize()}
+     * @return true if the delayed constraints can only lower that score level
+     */
+    boolean isPartialScoreLevelOptimistic(int levelIndex);
+
+    /**
+     * Calculates the {@link Score} without the constraints of which the work has been delayed.
+     * <p>
+     * Only the score levels for which {@link #isPartialScoreLevelOptimistic(int)} returns true are used,
+     * the other score levels are ignored.
+     * <p>
+     * This method must not change the result of the next {@link #calculateScore(int)} call.
+     * @param initScore {@code <= 0}, managed by OptaPlanner, needed as a parameter in the {@link Score}'s creation
+     * @return never null
+     */
+    Score calculatePartialScore(int initScore);
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.incremental;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * Allows a {@link IncrementalScoreCalculator} to receive the {@link VariableDescriptor} of a changed variable,
+ * instead of its variable name, so it can dispatch on {@link VariableDescriptor#getOrdinal()}
+ * (and {@link EntityDescriptor#getOrdinal()}) instead of {@link String#equals(Object)} chains.
+ * <p>
+ * It can also ignore variables it doesn't care about (typically shadow variables it doesn't use),
+ * so the {@link IncrementalScoreDirector} doesn't even call it for those.
+ * <p>
+ * The {@link IncrementalScoreDirector} calls
+ * {@link #beforeVariableChanged(Object, VariableDescriptor)} and {@link #afterVariableChanged(Object, VariableDescriptor)}
+ * instead of {@link #beforeVariableChanged(Object, String)} and {@link #afterVariableChanged(Object, String)}.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see IncrementalScoreCalculator
+ */
+public interface VariableDescriptorAwareIncrementalScoreCalculator<Solution_>
+        extends IncrementalScoreCalculator<Solution_> {
+
+    /**
+     * Called once per variable, when the {@link IncrementalScoreDirector} is created, before any other method.
+     * This is a good place to remember the {@link VariableDescriptor#getOrdinal()} of each variable of interest.
+     * @param variableDescriptor never null, either a genuine or shadow variable
+     * @return true if {@link #beforeVariableChanged(Object, VariableDescriptor)}
+     * and {@link #afterVariableChanged(Object, VariableDescriptor)} must be called for that variable
+     */
+    boolean isVariableChangeListened(VariableDescriptor<Solution_> variableDescriptor);
+
+    /**
+     * @param entity never null, an instance of a {@link PlanningEntity} class
+     * @param variableDescriptor never null, for which {@link #isVariableChangeListened(VariableDescriptor)} returned true
+     */
+    void beforeVariableChanged(Object entity, VariableDescriptor<Solution_> variableDescriptor);
+
+    /**
+     * @param entity never null, an instance of a {@link PlanningEntity} class
+     * @param variableDescriptor never null, for which {@link #isVariableChangeListened(VariableDescriptor)} returned true
+     */
+    void afterVariableChanged(Object entity, VariableDescriptor<Solution_> variableDescriptor);
+
+}
@@ -109,6 +109,14 @@ public class BasicPlumbingTermination extends AbstractTermination {
         problemFactChangesBeingProcessed = false;
     }
 
+    /**
+     * Concurrency note: deliberately not synchronized, so monitoring never blocks the solver thread.
+     * @return {@code >= 0}
+     */
+    public int getProblemFactChangeQueueSize() {
+        return problemFactChangeQueue.size();
+    }
+
     public synchronized boolean isEveryProblemFactChangeProcessed() {
         return problemFactChangeQueue.isEmpty() && !problemFactChangesBeingProcessed;
     }
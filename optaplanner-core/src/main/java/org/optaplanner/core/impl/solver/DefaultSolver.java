@@ -26,6 +26,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.localsearch.decider.MoveEvaluationProfiler;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListener;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleSupport;
@@ -35,6 +36,8 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.event.SolverEventSupport;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.metrics.SolverMetrics;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.slf4j.Logger;
@@ -65,6 +68,9 @@ public class DefaultSolver<Solution_> implements Solver<Solution_> {
 
     protected AtomicBoolean solving = new AtomicBoolean(false);
 
+    protected SolverMetrics<Solution_> solverMetrics = null;
+    protected SolverMetricsRegistry solverMetricsRegistry = null;
+
     protected DefaultSolverScope<Solution_> solverScope = new DefaultSolverScope<>();
 
     public EnvironmentMode getEnvironmentMode() {
@@ -128,6 +134,28 @@ public class DefaultSolver<Solution_> implements Solver<Solution_> {
         }
     }
 
+    public SolverMetrics<Solution_> getSolverMetrics() {
+        return solverMetrics;
+    }
+
+    /**
+     * @param solverMetricsRegistry sometimes null, if not null then metrics are collected and registered
+     * during every {@link #solve(Object)}
+     */
+    public void setSolverMetricsRegistry(SolverMetricsRegistry solverMetricsRegistry) {
+        if (solverMetrics != null) {
+            removePhaseLifecycleListener(solverMetrics);
+            removeEventListener(solverMetrics);
+            solverMetrics = null;
+        }
+        this.solverMetricsRegistry = solverMetricsRegistry;
+        if (solverMetricsRegistry != null) {
+            solverMetrics = new SolverMetrics<>(this, basicPlumbingTermination);
+            addPhaseLifecycleListener(solverMetrics);
+            addEventListener(solverMetrics);
+        }
+    }
+
     public DefaultSolverScope<Solution_> getSolverScope() {
         return solverScope;
     }
@@ -192,12 +220,19 @@ public class DefaultSolver<Solution_> implements Solver<Solution_> {
         }
         solverScope.setBestSolution(planningProblem);
         outerSolvingStarted(solverScope);
-        boolean restartSolver = true;
-        while (restartSolver) {
-            solvingStarted(solverScope);
-            runPhases();
-            solvingEnded(solverScope);
-            restartSolver = checkProblemFactChanges();
+        try {
+            boolean restartSolver = true;
+            while (restartSolver) {
+                solvingStarted(solverScope);
+                runPhases();
+                solvingEnded(solverScope);
+                restartSolver = checkProblemFactChanges();
+            }
+        } finally {
+            // Also if solving fails, otherwise the next solve() can't register the metrics again
+            if (solverMetrics != null) {
+                solverMetricsRegistry.unregister(solverMetrics);
+            }
         }
         outerSolvingEnded(solverScope);
         return solverScope.getBestSolution();
@@ -209,6 +244,10 @@ public class DefaultSolver<Solution_> implements Solver<Solution_> {
         solverScope.setStartingSolverCount(0);
         solverScope.setWorkingRandom(randomFactory.createRandom());
         solverScope.setScoreDirector(scoreDirectorFactory.buildScoreDirector(constraintMatchEnabledPreference));
+        if (solverMetrics != null) {
+            solverMetrics.reset();
+            solverMetricsRegistry.register(solverMetrics);
+        }
     }
 
     public void solvingStarted(DefaultSolverScope<Solution_> solverScope) {
@@ -327,4 +366,12 @@ public class DefaultSolver<Solution_> implements Solver<Solution_> {
         phaseLifecycleSupport.removeEventListener(phaseLifecycleListener);
     }
 
+    /**
+     * Profiles the move evaluations of all local search phases.
+     * @param moveEvaluationProfiler sometimes null, null to stop profiling
+     */
+    public void setMoveEvaluationProfiler(MoveEvaluationProfiler moveEvaluationProfiler) {
+        solverScope.setMoveEvaluationProfiler(moveEvaluationProfiler);
+    }
+
 }
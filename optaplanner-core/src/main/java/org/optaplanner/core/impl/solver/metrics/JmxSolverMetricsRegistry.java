@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import java.lang.management.ManagementFactory;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * Registers every {@link SolverMetrics} as a standard MBean on the platform {@link MBeanServer},
+ * named {@value #OBJECT_NAME_PREFIX}{@code <solverId>}.
+ */
+public class JmxSolverMetricsRegistry implements SolverMetricsRegistry {
+
+    public static final String OBJECT_NAME_PREFIX = "org.optaplanner:type=Solver,name=";
+
+    @Override
+    public void register(SolverMetricsMBean solverMetrics) {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            mBeanServer.registerMBean(solverMetrics, buildObjectName(solverMetrics));
+        } catch (JMException e) {
+            throw new IllegalStateException("The solverMetrics (" + solverMetrics
+                    + ") could not be registered as an MBean.", e);
+        }
+    }
+
+    @Override
+    public void unregister(SolverMetricsMBean solverMetrics) {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            mBeanServer.unregisterMBean(buildObjectName(solverMetrics));
+        } catch (InstanceNotFoundException e) {
+            // Already unregistered
+        } catch (JMException e) {
+            throw new IllegalStateException("The solverMetrics (" + solverMetrics
+                    + ") could not be unregistered as an MBean.", e);
+        }
+    }
+
+    protected ObjectName buildObjectName(SolverMetricsMBean solverMetrics) throws MalformedObjectNameException {
+        return new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(solverMetrics.getSolverId()));
+    }
+
+}
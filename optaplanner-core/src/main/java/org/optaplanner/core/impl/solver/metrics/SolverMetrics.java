@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.ScoreUtils;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.BasicPlumbingTermination;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+
+/**
+ * Collects the metrics of 1 {@link DefaultSolver}.
+ * <p>
+ * Concurrency notes: only the solver thread writes, any thread can read.
+ * The counters are volatile and never require a lock, so enabling metrics costs a few writes per step.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SolverMetrics<Solution_> extends PhaseLifecycleListenerAdapter<Solution_>
+        implements SolverEventListener<Solution_>, SolverMetricsMBean {
+
+    private static final AtomicLong SOLVER_ID_SEQUENCE = new AtomicLong(0L);
+
+    private final String solverId;
+    private final DefaultSolver<Solution_> solver;
+    private final BasicPlumbingTermination basicPlumbingTermination;
+
+    private volatile long stepCount = 0L;
+    private volatile long selectedMoveCount = 0L;
+    private volatile long acceptedMoveCount = 0L;
+    private volatile long bestSolutionCloneCount = 0L;
+
+    public SolverMetrics(DefaultSolver<Solution_> solver, BasicPlumbingTermination basicPlumbingTermination) {
+        this.solverId = "solver-" + SOLVER_ID_SEQUENCE.incrementAndGet();
+        this.solver = solver;
+        this.basicPlumbingTermination = basicPlumbingTermination;
+    }
+
+    public void reset() {
+        stepCount = 0L;
+        selectedMoveCount = 0L;
+        acceptedMoveCount = 0L;
+        bestSolutionCloneCount = 0L;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        stepCount++;
+        if (stepScope instanceof LocalSearchStepScope) {
+            LocalSearchStepScope<Solution_> localSearchStepScope = (LocalSearchStepScope<Solution_>) stepScope;
+            Long stepSelectedMoveCount = localSearchStepScope.getSelectedMoveCount();
+            Long stepAcceptedMoveCount = localSearchStepScope.getAcceptedMoveCount();
+            if (stepSelectedMoveCount != null && stepAcceptedMoveCount != null) {
+                selectedMoveCount += stepSelectedMoveCount;
+                acceptedMoveCount += stepAcceptedMoveCount;
+            }
+        }
+    }
+
+    @Override
+    public void bestSolutionChanged(BestSolutionChangedEvent<Solution_> event) {
+        // Every best solution change is a planning clone of the working solution
+        bestSolutionCloneCount++;
+    }
+
+    // ************************************************************************
+    // Metrics methods
+    // ************************************************************************
+
+    @Override
+    public String getSolverId() {
+        return solverId;
+    }
+
+    @Override
+    public boolean isSolving() {
+        return solver.isSolving();
+    }
+
+    @Override
+    public long getTimeMillisSpent() {
+        DefaultSolverScope<Solution_> solverScope = solver.getSolverScope();
+        Long startingSystemTimeMillis = solverScope.getStartingSystemTimeMillis();
+        if (startingSystemTimeMillis == null) {
+            return 0L;
+        }
+        Long endingSystemTimeMillis = solverScope.getEndingSystemTimeMillis();
+        if (endingSystemTimeMillis == null) {
+            endingSystemTimeMillis = System.currentTimeMillis();
+        }
+        return Math.max(0L, endingSystemTimeMillis - startingSystemTimeMillis);
+    }
+
+    @Override
+    public long getScoreCalculationCount() {
+        InnerScoreDirector<Solution_> scoreDirector = solver.getSolverScope().getScoreDirector();
+        return scoreDirector == null ? 0L : scoreDirector.getCalculationCount();
+    }
+
+    @Override
+    public long getScoreCalculationSpeed() {
+        long timeMillisSpent = getTimeMillisSpent();
+        // Avoid divide by zero exception on a fast CPU
+        return getScoreCalculationCount() * 1000L / (timeMillisSpent == 0L ? 1L : timeMillisSpent);
+    }
+
+    @Override
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    @Override
+    public String getBestScore() {
+        Score bestScore = solver.getBestScore();
+        return bestScore == null ? null : bestScore.toString();
+    }
+
+    @Override
+    public double[] getBestScoreLevels() {
+        Score bestScore = solver.getBestScore();
+        return bestScore == null ? null : ScoreUtils.extractLevelDoubles(bestScore);
+    }
+
+    @Override
+    public double getMoveAcceptanceRatio() {
+        long selectedMoveCount = this.selectedMoveCount;
+        return selectedMoveCount == 0L ? 0.0 : ((double) acceptedMoveCount) / ((double) selectedMoveCount);
+    }
+
+    @Override
+    public long getTimeMillisSinceLastImprovement() {
+        Long bestSolutionTimeMillis = solver.getSolverScope().getBestSolutionTimeMillis();
+        if (bestSolutionTimeMillis == null) {
+            return 0L;
+        }
+        return Math.max(0L, System.currentTimeMillis() - bestSolutionTimeMillis);
+    }
+
+    @Override
+    public int getProblemFactChangeQueueSize() {
+        return basicPlumbingTermination.getProblemFactChangeQueueSize();
+    }
+
+    @Override
+    public long getBestSolutionCloneCount() {
+        return bestSolutionCloneCount;
+    }
+
+    @Override
+    public String toString() {
+        return solverId;
+    }
+
+}
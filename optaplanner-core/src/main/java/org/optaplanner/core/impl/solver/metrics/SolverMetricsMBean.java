@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.Solver;
+
+/**
+ * The live metrics of a {@link Solver}, readable from any thread while it's solving.
+ * <p>
+ * Named according to the JMX standard MBean convention, so {@link SolverMetrics} can be registered as is.
+ * All values are snapshots: they might be slightly stale, but they never block the solver thread.
+ * @see SolverMetrics
+ */
+public interface SolverMetricsMBean {
+
+    /**
+     * @return never null, unique within this JVM
+     */
+    String getSolverId();
+
+    /**
+     * @return true if the {@link Solver} is solving
+     */
+    boolean isSolving();
+
+    /**
+     * @return {@code >= 0}, the time spent since the (re)start of the current solve
+     */
+    long getTimeMillisSpent();
+
+    /**
+     * @return {@code >= 0}, since the (re)start of the current solve
+     */
+    long getScoreCalculationCount();
+
+    /**
+     * @return {@code >= 0}, per second, since the (re)start of the current solve
+     */
+    long getScoreCalculationSpeed();
+
+    /**
+     * @return {@code >= 0}, the number of steps of all phases
+     */
+    long getStepCount();
+
+    /**
+     * @return sometimes null, the {@link Score#toString()} of the best solution
+     */
+    String getBestScore();
+
+    /**
+     * @return sometimes null, the best score per score level, excluding the init score
+     */
+    double[] getBestScoreLevels();
+
+    /**
+     * @return {@code 0.0 <= ratio <= 1.0}, the accepted moves divided by the selected moves in local search
+     */
+    double getMoveAcceptanceRatio();
+
+    /**
+     * @return {@code >= 0}, the time since the last best solution change
+     */
+    long getTimeMillisSinceLastImprovement();
+
+    /**
+     * @return {@code >= 0}, the number of problem fact changes that are waiting to be processed
+     */
+    int getProblemFactChangeQueueSize();
+
+    /**
+     * @return {@code >= 0}, the number of planning clones of the best solution
+     */
+    long getBestSolutionCloneCount();
+
+}
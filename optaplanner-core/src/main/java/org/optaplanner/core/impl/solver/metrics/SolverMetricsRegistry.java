@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import org.optaplanner.core.api.solver.Solver;
+
+/**
+ * Publishes the {@link SolverMetrics} of a {@link Solver} while it's solving,
+ * for example to JMX (see {@link JmxSolverMetricsRegistry}) or to a metrics library.
+ * <p>
+ * An implementation must have a public no-arg constructor and must be thread-safe,
+ * because multiple solvers can use the same instance.
+ */
+public interface SolverMetricsRegistry {
+
+    /**
+     * Called from the solver thread when solving starts.
+     * @param solverMetrics never null
+     */
+    void register(SolverMetricsMBean solverMetrics);
+
+    /**
+     * Called from the solver thread when solving ends.
+     * @param solverMetrics never null
+     */
+    void unregister(SolverMetricsMBean solverMetrics);
+
+}
@@ -44,6 +44,55 @@ public class DefaultRandomFactory implements RandomFactory {
 
     @Override
     public Random createRandom() {
+        return createRandomWithSeed(randomSeed);
+    }
+
+    /**
+     * Creates an independent random stream, for example for another thread or partition.
+     * <p>
+     * If there is a seed, the same streamIndex always results in the same random sequence.
+     * Different streamIndexes result in sequences that are independent from each other
+     * and from the one of {@link #createRandom()}.
+     * @param streamIndex {@code >= 0}
+     * @return never null
+     */
+    public Random createRandom(int streamIndex) {
+        if (streamIndex < 0) {
+            throw new IllegalArgumentException("The streamIndex (" + streamIndex + ") cannot be negative.");
+        }
+        switch (randomType) {
+            case SPLITTABLE_RANDOM: {
+                SplittableRandomAdaptor random = (SplittableRandomAdaptor) createRandom();
+                SplittableRandomAdaptor stream = random.split();
+                for (int i = 0; i < streamIndex; i++) {
+                    stream = random.split();
+                }
+                return stream;
+            }
+            case XOROSHIRO_128_PLUS: {
+                XoRoShiRo128PlusRandom stream = (XoRoShiRo128PlusRandom) createRandom();
+                for (int i = 0; i <= streamIndex; i++) {
+                    stream.jump();
+                }
+                return stream;
+            }
+            default:
+                return createRandomWithSeed(randomSeed == null ? null : deriveStreamSeed(randomSeed, streamIndex));
+        }
+    }
+
+    /**
+     * Mixes the seed and the streamIndex with the SplitMix64 finalizer,
+     * so nearby stream indexes don't result in correlated seeds.
+     */
+    protected static long deriveStreamSeed(long seed, int streamIndex) {
+        long z = seed + (streamIndex + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    protected Random createRandomWithSeed(Long randomSeed) {
         switch (randomType) {
             case JDK:
                 return randomSeed == null ? new Random() : new Random(randomSeed);
@@ -61,6 +110,10 @@ public class DefaultRandomFactory implements RandomFactory {
                 return new RandomAdaptor(randomSeed == null ? new Well44497a() : new Well44497a(randomSeed));
             case WELL44497B:
                 return new RandomAdaptor(randomSeed == null ? new Well44497b() : new Well44497b(randomSeed));
+            case SPLITTABLE_RANDOM:
+                return randomSeed == null ? new SplittableRandomAdaptor() : new SplittableRandomAdaptor(randomSeed);
+            case XOROSHIRO_128_PLUS:
+                return randomSeed == null ? new XoRoShiRo128PlusRandom() : new XoRoShiRo128PlusRandom(randomSeed);
             default:
                 throw new IllegalStateException("The randomType (" + randomType + ") is not implemented.");
         }
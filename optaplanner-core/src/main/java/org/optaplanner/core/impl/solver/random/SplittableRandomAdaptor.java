@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Adapts a {@link SplittableRandom} to the {@link Random} API that the selectors use.
+ * <p>
+ * Not thread-safe (unlike {@link Random}): use {@link #split()} to create an instance for another thread.
+ */
+public class SplittableRandomAdaptor extends Random {
+
+    private SplittableRandom splittableRandom;
+
+    public SplittableRandomAdaptor() {
+        this(new SplittableRandom());
+    }
+
+    public SplittableRandomAdaptor(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public SplittableRandomAdaptor(SplittableRandom splittableRandom) {
+        this.splittableRandom = splittableRandom;
+    }
+
+    /**
+     * @return never null, an independent instance, reproducible if this instance is reproducible
+     */
+    public SplittableRandomAdaptor split() {
+        return new SplittableRandomAdaptor(splittableRandom.split());
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        // Also called by the super constructor, before the splittableRandom is set
+        if (splittableRandom != null) {
+            splittableRandom = new SplittableRandom(seed);
+        }
+    }
+
+    @Override
+    protected int next(int bits) {
+        return splittableRandom.nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+        return splittableRandom.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return splittableRandom.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return splittableRandom.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return splittableRandom.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return splittableRandom.nextBoolean();
+    }
+
+}
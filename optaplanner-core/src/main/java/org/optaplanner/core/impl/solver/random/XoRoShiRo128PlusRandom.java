@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Random;
+
+/**
+ * A fast, small state {@link Random} based on the xoroshiro128+ algorithm by David Blackman and Sebastiano Vigna.
+ * <p>
+ * The state is seeded with SplitMix64, as recommended by the authors.
+ * {@link #jump()} advances the state by 2^64 calls,
+ * which is used to create independent, non-overlapping streams from the same seed.
+ * <p>
+ * Not thread-safe (unlike {@link Random}): every thread needs its own instance.
+ */
+public class XoRoShiRo128PlusRandom extends Random {
+
+    private static final long[] JUMP = {0xbeac0467eba5facbL, 0xd86b048b86aa9922L};
+
+    private long s0;
+    private long s1;
+
+    public XoRoShiRo128PlusRandom() {
+        this(System.nanoTime() ^ 0x5DEECE66DL);
+    }
+
+    public XoRoShiRo128PlusRandom(long seed) {
+        super(seed);
+        setSeed(seed);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        // Also called by the super constructor, before the fields are initialized, which is harmless
+        long splitMixState = seed;
+        splitMixState += 0x9E3779B97F4A7C15L;
+        s0 = mixSplitMix64(splitMixState);
+        splitMixState += 0x9E3779B97F4A7C15L;
+        s1 = mixSplitMix64(splitMixState);
+    }
+
+    private static long mixSplitMix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public long nextLong() {
+        long s0 = this.s0;
+        long s1 = this.s1;
+        long result = s0 + s1;
+        s1 ^= s0;
+        this.s0 = Long.rotateLeft(s0, 55) ^ s1 ^ (s1 << 14);
+        this.s1 = Long.rotateLeft(s1, 36);
+        return result;
+    }
+
+    @Override
+    protected int next(int bits) {
+        // The highest bits are the most random ones
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0L;
+    }
+
+    /**
+     * Advances the state as if {@link #nextLong()} had been called 2^64 times.
+     */
+    public void jump() {
+        long jumpS0 = 0L;
+        long jumpS1 = 0L;
+        for (long jump : JUMP) {
+            for (int bit = 0; bit < 64; bit++) {
+                if ((jump & (1L << bit)) != 0L) {
+                    jumpS0 ^= s0;
+                    jumpS1 ^= s1;
+                }
+                nextLong();
+            }
+        }
+        s0 = jumpS0;
+        s1 = jumpS1;
+    }
+
+}
@@ -16,12 +16,16 @@
 
 package org.optaplanner.core.impl.solver.recaller;
 
+import java.util.Comparator;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.comparator.NaturalScoreComparator;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.event.SolverEventSupport;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
@@ -40,6 +44,8 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
 
+    protected Comparator<Score> scoreComparator = NaturalScoreComparator.INSTANCE;
+
     protected SolverEventSupport solverEventSupport;
 
     public void setAssertInitialScoreFromScratch(boolean assertInitialScoreFromScratch) {
@@ -54,6 +60,13 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.assertBestScoreIsUnmodified = assertBestScoreIsUnmodified;
     }
 
+    /**
+     * @param scoreComparator never null, usually {@link ScoreDefinition#getScoreComparator()}
+     */
+    public void setScoreComparator(Comparator<Score> scoreComparator) {
+        this.scoreComparator = scoreComparator;
+    }
+
     public void setSolverEventSupport(SolverEventSupport solverEventSupport) {
         this.solverEventSupport = solverEventSupport;
     }
@@ -90,7 +103,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         DefaultSolverScope<Solution_> solverScope = phaseScope.getSolverScope();
         Score bestScore = solverScope.getBestScore();
         boolean bestScoreImproved;
-        bestScoreImproved = score.compareTo(bestScore) > 0;
+        bestScoreImproved = scoreComparator.compare(score, bestScore) > 0;
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
@@ -106,7 +119,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         DefaultSolverScope<Solution_> solverScope = phaseScope.getSolverScope();
         Score bestScore = solverScope.getBestScore();
         boolean bestScoreImproved;
-        bestScoreImproved = score.compareTo(bestScore) > 0;
+        bestScoreImproved = scoreComparator.compare(score, bestScore) > 0;
         // The method processWorkingSolutionDuringMove() is called 0..* times
         // stepScope.getBestScoreImproved() is initialized on false before the first call here
         if (bestScoreImproved) {
@@ -22,6 +22,7 @@ import java.util.Random;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.localsearch.decider.MoveEvaluationProfiler;
 import org.optaplanner.core.impl.score.ScoreUtils;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -38,6 +39,7 @@ public class DefaultSolverScope<Solution_> {
     protected int startingSolverCount;
     protected Random workingRandom;
     protected InnerScoreDirector<Solution_> scoreDirector;
+    protected MoveEvaluationProfiler moveEvaluationProfiler = null;
 
     protected Long startingSystemTimeMillis;
     protected Long endingSystemTimeMillis;
@@ -73,6 +75,17 @@ public class DefaultSolverScope<Solution_> {
         this.scoreDirector = scoreDirector;
     }
 
+    /**
+     * @return sometimes null, null if moves are not profiled
+     */
+    public MoveEvaluationProfiler getMoveEvaluationProfiler() {
+        return moveEvaluationProfiler;
+    }
+
+    public void setMoveEvaluationProfiler(MoveEvaluationProfiler moveEvaluationProfiler) {
+        this.moveEvaluationProfiler = moveEvaluationProfiler;
+    }
+
     public Long getStartingSystemTimeMillis() {
         return startingSystemTimeMillis;
     }
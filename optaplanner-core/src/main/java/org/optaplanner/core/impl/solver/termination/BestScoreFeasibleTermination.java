@@ -26,11 +26,13 @@ import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class BestScoreFeasibleTermination extends AbstractTermination {
 
+    private final FeasibilityScoreDefinition scoreDefinition;
     private final int feasibleLevelsSize;
     private final double[] timeGradientWeightFeasibleNumbers;
 
     public BestScoreFeasibleTermination(FeasibilityScoreDefinition scoreDefinition,
             double[] timeGradientWeightFeasibleNumbers) {
+        this.scoreDefinition = scoreDefinition;
         feasibleLevelsSize = scoreDefinition.getFeasibleLevelsSize();
         this.timeGradientWeightFeasibleNumbers = timeGradientWeightFeasibleNumbers;
         if (timeGradientWeightFeasibleNumbers.length != feasibleLevelsSize - 1) {
@@ -53,7 +55,7 @@ public class BestScoreFeasibleTermination extends AbstractTermination {
     }
 
     protected boolean isTerminated(Score bestScore) {
-        return ((FeasibilityScore) bestScore).isFeasible();
+        return scoreDefinition.isFeasible((FeasibilityScore) bestScore);
     }
 
     @Override
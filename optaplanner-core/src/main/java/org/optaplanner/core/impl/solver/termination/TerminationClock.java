@@ -0,0 +1,229 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Amortizes the cost of {@link System#currentTimeMillis()} for time based {@link Termination}s,
+ * which are checked after every move.
+ * <p>
+ * While {@link #start() started}, a daemon thread reads the system clock every {@link #getLatencyMillisLimit()}
+ * and {@link #currentTimeMillis()} returns that time, which is a volatile read.
+ * Unlike counting calls, this bounds the latency regardless of how expensive a move suddenly becomes.
+ * The returned time is never ahead of the system clock, so a termination never triggers too early.
+ * While not started, {@link #currentTimeMillis()} reads the system clock.
+ * <p>
+ * An instance can be shared by multiple users (for example the {@link Termination}s of multiple solvers):
+ * every {@link #start()} must be paired with a {@link #stop()}
+ * and it only stops ticking when its last user stops it.
+ * <p>
+ * The daemon thread is shared by all instances.
+ * It stops ticking an instance that is stopped or garbage collected
+ * and it is shut down as soon as no instance is ticking.
+ */
+public class TerminationClock {
+
+    /**
+     * Guarded by {@link TerminationClock TerminationClock.class}.
+     */
+    private static ScheduledExecutorService ticker = null;
+    /**
+     * Guarded by {@link TerminationClock TerminationClock.class}.
+     */
+    private static int tickerUserCount = 0;
+
+    private final long latencyMillisLimit;
+
+    private volatile long tickedTimeMillis = Long.MIN_VALUE;
+    private volatile boolean ticking = false;
+    /**
+     * Guarded by this.
+     */
+    private int userCount = 0;
+    /**
+     * Guarded by this.
+     */
+    private TickTask tickTask = null;
+
+    public TerminationClock(long latencyMillisLimit) {
+        if (latencyMillisLimit < 1L) {
+            throw new IllegalArgumentException("The latencyMillisLimit (" + latencyMillisLimit
+                    + ") cannot be lower than 1.");
+        }
+        this.latencyMillisLimit = latencyMillisLimit;
+    }
+
+    public long getLatencyMillisLimit() {
+        return latencyMillisLimit;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    /**
+     * Registers a user and starts ticking, unless already started by another user.
+     */
+    public synchronized void start() {
+        userCount++;
+        if (userCount > 1) {
+            return;
+        }
+        tick();
+        ticking = true;
+        tickTask = new TickTask(this);
+        tickTask.tickFuture = acquireTicker().scheduleAtFixedRate(tickTask,
+                latencyMillisLimit, latencyMillisLimit, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Unregisters a user and stops ticking if it was the last user.
+     * Does nothing if there are no users.
+     * Afterwards, {@link #currentTimeMillis()} reads the system clock.
+     */
+    public synchronized void stop() {
+        if (userCount == 0) {
+            return;
+        }
+        userCount--;
+        if (userCount > 0) {
+            return;
+        }
+        ticking = false;
+        tickTask.cancel();
+        tickTask = null;
+    }
+
+    /**
+     * @return true if at least 1 user has started this clock and hasn't stopped it yet
+     */
+    public synchronized boolean isStarted() {
+        return userCount > 0;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return the time in milliseconds, at most about {@link #getLatencyMillisLimit()} behind
+     * {@link System#currentTimeMillis()}
+     */
+    public long currentTimeMillis() {
+        if (!ticking) {
+            return readSystemTimeMillis();
+        }
+        return tickedTimeMillis;
+    }
+
+    /**
+     * Reads the system clock now,
+     * for example because a new phase has just read its starting time from the system clock.
+     */
+    public void reset() {
+        if (ticking) {
+            tick();
+        }
+    }
+
+    protected void tick() {
+        tickedTimeMillis = readSystemTimeMillis();
+    }
+
+    protected long readSystemTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    // ************************************************************************
+    // Ticker methods
+    // ************************************************************************
+
+    private static synchronized ScheduledExecutorService acquireTicker() {
+        if (ticker == null) {
+            ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "OptaPlannerTerminationClock");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        tickerUserCount++;
+        return ticker;
+    }
+
+    private static synchronized void releaseTicker() {
+        tickerUserCount--;
+        if (tickerUserCount == 0) {
+            // Don't keep a thread (and its context ClassLoader) alive while no clock is ticking
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * @return true if the daemon thread's executor currently exists
+     */
+    protected static synchronized boolean isTickerAlive() {
+        return ticker != null;
+    }
+
+    /**
+     * Weakly references its clock, so an unstopped clock can be garbage collected.
+     */
+    private static final class TickTask implements Runnable {
+
+        private final WeakReference<TerminationClock> clockReference;
+        private volatile ScheduledFuture<?> tickFuture = null;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        private TickTask(TerminationClock clock) {
+            clockReference = new WeakReference<>(clock);
+        }
+
+        @Override
+        public void run() {
+            TerminationClock clock = clockReference.get();
+            if (clock == null) {
+                // The clock was garbage collected without being stopped
+                cancel();
+                return;
+            }
+            clock.tick();
+        }
+
+        /**
+         * Idempotent, so the garbage collection check and {@link TerminationClock#stop()} can't release twice.
+         */
+        private void cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            ScheduledFuture<?> tickFuture = this.tickFuture;
+            if (tickFuture != null) {
+                tickFuture.cancel(false);
+            }
+            releaseTicker();
+        }
+
+    }
+
+}
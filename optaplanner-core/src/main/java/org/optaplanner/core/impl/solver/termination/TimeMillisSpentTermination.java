@@ -22,9 +22,19 @@ import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 public class TimeMillisSpentTermination extends AbstractTermination {
 
     private final long timeMillisSpentLimit;
+    private final TerminationClock clock;
 
     public TimeMillisSpentTermination(long timeMillisSpentLimit) {
+        this(timeMillisSpentLimit, null);
+    }
+
+    /**
+     * @param timeMillisSpentLimit {@code >= 0}
+     * @param clock sometimes null, if null the system clock is read on every check
+     */
+    public TimeMillisSpentTermination(long timeMillisSpentLimit, TerminationClock clock) {
         this.timeMillisSpentLimit = timeMillisSpentLimit;
+        this.clock = clock;
         if (timeMillisSpentLimit < 0L) {
             throw new IllegalArgumentException("The timeMillisSpentLimit (" + timeMillisSpentLimit
                     + ") cannot be negative.");
@@ -35,19 +45,44 @@ public class TimeMillisSpentTermination extends AbstractTermination {
         return timeMillisSpentLimit;
     }
 
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        if (clock != null) {
+            clock.start();
+        }
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope phaseScope) {
+        if (clock != null) {
+            clock.reset();
+        }
+    }
+
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        if (clock != null) {
+            clock.stop();
+        }
+    }
+
     // ************************************************************************
     // Terminated methods
     // ************************************************************************
 
     @Override
     public boolean isSolverTerminated(DefaultSolverScope solverScope) {
-        long solverTimeMillisSpent = solverScope.calculateTimeMillisSpentUpToNow();
+        long solverTimeMillisSpent = calculateSolverTimeMillisSpent(solverScope);
         return isTerminated(solverTimeMillisSpent);
     }
 
     @Override
     public boolean isPhaseTerminated(AbstractPhaseScope phaseScope) {
-        long phaseTimeMillisSpent = phaseScope.calculatePhaseTimeMillisSpentUpToNow();
+        long phaseTimeMillisSpent = calculatePhaseTimeMillisSpent(phaseScope);
         return isTerminated(phaseTimeMillisSpent);
     }
 
@@ -61,13 +96,13 @@ public class TimeMillisSpentTermination extends AbstractTermination {
 
     @Override
     public double calculateSolverTimeGradient(DefaultSolverScope solverScope) {
-        long solverTimeMillisSpent = solverScope.calculateTimeMillisSpentUpToNow();
+        long solverTimeMillisSpent = calculateSolverTimeMillisSpent(solverScope);
         return calculateTimeGradient(solverTimeMillisSpent);
     }
 
     @Override
     public double calculatePhaseTimeGradient(AbstractPhaseScope phaseScope) {
-        long phaseTimeMillisSpent = phaseScope.calculatePhaseTimeMillisSpentUpToNow();
+        long phaseTimeMillisSpent = calculatePhaseTimeMillisSpent(phaseScope);
         return calculateTimeGradient(phaseTimeMillisSpent);
     }
 
@@ -76,4 +111,18 @@ public class TimeMillisSpentTermination extends AbstractTermination {
         return Math.min(timeGradient, 1.0);
     }
 
+    protected long calculateSolverTimeMillisSpent(DefaultSolverScope solverScope) {
+        if (clock == null) {
+            return solverScope.calculateTimeMillisSpentUpToNow();
+        }
+        return Math.max(clock.currentTimeMillis() - solverScope.getStartingSystemTimeMillis(), 0L);
+    }
+
+    protected long calculatePhaseTimeMillisSpent(AbstractPhaseScope phaseScope) {
+        if (clock == null) {
+            return phaseScope.calculatePhaseTimeMillisSpentUpToNow();
+        }
+        return Math.max(clock.currentTimeMillis() - phaseScope.getStartingSystemTimeMillis(), 0L);
+    }
+
 }
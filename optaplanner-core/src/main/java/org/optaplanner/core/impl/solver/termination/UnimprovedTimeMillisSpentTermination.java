@@ -22,9 +22,19 @@ import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 public class UnimprovedTimeMillisSpentTermination extends AbstractTermination {
 
     private final long unimprovedTimeMillisSpentLimit;
+    private final TerminationClock clock;
 
     public UnimprovedTimeMillisSpentTermination(long unimprovedTimeMillisSpentLimit) {
+        this(unimprovedTimeMillisSpentLimit, null);
+    }
+
+    /**
+     * @param unimprovedTimeMillisSpentLimit {@code > 0}
+     * @param clock sometimes null, if null the system clock is read on every check
+     */
+    public UnimprovedTimeMillisSpentTermination(long unimprovedTimeMillisSpentLimit, TerminationClock clock) {
         this.unimprovedTimeMillisSpentLimit = unimprovedTimeMillisSpentLimit;
+        this.clock = clock;
         if (unimprovedTimeMillisSpentLimit <= 0L) {
             throw new IllegalArgumentException("The unimprovedTimeMillisSpentLimit (" + unimprovedTimeMillisSpentLimit
                     + ") cannot be negative.");
@@ -35,6 +45,31 @@ public class UnimprovedTimeMillisSpentTermination extends AbstractTermination {
         return unimprovedTimeMillisSpentLimit;
     }
 
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        if (clock != null) {
+            clock.start();
+        }
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope phaseScope) {
+        if (clock != null) {
+            clock.reset();
+        }
+    }
+
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        if (clock != null) {
+            clock.stop();
+        }
+    }
+
     // ************************************************************************
     // Terminated methods
     // ************************************************************************
@@ -52,8 +87,7 @@ public class UnimprovedTimeMillisSpentTermination extends AbstractTermination {
     }
 
     protected boolean isTerminated(long bestSolutionTimeMillis) {
-        long now = System.currentTimeMillis();
-        long unimprovedTimeMillisSpent = now - bestSolutionTimeMillis;
+        long unimprovedTimeMillisSpent = calculateUnimprovedTimeMillisSpent(bestSolutionTimeMillis);
         return unimprovedTimeMillisSpent >= unimprovedTimeMillisSpentLimit;
     }
 
@@ -74,10 +108,17 @@ public class UnimprovedTimeMillisSpentTermination extends AbstractTermination {
     }
 
     protected double calculateTimeGradient(long bestSolutionTimeMillis) {
-        long now = System.currentTimeMillis();
-        long unimprovedTimeMillisSpent = now - bestSolutionTimeMillis;
+        long unimprovedTimeMillisSpent = calculateUnimprovedTimeMillisSpent(bestSolutionTimeMillis);
         double timeGradient = ((double) unimprovedTimeMillisSpent) / ((double) unimprovedTimeMillisSpentLimit);
         return Math.min(timeGradient, 1.0);
     }
 
+    protected long calculateUnimprovedTimeMillisSpent(long bestSolutionTimeMillis) {
+        if (clock == null) {
+            return System.currentTimeMillis() - bestSolutionTimeMillis;
+        }
+        // The clock can lag behind the bestSolutionTimeMillis, which is read from the system clock
+        return Math.max(clock.currentTimeMillis() - bestSolutionTimeMillis, 0L);
+    }
+
 }
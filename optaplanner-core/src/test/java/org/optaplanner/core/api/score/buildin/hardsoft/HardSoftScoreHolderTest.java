@@ -16,9 +16,14 @@
 
 package org.optaplanner.core.api.score.buildin.hardsoft;
 
+import java.util.Collection;
+
 import org.junit.Test;
+import org.kie.api.definition.rule.Rule;
 import org.kie.api.runtime.rule.RuleContext;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.holder.AbstractScoreHolderTest;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 import static org.junit.Assert.*;
 
@@ -61,4 +66,44 @@ public class HardSoftScoreHolderTest extends AbstractScoreHolderTest {
         }
     }
 
+    @Test
+    public void constraintMatchTotalsPerRuleAndScoreLevel() {
+        HardSoftScoreHolder scoreHolder = new HardSoftScoreHolder(true);
+
+        Rule rule1 = mockRule("scoreRule1");
+        RuleContext ruleContext1a = mockRuleContext(rule1);
+        RuleContext ruleContext1b = mockRuleContext(rule1);
+        scoreHolder.addHardConstraintMatch(ruleContext1a, -1);
+        scoreHolder.addHardConstraintMatch(ruleContext1b, -2);
+        scoreHolder.addSoftConstraintMatch(ruleContext1b, -20); // Different score level
+        // A different Rule instance with the same package and name
+        RuleContext ruleContext1c = mockRuleContext("scoreRule1");
+        scoreHolder.addHardConstraintMatch(ruleContext1c, -4);
+        callUnMatch(ruleContext1a);
+
+        assertEquals(HardSoftScore.valueOf(0, -6, -20), scoreHolder.extractScore(0));
+        Collection<ConstraintMatchTotal> constraintMatchTotals = scoreHolder.getConstraintMatchTotals();
+        assertEquals(2, constraintMatchTotals.size());
+        for (ConstraintMatchTotal constraintMatchTotal : constraintMatchTotals) {
+            if (constraintMatchTotal.getScoreLevel() == 0) {
+                assertEquals(2, constraintMatchTotal.getConstraintMatchCount());
+                assertEquals(-6.0, constraintMatchTotal.getWeightTotalAsNumber().doubleValue(), 0.0);
+            } else {
+                assertEquals(1, constraintMatchTotal.getConstraintMatchCount());
+                assertEquals(-20.0, constraintMatchTotal.getWeightTotalAsNumber().doubleValue(), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void constraintMatchTotalsAfterSerialization() {
+        HardSoftScoreHolder scoreHolder = PlannerTestUtils.serializeAndDeserializeWithJavaSerialization(
+                new HardSoftScoreHolder(true));
+        scoreHolder.addHardConstraintMatch(mockRuleContext("scoreRule1"), -1);
+        scoreHolder.addSoftConstraintMatch(mockRuleContext("scoreRule1"), -10);
+
+        assertEquals(HardSoftScore.valueOf(0, -1, -10), scoreHolder.extractScore(0));
+        assertEquals(2, scoreHolder.getConstraintMatchTotals().size());
+    }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.buildin.hardsoftscaledlong;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.kie.api.runtime.rule.RuleContext;
+import org.optaplanner.core.api.score.holder.AbstractScoreHolderTest;
+
+import static org.junit.Assert.*;
+
+public class HardSoftScaledLongScoreHolderTest extends AbstractScoreHolderTest {
+
+    @Test
+    public void addConstraintMatchWithConstraintMatch() {
+        addConstraintMatch(true);
+    }
+
+    @Test
+    public void addConstraintMatchWithoutConstraintMatch() {
+        addConstraintMatch(false);
+    }
+
+    public void addConstraintMatch(boolean constraintMatchEnabled) {
+        HardSoftScaledLongScoreHolder scoreHolder = new HardSoftScaledLongScoreHolder(constraintMatchEnabled, 2);
+
+        scoreHolder.addHardConstraintMatch(mockRuleContext("scoreRule1"), -100000L);
+
+        RuleContext ruleContext2 = mockRuleContext("scoreRule2");
+        scoreHolder.addHardConstraintMatch(ruleContext2, -20000L);
+        callUnMatch(ruleContext2);
+
+        RuleContext ruleContext3 = mockRuleContext("scoreRule3");
+        scoreHolder.addSoftConstraintMatch(ruleContext3, new BigDecimal("-30"));
+        scoreHolder.addSoftConstraintMatch(ruleContext3, new BigDecimal("-3.05")); // Overwrite existing
+        scoreHolder.addHardConstraintMatch(ruleContext3, new BigDecimal("-300.1")); // Different score level
+        scoreHolder.addHardConstraintMatch(ruleContext3, new BigDecimal("-400")); // Overwrite existing
+
+        RuleContext ruleContext4 = mockRuleContext("scoreRule4");
+        scoreHolder.addHardConstraintMatch(ruleContext4, -1L);
+        scoreHolder.addSoftConstraintMatch(ruleContext4, -1L);
+        callUnMatch(ruleContext4);
+
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, -140000L, -305L, 2), scoreHolder.extractScore(0));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-7, -140000L, -305L, 2), scoreHolder.extractScore(-7));
+        if (constraintMatchEnabled) {
+            assertEquals(6, scoreHolder.getConstraintMatchTotals().size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addConstraintMatchWithTooManyDecimals() {
+        HardSoftScaledLongScoreHolder scoreHolder = new HardSoftScaledLongScoreHolder(false, 2);
+        scoreHolder.addHardConstraintMatch(mockRuleContext("scoreRule1"), new BigDecimal("-0.001"));
+    }
+
+}
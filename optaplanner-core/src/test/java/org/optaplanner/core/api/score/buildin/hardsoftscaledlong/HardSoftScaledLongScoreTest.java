@@ -0,0 +1,252 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.buildin.hardsoftscaledlong;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.AbstractScoreTest;
+import org.optaplanner.core.impl.testdata.util.PlannerAssert;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+
+public class HardSoftScaledLongScoreTest extends AbstractScoreTest {
+
+    @Test
+    public void parseScore() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, -14720L, -2583L, 2),
+                HardSoftScaledLongScore.parseScore("-147.2hard/-25.83soft"));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-7, -1472L, -2583L, 1),
+                HardSoftScaledLongScore.parseScore("-7init/-147.2hard/-258.3soft"));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, -147L, 258L, 0),
+                HardSoftScaledLongScore.parseScore("-147hard/258soft"));
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("-147.20hard/-25.83soft",
+                HardSoftScaledLongScore.valueOfUnscaled(0, -14720L, -2583L, 2).toString());
+        assertEquals("-7init/-147.2hard/-258.3soft",
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -1472L, -2583L, 1).toString());
+        assertEquals("0.000hard/-0.001soft",
+                HardSoftScaledLongScore.valueOfUnscaled(0, 0L, -1L, 3).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseScoreIllegalArgument() {
+        HardSoftScaledLongScore.parseScore("-147.2");
+    }
+
+    @Test
+    public void valueOf() {
+        HardSoftScaledLongScore score = HardSoftScaledLongScore.valueOf(-7,
+                new BigDecimal("-147.2"), new BigDecimal("-25.83"));
+        assertEquals(-7, score.getInitScore());
+        assertEquals(2, score.getScale());
+        assertEquals(-14720L, score.getUnscaledHardScore());
+        assertEquals(-2583L, score.getUnscaledSoftScore());
+        assertEquals(new BigDecimal("-147.20"), score.getHardScore());
+        assertEquals(new BigDecimal("-25.83"), score.getSoftScore());
+    }
+
+    @Test
+    public void withScale() {
+        HardSoftScaledLongScore score = HardSoftScaledLongScore.valueOfUnscaled(-7, -1472L, -2583L, 1);
+        assertSame(score, score.withScale(1));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-7, -147200L, -258300L, 3), score.withScale(3));
+        assertEquals(score, score.withScale(3).withScale(1));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void withScaleTooLow() {
+        HardSoftScaledLongScore.valueOfUnscaled(0, -1472L, -2583L, 1).withScale(0);
+    }
+
+    @Test
+    public void toInitializedScore() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, -1472L, -2583L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -1472L, -2583L, 1).toInitializedScore());
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, -1472L, -2583L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -1472L, -2583L, 1).toInitializedScore());
+    }
+
+    @Test
+    public void feasible() {
+        assertScoreNotFeasible(
+                HardSoftScaledLongScore.valueOfUnscaled(0, -5L, -300L, 0),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -5L, 4000L, 0),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -7L, 4000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -5L, -300L, 0),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, 0L, -300L, 0)
+        );
+        assertScoreFeasible(
+                HardSoftScaledLongScore.valueOfUnscaled(0, 0L, -300007L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 0L, -300L, 0),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 2L, -300L, 0)
+        );
+    }
+
+    @Test
+    public void add() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 1900L, -32000L, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 2000L, -2000L, 2).add(
+                        HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -30000L, 2)));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-77, 1900L, -32000L, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(-70, 2000L, -2000L, 2).add(
+                        HardSoftScaledLongScore.valueOfUnscaled(-7, -100L, -30000L, 2)));
+        // Different scales
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 1990L, -2030L, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 2000L, -2000L, 2).add(
+                        HardSoftScaledLongScore.valueOfUnscaled(0, -1L, -3L, 1)));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void addOverflow() {
+        HardSoftScaledLongScore.valueOfUnscaled(0, Long.MAX_VALUE, 0L, 2).add(
+                HardSoftScaledLongScore.valueOfUnscaled(0, 1L, 0L, 2));
+    }
+
+    @Test
+    public void subtract() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 2100L, 28000L, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 2000L, -2000L, 2).subtract(
+                        HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -30000L, 2)));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-63, 2100L, 28000L, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(-70, 2000L, -2000L, 2).subtract(
+                        HardSoftScaledLongScore.valueOfUnscaled(-7, -100L, -30000L, 2)));
+    }
+
+    @Test
+    public void multiply() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 60L, -60L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 50L, -50L, 1).multiply(1.2));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 12L, -12L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 10L, -10L, 1).multiply(1.2));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-14, 86L, -104L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, 43L, -52L, 1).multiply(2.0));
+    }
+
+    @Test
+    public void divide() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 50L, -50L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 250L, -250L, 1).divide(5.0));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 42L, -42L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 210L, -210L, 1).divide(5.0));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-7, 43L, -52L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(-14, 86L, -104L, 1).divide(2.0));
+    }
+
+    @Test
+    public void power() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 160L, 250L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -40L, 50L, 1).power(2.0));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-343, -640L, 1250L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -40L, 50L, 1).power(3.0));
+        // Non integer exponent
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 20L, 30L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 40L, 90L, 1).power(0.5));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void powerNegativeLevelToNonIntegerExponent() {
+        HardSoftScaledLongScore.valueOfUnscaled(0, -40L, 90L, 1).power(0.5);
+    }
+
+    @Test
+    public void negate() {
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, -40L, 50L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 40L, -50L, 1).negate());
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 40L, -50L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -40L, 50L, 1).negate());
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        assertScoresEqualsAndHashCode(
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -2000L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -2000L, 1),
+                HardSoftScaledLongScore.valueOf(0, new BigDecimal("-10.0"), new BigDecimal("-200.0"))
+        );
+        assertScoresEqualsAndHashCode(
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -100L, -2000L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -100L, -2000L, 1)
+        );
+        // Different scales
+        assertScoresEqualsAndHashCode(
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -100L, -2000L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -1000L, -20000L, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -10L, -200L, 0)
+        );
+        assertScoresNotEquals(
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -2000L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -300L, -2000L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -4000L, 1),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -2000L, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -100L, -2000L, 1)
+        );
+    }
+
+    @Test
+    public void compareTo() {
+        PlannerAssert.assertCompareToOrder(
+                HardSoftScaledLongScore.valueOfUnscaled(-8, 0L, 0L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -20000L, -20000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -1000L, -300000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, 0L, 0L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, 0L, 1000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -20060L, -20000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -20007L, -20000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -20000L, -20060L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -20000L, -20007L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -20000L, -20000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -1000L, -300000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -1000L, 4000000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 0L, -1000L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 0L, 0L, 3),
+                HardSoftScaledLongScore.valueOfUnscaled(0, 0L, 1000L, 3)
+        );
+        // Different scales
+        assertTrue(HardSoftScaledLongScore.valueOfUnscaled(0, -1L, 0L, 1).compareTo(
+                HardSoftScaledLongScore.valueOfUnscaled(0, -11L, 0L, 2)) > 0);
+        assertTrue(HardSoftScaledLongScore.valueOfUnscaled(0, 0L, -11L, 2).compareTo(
+                HardSoftScaledLongScore.valueOfUnscaled(0, 0L, -1L, 1)) < 0);
+    }
+
+    @Test
+    public void serializeAndDeserialize() {
+        PlannerTestUtils.serializeAndDeserializeWithAll(
+                HardSoftScaledLongScore.valueOfUnscaled(0, -123L, 34005L, 1),
+                output -> {
+                    assertEquals(0, output.getInitScore());
+                    assertEquals(1, output.getScale());
+                    assertEquals(-123L, output.getUnscaledHardScore());
+                    assertEquals(34005L, output.getUnscaledSoftScore());
+                }
+        );
+        PlannerTestUtils.serializeAndDeserializeWithAll(
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -123L, 34005L, 1),
+                output -> {
+                    assertEquals(-7, output.getInitScore());
+                    assertEquals(1, output.getScale());
+                    assertEquals(-123L, output.getUnscaledHardScore());
+                    assertEquals(34005L, output.getUnscaledSoftScore());
+                }
+        );
+    }
+
+}
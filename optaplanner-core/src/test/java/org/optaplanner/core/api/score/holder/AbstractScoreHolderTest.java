@@ -30,6 +30,17 @@ import static org.mockito.Mockito.*;
 public abstract class AbstractScoreHolderTest {
 
     protected RuleContext mockRuleContext(String ruleName) {
+        return mockRuleContext(mockRule(ruleName));
+    }
+
+    protected Rule mockRule(String ruleName) {
+        Rule rule = mock(Rule.class);
+        when(rule.getPackageName()).thenReturn(getClass().getPackage().getName());
+        when(rule.getName()).thenReturn(ruleName);
+        return rule;
+    }
+
+    protected RuleContext mockRuleContext(Rule rule) {
         RuleContext kcontext = mock(RuleContext.class);
         AgendaItem agendaItem = new AgendaItemImpl() {
             @Override
@@ -38,9 +49,6 @@ public abstract class AbstractScoreHolderTest {
             }
         };
         when(kcontext.getMatch()).thenReturn(agendaItem);
-        Rule rule = mock(Rule.class);
-        when(rule.getPackageName()).thenReturn(getClass().getPackage().getName());
-        when(rule.getName()).thenReturn(ruleName);
         when(kcontext.getRule()).thenReturn(rule);
         return kcontext;
     }
@@ -16,11 +16,20 @@
 
 package org.optaplanner.core.config.score.director;
 
+import java.util.Collections;
+
 import org.junit.Test;
+import org.optaplanner.core.config.SolverConfigContext;
 import org.optaplanner.core.config.score.definition.ScoreDefinitionType;
+import org.optaplanner.core.impl.score.DummySimpleScoreEasyScoreCalculator;
 import org.optaplanner.core.impl.score.buildin.bendable.BendableScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.drools.KieBaseCache;
+import org.optaplanner.core.impl.score.director.drools.KieSessionPool;
+import org.optaplanner.core.impl.score.director.drools.KieSessionPoolRegistry;
+import org.optaplanner.core.impl.score.director.drools.LegacyDroolsScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
 import static org.junit.Assert.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertInstanceOf;
@@ -57,4 +66,72 @@ public class ScoreDirectorFactoryConfigTest {
         config.setGenerateDroolsTestOnError(null);
         assertNull(config.isGenerateDroolsTestOnError());
     }
+
+    @Test
+    public void kieBaseCacheEnabled() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig();
+        config.setScoreDrlList(Collections.singletonList(
+                "org/optaplanner/core/api/solver/testdataScoreRules.drl"));
+        config.setKieBaseCacheEnabled(true);
+        SolverConfigContext configContext = new SolverConfigContext();
+        try {
+            LegacyDroolsScoreDirectorFactory<TestdataSolution> first = (LegacyDroolsScoreDirectorFactory<TestdataSolution>)
+                    config.<TestdataSolution>buildDroolsScoreDirectorFactory(configContext);
+            LegacyDroolsScoreDirectorFactory<TestdataSolution> second = (LegacyDroolsScoreDirectorFactory<TestdataSolution>)
+                    config.<TestdataSolution>buildDroolsScoreDirectorFactory(configContext);
+            assertNotSame(first, second);
+            assertSame(first.getKieBase(), second.getKieBase());
+
+            config.setKieBaseCacheEnabled(false);
+            LegacyDroolsScoreDirectorFactory<TestdataSolution> uncached = (LegacyDroolsScoreDirectorFactory<TestdataSolution>)
+                    config.<TestdataSolution>buildDroolsScoreDirectorFactory(configContext);
+            assertNotSame(first.getKieBase(), uncached.getKieBase());
+        } finally {
+            KieBaseCache.getInstance().clear();
+        }
+    }
+
+    @Test
+    public void kieSessionPoolSharedBySolversOfTheSameKieBase() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig();
+        config.setScoreDrlList(Collections.singletonList(
+                "org/optaplanner/core/api/solver/testdataScoreRules.drl"));
+        config.setKieBaseCacheEnabled(true);
+        config.setKieSessionPoolSize(2);
+        SolverConfigContext configContext = new SolverConfigContext();
+        try {
+            LegacyDroolsScoreDirectorFactory<TestdataSolution> first = (LegacyDroolsScoreDirectorFactory<TestdataSolution>)
+                    config.<TestdataSolution>buildDroolsScoreDirectorFactory(configContext);
+            LegacyDroolsScoreDirectorFactory<TestdataSolution> second = (LegacyDroolsScoreDirectorFactory<TestdataSolution>)
+                    config.<TestdataSolution>buildDroolsScoreDirectorFactory(configContext);
+            KieSessionPoolRegistry registry = KieSessionPoolRegistry.getInstance();
+            KieSessionPool kieSessionPool = registry.obtainKieSessionPool(
+                    first.determineKieSessionKieBase(), first.getKsessionName(), config.getKieSessionPoolSize());
+            assertSame(kieSessionPool, registry.obtainKieSessionPool(
+                    second.determineKieSessionKieBase(), second.getKsessionName(), config.getKieSessionPoolSize()));
+            registry.evict(first.determineKieSessionKieBase());
+            assertTrue(kieSessionPool.isClosed());
+        } finally {
+            KieSessionPoolRegistry.getInstance().clear();
+            KieBaseCache.getInstance().clear();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void kieSessionPoolSizeMustBePositive() {
+        new ScoreDirectorFactoryConfig().setKieSessionPoolSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitionThreadCountMustBePositive() {
+        new ScoreDirectorFactoryConfig().setPartitionThreadCount(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitionThreadCountRequiresPartitionedEasyScoreCalculator() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig();
+        config.setEasyScoreCalculatorClass(DummySimpleScoreEasyScoreCalculator.class);
+        config.setPartitionThreadCount(2);
+        config.buildEasyScoreDirectorFactory();
+    }
 }
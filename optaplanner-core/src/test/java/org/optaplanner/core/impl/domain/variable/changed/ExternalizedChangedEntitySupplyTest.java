@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.changed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ExternalizedChangedEntitySupplyTest {
+
+    @Test
+    public void flushOnlyNetChanges() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedChangedEntitySupply supply = new ExternalizedChangedEntitySupply(variableDescriptor);
+        List<Object> sink = new ArrayList<>();
+        supply.addChangedEntitySink(sink);
+
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", null);
+
+        // Done and undone many times: never reported
+        for (int i = 0; i < 3; i++) {
+            changeValue(supply, scoreDirector, a, v2);
+            changeValue(supply, scoreDirector, a, v1);
+        }
+        changeValue(supply, scoreDirector, b, v2);
+        changeValue(supply, scoreDirector, c, v1);
+        changeValue(supply, scoreDirector, b, v1);
+        changeValue(supply, scoreDirector, b, v2);
+        assertTrue(sink.isEmpty());
+        supply.flushChangedEntities();
+        assertEquals(Arrays.asList(b, c), sink);
+
+        sink.clear();
+        supply.flushChangedEntities();
+        assertTrue(sink.isEmpty());
+    }
+
+    @Test
+    public void removedSinkIsNotFilled() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedChangedEntitySupply supply = new ExternalizedChangedEntitySupply(variableDescriptor);
+        List<Object> sink = new ArrayList<>();
+        supply.addChangedEntitySink(sink);
+        supply.removeChangedEntitySink(sink);
+
+        TestdataEntity a = new TestdataEntity("a", new TestdataValue("1"));
+        changeValue(supply, scoreDirector, a, new TestdataValue("2"));
+        supply.flushChangedEntities();
+        assertEquals(Collections.emptyList(), sink);
+    }
+
+    private void changeValue(ExternalizedChangedEntitySupply supply, ScoreDirector scoreDirector,
+            TestdataEntity entity, TestdataValue value) {
+        supply.beforeVariableChanged(scoreDirector, entity);
+        entity.setValue(value);
+        supply.afterVariableChanged(scoreDirector, entity);
+    }
+
+}
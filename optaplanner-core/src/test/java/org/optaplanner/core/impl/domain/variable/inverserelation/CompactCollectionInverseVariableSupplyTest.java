@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.inverserelation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class CompactCollectionInverseVariableSupplyTest {
+
+    @Test
+    public void normal() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        CompactCollectionInverseVariableSupply supply = new CompactCollectionInverseVariableSupply(variableDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataEntity c = new TestdataEntity("c", val3);
+        TestdataEntity d = new TestdataEntity("d", val3);
+        TestdataEntity e = new TestdataEntity("e", null);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setEntityList(Arrays.asList(a, b, c, d, e));
+        solution.setValueList(Arrays.asList(val1, val2, val3));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val1), a, b);
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val2));
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val3), c, d);
+
+        supply.beforeVariableChanged(scoreDirector, c);
+        c.setValue(val2);
+        supply.afterVariableChanged(scoreDirector, c);
+
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val1), a, b);
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val2), c);
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val3), d);
+
+        Collection<?> inverseCollection = supply.getInverseCollection(val1);
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(val3);
+        supply.afterVariableChanged(scoreDirector, a);
+        supply.beforeVariableChanged(scoreDirector, e);
+        e.setValue(val1);
+        supply.afterVariableChanged(scoreDirector, e);
+
+        // The inverse collection is a live view
+        assertCollectionContainsExactly((Collection<Object>) inverseCollection, b, e);
+        assertTrue(inverseCollection.contains(b));
+        assertFalse(inverseCollection.contains(a));
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val3), d, a);
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    @Test
+    public void entityAdded() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        CompactCollectionInverseVariableSupply supply = new CompactCollectionInverseVariableSupply(variableDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setEntityList(Arrays.asList());
+        solution.setValueList(Arrays.asList(val1));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        int entityCount = CompactCollectionInverseVariableSupply.INITIAL_CAPACITY * 3;
+        TestdataEntity[] entities = new TestdataEntity[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = new TestdataEntity("e" + i, val1);
+            supply.beforeEntityAdded(scoreDirector, entities[i]);
+            supply.afterEntityAdded(scoreDirector, entities[i]);
+        }
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val1), (Object[]) entities);
+
+        supply.beforeEntityRemoved(scoreDirector, entities[0]);
+        supply.afterEntityRemoved(scoreDirector, entities[0]);
+        assertEquals(entityCount - 1, supply.getInverseCollection(val1).size());
+        assertFalse(supply.getInverseCollection(val1).contains(entities[0]));
+
+        // The ordinal of the removed entity is reused
+        TestdataEntity added = new TestdataEntity("added", val1);
+        supply.beforeEntityAdded(scoreDirector, added);
+        supply.afterEntityAdded(scoreDirector, added);
+        assertEquals(entityCount, supply.entityCount);
+        assertEquals(entityCount, supply.getInverseCollection(val1).size());
+        assertTrue(supply.getInverseCollection(val1).contains(added));
+        assertFalse(supply.getInverseCollection(val1).contains(entities[0]));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    @Test
+    public void variableChangedDuringIteration() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        CompactCollectionInverseVariableSupply supply = new CompactCollectionInverseVariableSupply(variableDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setEntityList(Arrays.asList(a, b));
+        solution.setValueList(Arrays.asList(val1, val2));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        Iterator<?> iterator = supply.getInverseCollection(val1).iterator();
+        iterator.next();
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(val2);
+        supply.afterVariableChanged(scoreDirector, a);
+        try {
+            iterator.next();
+            fail("The iterator should be fail-fast.");
+        } catch (ConcurrentModificationException e) {
+            // Expected
+        }
+        // A change of another value doesn't affect the iterator
+        iterator = supply.getInverseCollection(val1).iterator();
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(null);
+        supply.afterVariableChanged(scoreDirector, a);
+        assertSame(b, iterator.next());
+        assertFalse(iterator.hasNext());
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void variableChangedOfUnknownEntity() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        CompactCollectionInverseVariableSupply supply = new CompactCollectionInverseVariableSupply(variableDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setEntityList(Arrays.asList());
+        solution.setValueList(Arrays.asList(val1));
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        supply.beforeVariableChanged(scoreDirector, new TestdataEntity("a", val1));
+    }
+
+}
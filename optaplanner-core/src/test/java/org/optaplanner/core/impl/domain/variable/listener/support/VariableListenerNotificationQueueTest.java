@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class VariableListenerNotificationQueueTest {
+
+    @Test
+    public void addUnique() {
+        VariableListenerNotificationQueue queue = new VariableListenerNotificationQueue(true);
+        String e1 = "e1";
+        String e2 = "e2";
+        // Equal but not the same instance
+        String e1Copy = new String(e1);
+        assertTrue(queue.add(e1, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertFalse(queue.add(e1, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertTrue(queue.add(e1, VariableListenerNotificationType.ENTITY_ADDED));
+        assertTrue(queue.add(e2, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertTrue(queue.add(e1Copy, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertEquals(4, queue.size());
+        assertSame(e1, queue.getEntity(0));
+        assertEquals(VariableListenerNotificationType.VARIABLE_CHANGED, queue.getType(0));
+        assertSame(e1, queue.getEntity(1));
+        assertEquals(VariableListenerNotificationType.ENTITY_ADDED, queue.getType(1));
+        assertSame(e2, queue.getEntity(2));
+        assertSame(e1Copy, queue.getEntity(3));
+
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.add(e1, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertFalse(queue.add(e1, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void addNonUnique() {
+        VariableListenerNotificationQueue queue = new VariableListenerNotificationQueue(false);
+        String e1 = "e1";
+        assertTrue(queue.add(e1, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertTrue(queue.add(e1, VariableListenerNotificationType.VARIABLE_CHANGED));
+        assertEquals(2, queue.size());
+        queue.clear();
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void growBeyondInitialCapacity() {
+        VariableListenerNotificationQueue queue = new VariableListenerNotificationQueue(true);
+        int entityCount = 100; // Several times the initial capacity
+        Object[] entities = new Object[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = new Object();
+            assertTrue(queue.add(entities[i], VariableListenerNotificationType.VARIABLE_CHANGED));
+        }
+        for (int i = 0; i < entityCount; i++) {
+            assertFalse(queue.add(entities[i], VariableListenerNotificationType.VARIABLE_CHANGED));
+        }
+        assertEquals(entityCount, queue.size());
+        for (int i = 0; i < entityCount; i++) {
+            assertSame(entities[i], queue.getEntity(i));
+        }
+        for (int round = 0; round < 3; round++) {
+            queue.clear();
+            for (int i = 0; i < entityCount; i++) {
+                assertTrue(queue.add(entities[i], VariableListenerNotificationType.ENTITY_REMOVED));
+            }
+            assertEquals(entityCount, queue.size());
+        }
+    }
+
+}
@@ -16,7 +16,10 @@
 
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
@@ -25,8 +28,12 @@ import org.optaplanner.core.impl.domain.variable.inverserelation.ExternalizedSin
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableListener;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.listener.BatchVariableListener;
+import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
@@ -34,6 +41,7 @@ import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
@@ -112,4 +120,90 @@ public class VariableListenerSupportTest {
         assertSame(supply1, supply2);
     }
 
+    @Test
+    public void batchVariableListener() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        InnerScoreDirector<TestdataSolution> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        TestdataSolution solution = new TestdataSolution();
+        solution.setEntityList(Collections.<TestdataEntity>emptyList());
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        VariableListenerSupport<TestdataSolution> variableListenerSupport = new VariableListenerSupport<>(scoreDirector);
+        variableListenerSupport.linkVariableListeners();
+
+        VariableDescriptor<TestdataSolution> variableDescriptor = solutionDescriptor
+                .getEntityDescriptorStrict(TestdataEntity.class).getVariableDescriptor("value");
+        RecordingBatchVariableListener batchListener = variableListenerSupport.demand(
+                (Demand<RecordingBatchVariableListener>) scoreDirector_
+                        -> new RecordingBatchVariableListener(variableDescriptor));
+
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, a);
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, b);
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, a);
+        variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        assertEquals(Collections.singletonList(Arrays.asList(a, b, a)), batchListener.batchList);
+
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, b);
+        variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        assertEquals(Arrays.asList(Arrays.asList(a, b, a), Arrays.asList(b)), batchListener.batchList);
+    }
+
+    private static class RecordingBatchVariableListener
+            implements StatefulVariableListener<Object>, BatchVariableListener<Object> {
+
+        private final VariableDescriptor sourceVariableDescriptor;
+        private final List<List<Object>> batchList = new ArrayList<>();
+
+        public RecordingBatchVariableListener(VariableDescriptor sourceVariableDescriptor) {
+            this.sourceVariableDescriptor = sourceVariableDescriptor;
+        }
+
+        @Override
+        public VariableDescriptor getSourceVariableDescriptor() {
+            return sourceVariableDescriptor;
+        }
+
+        @Override
+        public void resetWorkingSolution(ScoreDirector scoreDirector) {
+        }
+
+        @Override
+        public void clearWorkingSolution(ScoreDirector scoreDirector) {
+        }
+
+        @Override
+        public void afterVariablesChanged(ScoreDirector scoreDirector, List<Object> entityList) {
+            // Copy because the entityList is reused
+            batchList.add(new ArrayList<>(entityList));
+        }
+
+        @Override
+        public void beforeEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        }
+
+        @Override
+        public void afterEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        }
+
+        @Override
+        public void beforeVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        }
+
+        @Override
+        public void afterVariableChanged(ScoreDirector scoreDirector, Object entity) {
+            throw new IllegalStateException("A batch listener is not notified per entity.");
+        }
+
+        @Override
+        public void beforeEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        }
+
+        @Override
+        public void afterEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        }
+
+    }
+
 }
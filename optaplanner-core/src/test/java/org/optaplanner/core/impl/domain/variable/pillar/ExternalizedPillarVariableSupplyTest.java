@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.pillar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ExternalizedPillarVariableSupplyTest {
+
+    @Test
+    public void basicVariable() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedPillarVariableSupply supply = new ExternalizedPillarVariableSupply(variableDescriptor);
+
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v1);
+        TestdataEntity d = new TestdataEntity("d", v1);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(a, b, c, d));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertPillars(supply, Arrays.asList(a, c, d), Arrays.asList(b));
+
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(v2);
+        supply.afterVariableChanged(scoreDirector, a);
+        // The last entity of the old pillar takes the place of the retracted entity
+        assertPillars(supply, Arrays.asList(d, c), Arrays.asList(b, a));
+
+        supply.beforeVariableChanged(scoreDirector, b);
+        b.setValue(v1);
+        supply.afterVariableChanged(scoreDirector, b);
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(v1);
+        supply.afterVariableChanged(scoreDirector, a);
+        assertPillars(supply, Arrays.asList(d, c, b, a));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    private void assertPillars(PillarVariableSupply supply, List<?>... expectedPillars) {
+        assertEquals(expectedPillars.length, supply.getPillarCount());
+        List<List<Object>> pillarList = new ArrayList<>(supply.getPillars());
+        assertEquals(Arrays.asList(expectedPillars), pillarList);
+    }
+
+}
@@ -15,16 +15,20 @@
  */
 package org.optaplanner.core.impl.exhaustivesearch.scope;
 
+import java.util.Comparator;
 import java.util.TreeSet;
 
 import org.junit.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.exhaustivesearch.NodeExplorationType;
+import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
 import org.optaplanner.core.impl.exhaustivesearch.node.comparator.AbstractNodeComparatorTest;
+import org.optaplanner.core.impl.exhaustivesearch.node.comparator.OptimisticBoundFirstNodeComparator;
 import org.optaplanner.core.impl.exhaustivesearch.node.comparator.ScoreFirstNodeComparator;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 public class ExhaustiveSearchPhaseScopeTest extends AbstractNodeComparatorTest {
 
@@ -41,4 +45,157 @@ public class ExhaustiveSearchPhaseScopeTest extends AbstractNodeComparatorTest {
         assertEquals(1, phase.getExpandableNodeQueue().size());
     }
 
+    @Test
+    public void testNodePruningSortedByOptimisticBound() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = new ExhaustiveSearchPhaseScope<TestdataSolution>(new DefaultSolverScope<TestdataSolution>());
+        phase.setExpandableNodeQueue(new TreeSet<>(new OptimisticBoundFirstNodeComparator(true)));
+        ExhaustiveSearchNode a = buildNode(1, "-10", -3, 0, 0);
+        ExhaustiveSearchNode b = buildNode(1, "-10", -1, 0, 1);
+        ExhaustiveSearchNode c = buildNode(1, "-10", 0, 0, 2);
+        ExhaustiveSearchNode d = buildNode(1, "-10", 2, 0, 3);
+        phase.addExpandableNode(a);
+        phase.addExpandableNode(b);
+        phase.addExpandableNode(c);
+        phase.addExpandableNode(d);
+        phase.setBestPessimisticBound(SimpleScore.valueOfInitialized(Integer.MIN_VALUE));
+        phase.registerPessimisticBound(SimpleScore.valueOfInitialized(-1));
+        assertEquals(2, phase.getExpandableNodeQueue().size());
+        assertTrue(phase.getExpandableNodeQueue().contains(c));
+        assertTrue(phase.getExpandableNodeQueue().contains(d));
+        phase.registerPessimisticBound(SimpleScore.valueOfInitialized(-2));
+        assertEquals(2, phase.getExpandableNodeQueue().size());
+        phase.registerPessimisticBound(SimpleScore.valueOfInitialized(1));
+        assertEquals(1, phase.getExpandableNodeQueue().size());
+        assertSame(d, phase.getExpandableNodeQueue().first());
+    }
+
+    @Test
+    public void testExpandableNodeCountLimit() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = new ExhaustiveSearchPhaseScope<TestdataSolution>(new DefaultSolverScope<TestdataSolution>());
+        phase.setExpandableNodeQueue(new TreeSet<>(new OptimisticBoundFirstNodeComparator(true)));
+        phase.setExpandableNodeCountLimit(2);
+        ExhaustiveSearchNode a = buildNode(1, "-10", 1, 0, 0);
+        ExhaustiveSearchNode b = buildNode(1, "-10", 3, 0, 1);
+        ExhaustiveSearchNode c = buildNode(1, "-10", 2, 0, 2);
+        ExhaustiveSearchNode d = buildNode(1, "-10", 0, 0, 3);
+        phase.addExpandableNode(a);
+        phase.addExpandableNode(b);
+        assertEquals(0L, phase.getDiscardedNodeCount());
+        phase.addExpandableNode(c);
+        assertEquals(2, phase.getExpandableNodeQueue().size());
+        assertFalse(phase.getExpandableNodeQueue().contains(a));
+        assertEquals(1L, phase.getDiscardedNodeCount());
+        phase.addExpandableNode(d);
+        assertEquals(2, phase.getExpandableNodeQueue().size());
+        assertSame(c, phase.getExpandableNodeQueue().first());
+        assertSame(b, phase.getExpandableNodeQueue().last());
+        assertEquals(2L, phase.getDiscardedNodeCount());
+    }
+
+    @Test
+    public void expandableNodeCountLimitWithOriginalOrder() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = buildLimitedPhaseScope(NodeExplorationType.ORIGINAL_ORDER, false, 2);
+        ExhaustiveSearchNode a = buildNode(1, "-10", 0, 0);
+        ExhaustiveSearchNode b = buildNode(2, "-5", 0, 1);
+        ExhaustiveSearchNode c = buildNode(2, "-8", 0, 2);
+        phase.addExpandableNode(a);
+        phase.addExpandableNode(b);
+        phase.addExpandableNode(c);
+        // The shallowest node would be expanded last
+        assertDiscarded(phase, a, b, c);
+    }
+
+    @Test
+    public void expandableNodeCountLimitWithDepthFirst() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = buildLimitedPhaseScope(NodeExplorationType.DEPTH_FIRST, true, 2);
+        ExhaustiveSearchNode a = buildNode(1, "-10", 0, 0, 0);
+        ExhaustiveSearchNode b = buildNode(2, "-5", -5, 0, 1);
+        ExhaustiveSearchNode c = buildNode(2, "-8", -8, 0, 2);
+        phase.addExpandableNode(a);
+        phase.addExpandableNode(b);
+        phase.addExpandableNode(c);
+        // Not the shallowest node, because it has the best optimistic bound
+        assertDiscarded(phase, c, a, b);
+        assertSame(b, phase.getExpandableNodeQueue().last());
+        // An expanded or pruned node must no longer be discardable
+        phase.removeExpandableNode(b);
+        phase.setBestPessimisticBound(SimpleScore.valueOfInitialized(Integer.MIN_VALUE));
+        phase.registerPessimisticBound(SimpleScore.valueOfInitialized(0));
+        assertTrue(phase.getExpandableNodeQueue().isEmpty());
+        assertTrue(phase.getDiscardableNodeQueue().isEmpty());
+    }
+
+    @Test
+    public void expandableNodeCountLimitWithBreadthFirst() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = buildLimitedPhaseScope(NodeExplorationType.BREADTH_FIRST, true, 2);
+        ExhaustiveSearchNode a = buildNode(1, "-10", -2, 0, 0);
+        ExhaustiveSearchNode b = buildNode(2, "-5", -5, 0, 1);
+        ExhaustiveSearchNode c = buildNode(2, "-8", -1, 0, 2);
+        phase.addExpandableNode(a);
+        phase.addExpandableNode(b);
+        phase.addExpandableNode(c);
+        // The worst node of the deepest layer, like in a beam search
+        assertDiscarded(phase, c, a, b);
+    }
+
+    @Test
+    public void expandableNodeCountLimitWithScoreFirst() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = buildLimitedPhaseScope(NodeExplorationType.SCORE_FIRST, true, 2);
+        ExhaustiveSearchNode a = buildNode(1, "-10", 0, 0, 0);
+        ExhaustiveSearchNode b = buildNode(2, "-5", -5, 0, 1);
+        ExhaustiveSearchNode c = buildNode(2, "-8", -1, 0, 2);
+        phase.addExpandableNode(a);
+        phase.addExpandableNode(b);
+        phase.addExpandableNode(c);
+        // The worst score
+        assertDiscarded(phase, a, b, c);
+    }
+
+    @Test
+    public void expandableNodeCountLimitWithOptimisticBoundFirst() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = buildLimitedPhaseScope(NodeExplorationType.OPTIMISTIC_BOUND_FIRST, true, 2);
+        ExhaustiveSearchNode a = buildNode(1, "-10", 0, 0, 0);
+        ExhaustiveSearchNode b = buildNode(2, "-5", -5, 0, 1);
+        ExhaustiveSearchNode c = buildNode(2, "-8", -1, 0, 2);
+        phase.addExpandableNode(a);
+        phase.addExpandableNode(b);
+        phase.addExpandableNode(c);
+        // The worst optimistic bound
+        assertDiscarded(phase, b, a, c);
+    }
+
+    private ExhaustiveSearchPhaseScope<TestdataSolution> buildLimitedPhaseScope(
+            NodeExplorationType nodeExplorationType, boolean scoreBounderEnabled, int expandableNodeCountLimit) {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase
+                = new ExhaustiveSearchPhaseScope<TestdataSolution>(new DefaultSolverScope<TestdataSolution>());
+        phase.setExpandableNodeQueue(new TreeSet<>(nodeExplorationType.buildNodeComparator(scoreBounderEnabled)));
+        phase.setExpandableNodeCountLimit(expandableNodeCountLimit);
+        Comparator<ExhaustiveSearchNode> discardNodeComparator
+                = nodeExplorationType.buildDiscardNodeComparator(scoreBounderEnabled);
+        if (discardNodeComparator != null) {
+            phase.setDiscardableNodeQueue(new TreeSet<>(discardNodeComparator));
+        }
+        return phase;
+    }
+
+    private void assertDiscarded(ExhaustiveSearchPhaseScope<TestdataSolution> phase,
+            ExhaustiveSearchNode discardedNode, ExhaustiveSearchNode... keptNodes) {
+        assertEquals(1L, phase.getDiscardedNodeCount());
+        assertFalse(phase.getExpandableNodeQueue().contains(discardedNode));
+        assertEquals(keptNodes.length, phase.getExpandableNodeQueue().size());
+        for (ExhaustiveSearchNode keptNode : keptNodes) {
+            assertTrue(phase.getExpandableNodeQueue().contains(keptNode));
+        }
+        if (phase.getDiscardableNodeQueue() != null) {
+            assertEquals(keptNodes.length, phase.getDiscardableNodeQueue().size());
+        }
+    }
+
 }
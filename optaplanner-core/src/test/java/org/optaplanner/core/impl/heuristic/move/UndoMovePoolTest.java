@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.entityproviding.TestdataEntityProvidingEntity;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class UndoMovePoolTest {
+
+    @Test
+    public void recycleAfterReset() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2, v3), v1);
+        TestdataEntityProvidingEntity b = new TestdataEntityProvidingEntity("b", Arrays.asList(v1, v2, v3), v2);
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        EntityDescriptor entityDescriptor = TestdataEntityProvidingEntity.buildEntityDescriptor();
+        GenuineVariableDescriptor variableDescriptor = entityDescriptor.getGenuineVariableDescriptor("value");
+        UndoMovePool undoMovePool = new UndoMovePool();
+
+        ChangeMove aMove = new ChangeMove(a, variableDescriptor, v3);
+        ChangeMove bMove = new ChangeMove(b, variableDescriptor, v3);
+        ChangeMove aUndoMove = (ChangeMove) undoMovePool.createUndoMove(aMove, scoreDirector);
+        ChangeMove bUndoMove = (ChangeMove) undoMovePool.createUndoMove(bMove, scoreDirector);
+        assertNotSame(aUndoMove, bUndoMove);
+        assertSame(a, aUndoMove.getEntity());
+        assertSame(v1, aUndoMove.getToPlanningValue());
+        assertSame(b, bUndoMove.getEntity());
+        assertSame(v2, bUndoMove.getToPlanningValue());
+        assertTrue(undoMovePool.isPooled(aUndoMove));
+
+        undoMovePool.reset();
+        Move recycledUndoMove = undoMovePool.createUndoMove(bMove, scoreDirector);
+        assertSame(aUndoMove, recycledUndoMove);
+        assertSame(b, aUndoMove.getEntity());
+        assertSame(v2, aUndoMove.getToPlanningValue());
+        aUndoMove.doMove(scoreDirector);
+        assertSame(v2, b.getValue());
+        assertFalse(undoMovePool.isPooled(aMove.createUndoMove(scoreDirector)));
+    }
+
+    @Test
+    public void recycleAfterRelease() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2), v1);
+        TestdataEntityProvidingEntity b = new TestdataEntityProvidingEntity("b", Arrays.asList(v1, v2), v2);
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        EntityDescriptor entityDescriptor = TestdataEntityProvidingEntity.buildEntityDescriptor();
+        GenuineVariableDescriptor variableDescriptor = entityDescriptor.getGenuineVariableDescriptor("value");
+        UndoMovePool undoMovePool = new UndoMovePool();
+
+        ChangeMove aMove = new ChangeMove(a, variableDescriptor, v2);
+        ChangeMove bMove = new ChangeMove(b, variableDescriptor, v1);
+        ChangeMove aUndoMove = (ChangeMove) undoMovePool.createUndoMove(aMove, scoreDirector);
+        undoMovePool.release(aMove, aUndoMove);
+        Move recycledUndoMove = undoMovePool.createUndoMove(bMove, scoreDirector);
+        assertSame(aUndoMove, recycledUndoMove);
+        assertSame(b, aUndoMove.getEntity());
+        assertSame(v2, aUndoMove.getToPlanningValue());
+        assertNotSame(aUndoMove, undoMovePool.createUndoMove(aMove, scoreDirector));
+    }
+
+}
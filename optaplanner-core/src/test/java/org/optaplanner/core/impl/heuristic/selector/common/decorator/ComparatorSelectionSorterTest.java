@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.heuristic.selector.common.decorator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -45,6 +46,26 @@ public class ComparatorSelectionSorterTest {
         assertTrue(descendingSort(arrayToSort));
     }
 
+    @Test
+    public void insert() {
+        List<Integer> sortedList = new ArrayList<>(Arrays.asList(1, 3, 3, 5));
+        ComparatorSelectionSorter<TestdataSolution, Integer> selectionSorter = new ComparatorSelectionSorter<>(new TestComparator(), SelectionSorterOrder.ASCENDING);
+        selectionSorter.insert(null, sortedList, 4);
+        selectionSorter.insert(null, sortedList, 0);
+        selectionSorter.insert(null, sortedList, 6);
+        assertEquals(Arrays.asList(0, 1, 3, 3, 4, 5, 6), sortedList);
+
+        // Like a stable sort, an equal selection is inserted after the existing ones
+        Integer three = new Integer(3);
+        selectionSorter.insert(null, sortedList, three);
+        assertSame(three, sortedList.get(4));
+
+        sortedList = new ArrayList<>(Arrays.asList(5, 3, 1));
+        selectionSorter = new ComparatorSelectionSorter<>(new TestComparator(), SelectionSorterOrder.DESCENDING);
+        selectionSorter.insert(null, sortedList, 2);
+        assertEquals(Arrays.asList(5, 3, 2, 1), sortedList);
+    }
+
     private boolean ascendingSort(List<Integer> list) {
         Integer tmp = list.get(0);
         for (Integer aList : list) {
@@ -16,18 +16,29 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 
 import org.junit.Test;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.impl.domain.variable.changed.ChangedEntitySupply;
+import org.optaplanner.core.impl.domain.variable.changed.ExternalizedChangedEntitySupply;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.ComparatorSelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.*;
@@ -116,6 +127,79 @@ public class SortingEntitySelectorTest {
         verify(childEntitySelector, times(timesCalled)).getSize();
     }
 
+    @Test
+    public void incrementalCacheTypeStep() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", v3);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v2);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(a, b, c));
+
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        ExternalizedChangedEntitySupply changedEntitySupply = new ExternalizedChangedEntitySupply(variableDescriptor);
+        SupplyManager supplyManager = mock(SupplyManager.class);
+        when(supplyManager.demand(any(Demand.class))).thenReturn(changedEntitySupply);
+        when(scoreDirector.getSupplyManager()).thenReturn(supplyManager);
+
+        FromSolutionEntitySelector childEntitySelector = new FromSolutionEntitySelector(
+                variableDescriptor.getEntityDescriptor(), SelectionCacheType.JUST_IN_TIME, false);
+        Comparator<TestdataEntity> valueComparator = (x, y) -> x.getValue().getCode().compareTo(y.getValue().getCode());
+        SelectionSorter<TestdataSolution, TestdataEntity> sorter = new ComparatorSelectionSorter<>(valueComparator);
+        EntitySelector entitySelector = new SortingEntitySelector(childEntitySelector, SelectionCacheType.STEP,
+                sorter, true);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        when(solverScope.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.solvingStarted(solverScope);
+        verify(supplyManager, times(1)).demand(any(Demand.class));
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeA.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        when(stepScopeA1.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.stepStarted(stepScopeA1);
+        assertAllCodesOfEntitySelector(entitySelector, "b", "c", "a");
+        // An evaluated move and its undo move
+        changedEntitySupply.beforeVariableChanged(scoreDirector, c);
+        c.setValue(v3);
+        changedEntitySupply.afterVariableChanged(scoreDirector, c);
+        changedEntitySupply.beforeVariableChanged(scoreDirector, c);
+        c.setValue(v2);
+        changedEntitySupply.afterVariableChanged(scoreDirector, c);
+        // The step move
+        changedEntitySupply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(v1);
+        changedEntitySupply.afterVariableChanged(scoreDirector, a);
+        entitySelector.stepEnded(stepScopeA1);
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        when(stepScopeA2.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.stepStarted(stepScopeA2);
+        // The changed entity is inserted after the unchanged entity with an equal value
+        assertAllCodesOfEntitySelector(entitySelector, "b", "a", "c");
+        entitySelector.stepEnded(stepScopeA2);
+
+        entitySelector.phaseEnded(phaseScopeA);
+        entitySelector.solvingEnded(solverScope);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void incrementalCacheTypePhase() {
+        new SortingEntitySelector(mock(FromSolutionEntitySelector.class), SelectionCacheType.PHASE,
+                mock(ComparatorSelectionSorter.class), true);
+    }
+
     @Test
     public void isNeverEnding() {
         EntitySelector entitySelector = new SortingEntitySelector(mock(EntitySelector.class), SelectionCacheType.PHASE,
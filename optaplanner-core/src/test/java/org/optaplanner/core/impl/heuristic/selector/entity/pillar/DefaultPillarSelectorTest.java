@@ -17,12 +17,15 @@
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Random;
 
 import org.junit.Test;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
@@ -30,6 +33,8 @@ import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
 
@@ -389,4 +394,32 @@ public class DefaultPillarSelectorTest {
         assertEquals(true, pillarSelector.isNeverEnding());
     }
 
+    @Test
+    public void pillarVariableSupplyEnabled() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = new FromSolutionEntitySelector(variableDescriptor.getEntityDescriptor(),
+                SelectionCacheType.JUST_IN_TIME, false);
+        assertTrue(new DefaultPillarSelector(entitySelector, Collections.singletonList(variableDescriptor),
+                false, false, 1, Integer.MAX_VALUE).pillarVariableSupplyEnabled);
+    }
+
+    @Test
+    public void pillarVariableSupplyDisabledForPhaseCache() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = new FromSolutionEntitySelector(variableDescriptor.getEntityDescriptor(),
+                SelectionCacheType.PHASE, false);
+        assertFalse(new DefaultPillarSelector(entitySelector, Collections.singletonList(variableDescriptor),
+                false, false, 1, Integer.MAX_VALUE).pillarVariableSupplyEnabled);
+    }
+
+    @Test
+    public void pillarVariableSupplyDisabledForOtherEntityDescriptor() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        // Same entity class, but not the entity descriptor that declares the variable
+        EntitySelector entitySelector = new FromSolutionEntitySelector(TestdataEntity.buildEntityDescriptor(),
+                SelectionCacheType.JUST_IN_TIME, false);
+        assertFalse(new DefaultPillarSelector(entitySelector, Collections.singletonList(variableDescriptor),
+                false, false, 1, Integer.MAX_VALUE).pillarVariableSupplyEnabled);
+    }
+
 }
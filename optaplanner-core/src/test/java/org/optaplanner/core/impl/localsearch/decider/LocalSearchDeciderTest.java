@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.forager.AcceptedForager;
+import org.optaplanner.core.impl.localsearch.decider.forager.finalist.HighestScoreFinalistPodium;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class LocalSearchDeciderTest {
+
+    @Test
+    public void recycledUndoMovesUndoCorrectly() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v3);
+        EntityDescriptor entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        GenuineVariableDescriptor variableDescriptor = entityDescriptor.getGenuineVariableDescriptor("value");
+        List<GenuineVariableDescriptor> variableDescriptorList = entityDescriptor.getGenuineVariableDescriptorList();
+        ChangeMove aTo2Move = new ChangeMove(a, variableDescriptor, v2);
+        ChangeMove bTo1Move = new ChangeMove(b, variableDescriptor, v1);
+        SwapMove acSwapMove = new SwapMove(variableDescriptorList, a, c);
+        ChangeMove cTo2Move = new ChangeMove(c, variableDescriptor, v2);
+        SwapMove bcSwapMove = new SwapMove(variableDescriptorList, b, c);
+
+        // Every score is unique, so if any undo move fails to restore the working solution, a later score is off
+        InnerScoreDirector scoreDirector = mockScoreDirector(a, b, c);
+        List<Move> undoMoveList = new ArrayList<>();
+        Acceptor acceptor = mock(Acceptor.class);
+        when(acceptor.isAccepted(any(LocalSearchMoveScope.class))).thenAnswer(invocation -> {
+            LocalSearchMoveScope moveScope = (LocalSearchMoveScope) invocation.getArguments()[0];
+            undoMoveList.add(moveScope.getUndoMove());
+            return true;
+        });
+        LocalSearchDecider<TestdataSolution> decider = buildDecider(acceptor,
+                aTo2Move, bTo1Move, acSwapMove, cTo2Move, bcSwapMove);
+        decider.setUndoMoveRecyclingEnabled(true);
+        decider.setAssertUndoStepNotRecycled(true);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope(scoreDirector);
+        decider.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        decider.stepStarted(stepScope);
+        decider.decideNextStep(stepScope);
+
+        // Each undo move is recycled by the next move of the same class during the same step
+        assertEquals(5, undoMoveList.size());
+        assertSame(undoMoveList.get(0), undoMoveList.get(1));
+        assertSame(undoMoveList.get(0), undoMoveList.get(3));
+        assertSame(undoMoveList.get(2), undoMoveList.get(4));
+        assertSame(v1, a.getValue());
+        assertSame(v2, b.getValue());
+        assertSame(v3, c.getValue());
+        assertSame(acSwapMove, stepScope.getStep());
+        assertEquals(SimpleScore.valueOfInitialized(-123), stepScope.getScore());
+        Move undoStep = stepScope.getUndoStep();
+        assertFalse(decider.undoMovePool.isPooled(undoStep));
+        acSwapMove.doMove(scoreDirector);
+        undoStep.doMove(scoreDirector);
+        assertSame(v1, a.getValue());
+        assertSame(v3, c.getValue());
+    }
+
+    @Test
+    public void rejectEarly() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v3);
+        EntityDescriptor entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        GenuineVariableDescriptor variableDescriptor = entityDescriptor.getGenuineVariableDescriptor("value");
+        List<GenuineVariableDescriptor> variableDescriptorList = entityDescriptor.getGenuineVariableDescriptorList();
+        ChangeMove aTo2Move = new ChangeMove(a, variableDescriptor, v2);
+        ChangeMove bTo1Move = new ChangeMove(b, variableDescriptor, v1);
+        ChangeMove aTo3Move = new ChangeMove(a, variableDescriptor, v3);
+        SwapMove acSwapMove = new SwapMove(variableDescriptorList, a, c);
+
+        InnerScoreDirector scoreDirector = mockScoreDirector(a, b, c);
+        Acceptor acceptor = mock(Acceptor.class);
+        SimpleScore acceptableScoreLowerBound = SimpleScore.valueOfInitialized(-320);
+        when(acceptor.getAcceptableScoreLowerBound(any(LocalSearchStepScope.class)))
+                .thenReturn(acceptableScoreLowerBound);
+        when(acceptor.isAccepted(any(LocalSearchMoveScope.class))).thenAnswer(invocation -> {
+            LocalSearchMoveScope moveScope = (LocalSearchMoveScope) invocation.getArguments()[0];
+            return moveScope.getScore().compareTo(acceptableScoreLowerBound) >= 0;
+        });
+        LocalSearchDecider<TestdataSolution> decider = buildDecider(acceptor,
+                aTo2Move, bTo1Move, aTo3Move, acSwapMove);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope(scoreDirector);
+        decider.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        decider.stepStarted(stepScope);
+        decider.decideNextStep(stepScope);
+
+        // aTo2Move (-322) is not accepted, bTo1Move (-311) is accepted,
+        // aTo3Move (-323) is rejected early and acSwapMove (-123) is accepted
+        verify(scoreDirector, times(2)).calculateOptimisticScoreBound();
+        verify(scoreDirector, times(3)).calculateScore();
+        verify(acceptor, times(3)).isAccepted(any(LocalSearchMoveScope.class));
+        assertSame(acSwapMove, stepScope.getStep());
+        assertEquals(SimpleScore.valueOfInitialized(-123), stepScope.getScore());
+        assertEquals(Long.valueOf(4L), stepScope.getSelectedMoveCount());
+        assertEquals(Long.valueOf(2L), stepScope.getAcceptedMoveCount());
+        assertSame(v1, a.getValue());
+        assertSame(v2, b.getValue());
+        assertSame(v3, c.getValue());
+    }
+
+    private LocalSearchDecider<TestdataSolution> buildDecider(Acceptor acceptor, Move... moves) {
+        LocalSearchDecider<TestdataSolution> decider = new LocalSearchDecider<>();
+        decider.setTermination(mock(Termination.class));
+        MoveSelector moveSelector = mock(MoveSelector.class);
+        List<Move> moveList = Arrays.asList(moves);
+        when(moveSelector.iterator()).thenAnswer(invocation -> moveList.iterator());
+        decider.setMoveSelector(moveSelector);
+        decider.setAcceptor(acceptor);
+        decider.setForager(new AcceptedForager(new HighestScoreFinalistPodium(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, false));
+        return decider;
+    }
+
+    /**
+     * The score is -(a + 10 * b + 100 * c), for the value codes of the entities.
+     */
+    private InnerScoreDirector mockScoreDirector(TestdataEntity a, TestdataEntity b, TestdataEntity c) {
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        when(scoreDirector.calculateScore()).thenAnswer(invocation -> SimpleScore.valueOfInitialized(
+                -(valueOf(a) + 10 * valueOf(b) + 100 * valueOf(c))));
+        // The exact score is also the tightest optimistic bound
+        when(scoreDirector.calculateOptimisticScoreBound()).thenAnswer(invocation -> SimpleScore.valueOfInitialized(
+                -(valueOf(a) + 10 * valueOf(b) + 100 * valueOf(c))));
+        return scoreDirector;
+    }
+
+    private static int valueOf(TestdataEntity entity) {
+        return Integer.parseInt(entity.getValue().getCode());
+    }
+
+    private LocalSearchPhaseScope<TestdataSolution> createPhaseScope(InnerScoreDirector scoreDirector) {
+        DefaultSolverScope<TestdataSolution> solverScope = new DefaultSolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestScore(SimpleScore.valueOfInitialized(-321));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleScore.valueOfInitialized(-321));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        return phaseScope;
+    }
+
+}
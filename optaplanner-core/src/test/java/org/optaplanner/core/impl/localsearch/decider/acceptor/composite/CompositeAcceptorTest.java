@@ -20,9 +20,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
@@ -64,6 +66,22 @@ public class CompositeAcceptorTest {
         assertEquals(false, isCompositeAccepted(false, false, false));
     }
 
+    @Test
+    public void getAcceptableScoreLowerBound() {
+        Acceptor acceptor1 = mock(Acceptor.class);
+        when(acceptor1.getAcceptableScoreLowerBound(any(LocalSearchStepScope.class)))
+                .thenReturn(SimpleScore.valueOfInitialized(-100));
+        Acceptor acceptor2 = mock(Acceptor.class);
+        when(acceptor2.getAcceptableScoreLowerBound(any(LocalSearchStepScope.class))).thenReturn(null);
+        Acceptor acceptor3 = mock(Acceptor.class);
+        when(acceptor3.getAcceptableScoreLowerBound(any(LocalSearchStepScope.class)))
+                .thenReturn(SimpleScore.valueOfInitialized(-50));
+        LocalSearchStepScope stepScope = mock(LocalSearchStepScope.class);
+        assertEquals(SimpleScore.valueOfInitialized(-50),
+                new CompositeAcceptor(acceptor1, acceptor2, acceptor3).getAcceptableScoreLowerBound(stepScope));
+        assertEquals(null, new CompositeAcceptor(acceptor2).getAcceptableScoreLowerBound(stepScope));
+    }
+
     private boolean isCompositeAccepted(boolean... childAccepts) {
         List<Acceptor> acceptorList = new ArrayList<>(childAccepts.length);
         for (boolean childAccept : childAccepts) {
@@ -43,6 +43,7 @@ public class HillClimbingAcceptorTest extends AbstractAcceptorTest {
         // lastCompletedStepScore = -1000
         LocalSearchStepScope stepScope0 = new LocalSearchStepScope(phaseScope);
         LocalSearchMoveScope moveScope0 = buildMoveScope(stepScope0, -500);
+        assertEquals(SimpleScore.valueOfInitialized(-1000), acceptor.getAcceptableScoreLowerBound(stepScope0));
         assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope0, -900)));
         assertEquals(true, acceptor.isAccepted(moveScope0));
         assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope0, -800)));
@@ -58,6 +59,7 @@ public class HillClimbingAcceptorTest extends AbstractAcceptorTest {
         // lastCompletedStepScore = -500
         LocalSearchStepScope stepScope1 = new LocalSearchStepScope(phaseScope);
         LocalSearchMoveScope moveScope1 = buildMoveScope(stepScope1, 600);
+        assertEquals(SimpleScore.valueOfInitialized(-500), acceptor.getAcceptableScoreLowerBound(stepScope1));
         assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope1, -900)));
         assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope1, -2000)));
         assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope1, -700)));
@@ -45,6 +45,7 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         // lateScore = -1000
         LocalSearchStepScope stepScope0 = new LocalSearchStepScope(phaseScope);
         LocalSearchMoveScope moveScope0 = buildMoveScope(stepScope0, -500);
+        assertEquals(SimpleScore.valueOfInitialized(-1000), acceptor.getAcceptableScoreLowerBound(stepScope0));
         assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope0, -900)));
         assertEquals(true, acceptor.isAccepted(moveScope0));
         assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope0, -800)));
@@ -60,6 +61,8 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         // lateScore = -1000
         LocalSearchStepScope stepScope1 = new LocalSearchStepScope(phaseScope);
         LocalSearchMoveScope moveScope1 = buildMoveScope(stepScope1, -700);
+        // The hill climbing is disabled, so the lastCompletedStepScore (-500) doesn't matter
+        assertEquals(SimpleScore.valueOfInitialized(-1000), acceptor.getAcceptableScoreLowerBound(stepScope1));
         assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope1, -900)));
         assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope1, -2000)));
         assertEquals(true, acceptor.isAccepted(moveScope1));
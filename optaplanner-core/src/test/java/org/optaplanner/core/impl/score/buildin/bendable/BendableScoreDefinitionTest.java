@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.score.buildin.bendable;
 
+import java.util.Comparator;
+
 import org.junit.Test;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
@@ -136,4 +138,37 @@ public class BendableScoreDefinitionTest {
         assertEquals(Integer.MIN_VALUE, pessimisticBound.getSoftScore(2));
     }
 
+    @Test
+    public void getScoreComparator() {
+        BendableScoreDefinition scoreDefinition = new BendableScoreDefinition(2, 3);
+        Comparator<BendableScore> comparator = scoreDefinition.getScoreComparator();
+        BendableScore[] scores = new BendableScore[]{
+                BendableScore.valueOf(-1, new int[]{0, 0}, new int[]{0, 0, 0}),
+                BendableScore.valueOfInitialized(new int[]{-20, 0}, new int[]{0, 0, 0}),
+                BendableScore.valueOfInitialized(new int[]{-1, -20}, new int[]{0, 0, 0}),
+                BendableScore.valueOfInitialized(new int[]{-1, 0}, new int[]{-30, 0, 0}),
+                BendableScore.valueOfInitialized(new int[]{-1, 0}, new int[]{0, 0, -30}),
+                BendableScore.valueOfInitialized(new int[]{0, 0}, new int[]{0, 0, 0}),
+                BendableScore.valueOfInitialized(new int[]{0, 0}, new int[]{0, 0, 1})
+        };
+        for (BendableScore a : scores) {
+            for (BendableScore b : scores) {
+                assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(comparator.compare(a, b)));
+            }
+        }
+    }
+
+    @Test
+    public void isFeasible() {
+        BendableScoreDefinition scoreDefinition = new BendableScoreDefinition(2, 3);
+        assertEquals(true, scoreDefinition.isFeasible(
+                BendableScore.valueOfInitialized(new int[]{0, 0}, new int[]{-5, 0, 0})));
+        assertEquals(true, scoreDefinition.isFeasible(
+                BendableScore.valueOfInitialized(new int[]{1, -20}, new int[]{0, 0, 0})));
+        assertEquals(false, scoreDefinition.isFeasible(
+                BendableScore.valueOfInitialized(new int[]{0, -1}, new int[]{0, 0, 0})));
+        assertEquals(false, scoreDefinition.isFeasible(
+                BendableScore.valueOf(-1, new int[]{0, 0}, new int[]{0, 0, 0})));
+    }
+
 }
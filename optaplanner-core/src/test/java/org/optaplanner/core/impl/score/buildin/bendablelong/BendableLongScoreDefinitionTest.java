@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.score.buildin.bendablelong;
 
+import java.util.Comparator;
+
 import org.junit.Test;
 import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
@@ -136,4 +138,37 @@ public class BendableLongScoreDefinitionTest {
         assertEquals(Long.MIN_VALUE, pessimisticBound.getSoftScore(2));
     }
 
+    @Test
+    public void getScoreComparator() {
+        BendableLongScoreDefinition scoreDefinition = new BendableLongScoreDefinition(2, 3);
+        Comparator<BendableLongScore> comparator = scoreDefinition.getScoreComparator();
+        BendableLongScore[] scores = new BendableLongScore[]{
+                BendableLongScore.valueOf(-1, new long[]{0L, 0L}, new long[]{0L, 0L, 0L}),
+                BendableLongScore.valueOfInitialized(new long[]{-20L, 0L}, new long[]{0L, 0L, 0L}),
+                BendableLongScore.valueOfInitialized(new long[]{-1L, -20L}, new long[]{0L, 0L, 0L}),
+                BendableLongScore.valueOfInitialized(new long[]{-1L, 0L}, new long[]{-30L, 0L, 0L}),
+                BendableLongScore.valueOfInitialized(new long[]{-1L, 0L}, new long[]{0L, 0L, -30L}),
+                BendableLongScore.valueOfInitialized(new long[]{0L, 0L}, new long[]{0L, 0L, 0L}),
+                BendableLongScore.valueOfInitialized(new long[]{0L, 0L}, new long[]{0L, 0L, 1L})
+        };
+        for (BendableLongScore a : scores) {
+            for (BendableLongScore b : scores) {
+                assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(comparator.compare(a, b)));
+            }
+        }
+    }
+
+    @Test
+    public void isFeasible() {
+        BendableLongScoreDefinition scoreDefinition = new BendableLongScoreDefinition(2, 3);
+        assertEquals(true, scoreDefinition.isFeasible(
+                BendableLongScore.valueOfInitialized(new long[]{0L, 0L}, new long[]{-5L, 0L, 0L})));
+        assertEquals(true, scoreDefinition.isFeasible(
+                BendableLongScore.valueOfInitialized(new long[]{1L, -20L}, new long[]{0L, 0L, 0L})));
+        assertEquals(false, scoreDefinition.isFeasible(
+                BendableLongScore.valueOfInitialized(new long[]{0L, -1L}, new long[]{0L, 0L, 0L})));
+        assertEquals(false, scoreDefinition.isFeasible(
+                BendableLongScore.valueOf(-1, new long[]{0L, 0L}, new long[]{0L, 0L, 0L})));
+    }
+
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin.hardsoftscaledlong;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.hardsoftscaledlong.HardSoftScaledLongScore;
+import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+
+import static org.junit.Assert.*;
+
+public class HardSoftScaledLongScoreDefinitionTest {
+
+    @Test
+    public void getLevelsSize() {
+        assertEquals(2, new HardSoftScaledLongScoreDefinition(2).getLevelsSize());
+    }
+
+    @Test
+    public void getLevelLabels() {
+        assertArrayEquals(new String[]{"hard score", "soft score"},
+                new HardSoftScaledLongScoreDefinition(2).getLevelLabels());
+    }
+
+    @Test
+    public void getFeasibleLevelsSize() {
+        assertEquals(1, new HardSoftScaledLongScoreDefinition(2).getFeasibleLevelsSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeScale() {
+        new HardSoftScaledLongScoreDefinition(-1);
+    }
+
+    @Test
+    public void parseScore() {
+        HardSoftScaledLongScoreDefinition scoreDefinition = new HardSoftScaledLongScoreDefinition(2);
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-7, -14720L, -2583L, 2),
+                scoreDefinition.parseScore("-7init/-147.2hard/-25.83soft"));
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(0, 100L, 0L, 2),
+                scoreDefinition.parseScore("1hard/0soft"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseScoreWithTooManyDecimals() {
+        new HardSoftScaledLongScoreDefinition(2).parseScore("-147.2hard/-25.837soft");
+    }
+
+    @Test
+    public void fromLevelNumbers() {
+        HardSoftScaledLongScoreDefinition scoreDefinition = new HardSoftScaledLongScoreDefinition(3);
+        HardSoftScaledLongScore score = scoreDefinition.fromLevelNumbers(-7,
+                new Number[]{new BigDecimal("-147.2"), new BigDecimal("-25.83")});
+        assertEquals(HardSoftScaledLongScore.valueOfUnscaled(-7, -147200L, -25830L, 3), score);
+        assertArrayEquals(new Number[]{new BigDecimal("-147.200"), new BigDecimal("-25.830")},
+                score.toLevelNumbers());
+    }
+
+    @Test
+    public void buildOptimisticBoundOnlyUp() {
+        HardSoftScaledLongScoreDefinition scoreDefinition = new HardSoftScaledLongScoreDefinition(2);
+        HardSoftScaledLongScore optimisticBound = scoreDefinition.buildOptimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_UP, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -200L, 2));
+        assertEquals(0, optimisticBound.getInitScore());
+        assertEquals(Long.MAX_VALUE, optimisticBound.getUnscaledHardScore());
+        assertEquals(Long.MAX_VALUE, optimisticBound.getUnscaledSoftScore());
+        assertEquals(2, optimisticBound.getScale());
+    }
+
+    @Test
+    public void buildOptimisticBoundOnlyDown() {
+        HardSoftScaledLongScoreDefinition scoreDefinition = new HardSoftScaledLongScoreDefinition(2);
+        HardSoftScaledLongScore optimisticBound = scoreDefinition.buildOptimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -200L, 2));
+        assertEquals(0, optimisticBound.getInitScore());
+        assertEquals(-100L, optimisticBound.getUnscaledHardScore());
+        assertEquals(-200L, optimisticBound.getUnscaledSoftScore());
+    }
+
+    @Test
+    public void buildPessimisticBoundOnlyUp() {
+        HardSoftScaledLongScoreDefinition scoreDefinition = new HardSoftScaledLongScoreDefinition(2);
+        HardSoftScaledLongScore pessimisticBound = scoreDefinition.buildPessimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_UP, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -200L, 2));
+        assertEquals(0, pessimisticBound.getInitScore());
+        assertEquals(-100L, pessimisticBound.getUnscaledHardScore());
+        assertEquals(-200L, pessimisticBound.getUnscaledSoftScore());
+    }
+
+    @Test
+    public void buildPessimisticBoundOnlyDown() {
+        HardSoftScaledLongScoreDefinition scoreDefinition = new HardSoftScaledLongScoreDefinition(2);
+        HardSoftScaledLongScore pessimisticBound = scoreDefinition.buildPessimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 2),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -100L, -200L, 2));
+        assertEquals(0, pessimisticBound.getInitScore());
+        assertEquals(Long.MIN_VALUE, pessimisticBound.getUnscaledHardScore());
+        assertEquals(Long.MIN_VALUE, pessimisticBound.getUnscaledSoftScore());
+    }
+
+}
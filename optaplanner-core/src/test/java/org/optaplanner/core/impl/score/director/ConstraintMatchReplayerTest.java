@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+
+public class ConstraintMatchReplayerTest {
+
+    @Test
+    public void replay() throws Exception {
+        DefaultSolver<TestdataSolution> solver = buildSolver();
+        ConstraintMatchReplayer<TestdataSolution> replayer
+                = new ConstraintMatchReplayer<>(solver.getScoreDirectorFactory(), Runnable::run);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v2);
+        TestdataSolution solution = buildSolution(Arrays.asList(v1, v2), Arrays.asList(a, b, c));
+
+        ConstraintMatchReplay<TestdataSolution> replay = replayer.replay(solution).get();
+        assertNotSame(solution, replay.getSolution());
+        assertNull(solution.getScore());
+        assertEquals(SimpleScore.valueOf(0, -5), replay.getScore());
+        assertEquals(1, replay.getConstraintMatchTotals().size());
+        assertEquals(5, replay.getConstraintMatchTotals().iterator().next().getConstraintMatchCount());
+        // The indictments are about the planning clones
+        assertEquals(3, replay.getIndictmentMap().size());
+        assertFalse(replay.getIndictmentMap().containsKey(a));
+    }
+
+    @Test
+    public void replayBestSolution() throws Exception {
+        DefaultSolver<TestdataSolution> solver = buildSolver();
+        ConstraintMatchReplayer<TestdataSolution> replayer
+                = new ConstraintMatchReplayer<>(solver.getScoreDirectorFactory(), Runnable::run);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataSolution solution1 = buildSolution(Arrays.asList(v1, v2),
+                Arrays.asList(new TestdataEntity("a", v1), new TestdataEntity("b", v1)));
+        replayer.bestSolutionChanged(new BestSolutionChangedEvent<>(solver, 0L, solution1, null));
+        CompletableFuture<ConstraintMatchReplay<TestdataSolution>> replay1 = replayer.replayBestSolution();
+        assertSame(replay1, replayer.replayBestSolution());
+        assertEquals(SimpleScore.valueOf(0, -4), replay1.get().getScore());
+
+        TestdataSolution solution2 = buildSolution(Arrays.asList(v1, v2),
+                Arrays.asList(new TestdataEntity("a", v1), new TestdataEntity("b", v2)));
+        replayer.bestSolutionChanged(new BestSolutionChangedEvent<>(solver, 0L, solution2, null));
+        assertEquals(2L, replayer.getBestSolutionRevision());
+        CompletableFuture<ConstraintMatchReplay<TestdataSolution>> replay2 = replayer.replayBestSolution();
+        assertNotSame(replay1, replay2);
+        assertSame(replay2, replayer.replayBestSolution());
+        assertEquals(SimpleScore.valueOf(0, -2), replay2.get().getScore());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void replayBestSolutionBeforeBestSolutionChanged() {
+        ConstraintMatchReplayer<TestdataSolution> replayer
+                = new ConstraintMatchReplayer<>(buildSolver().getScoreDirectorFactory(), Runnable::run);
+        replayer.replayBestSolution();
+    }
+
+    private DefaultSolver<TestdataSolution> buildSolver() {
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.createFromXmlResource(
+                "org/optaplanner/core/api/solver/testdataSolverConfig.xml");
+        return (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+    }
+
+    private TestdataSolution buildSolution(List<TestdataValue> valueList,
+            List<TestdataEntity> entityList) {
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(valueList);
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
+}
@@ -52,6 +52,7 @@ public class DroolsScoreDirectorTest {
         when(factory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
         when(factory.getSolutionDescriptor()).thenReturn(mock(SolutionDescriptor.class));
         when(factory.newKieSession()).thenReturn(mock(KieSession.class));
+        when(factory.acquireKieSession()).thenReturn(mock(KieSession.class));
         return factory;
     }
 
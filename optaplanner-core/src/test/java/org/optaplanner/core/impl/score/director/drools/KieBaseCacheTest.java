@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.api.KieBase;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class KieBaseCacheTest {
+
+    private KieBaseCache kieBaseCache;
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() {
+        kieBaseCache = new KieBaseCache();
+        classLoader = getClass().getClassLoader();
+    }
+
+    @After
+    public void tearDown() {
+        kieBaseCache.clear();
+    }
+
+    private List<byte[]> drl(String contents) {
+        return Collections.singletonList(contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void sameContentsCompiledOnce() {
+        AtomicInteger buildCount = new AtomicInteger(0);
+        KieBase kieBase = mock(KieBase.class);
+        KieBase first = kieBaseCache.computeIfAbsent(classLoader, drl("rule A"), null, () -> {
+            buildCount.incrementAndGet();
+            return kieBase;
+        });
+        // Another byte array with the same contents
+        KieBase second = kieBaseCache.computeIfAbsent(classLoader, drl("rule A"), null, () -> {
+            buildCount.incrementAndGet();
+            return mock(KieBase.class);
+        });
+        assertSame(kieBase, first);
+        assertSame(kieBase, second);
+        assertEquals(1, buildCount.get());
+        assertEquals(1, kieBaseCache.size());
+    }
+
+    @Test
+    public void differentContentsOrConfiguration() {
+        KieBase a = kieBaseCache.computeIfAbsent(classLoader, drl("rule A"), null, () -> mock(KieBase.class));
+        KieBase b = kieBaseCache.computeIfAbsent(classLoader, drl("rule B"), null, () -> mock(KieBase.class));
+        KieBase c = kieBaseCache.computeIfAbsent(classLoader, drl("rule A"),
+                Collections.singletonMap("drools.equalityBehavior", "EQUALITY"), () -> mock(KieBase.class));
+        KieBase d = kieBaseCache.computeIfAbsent(new ClassLoader(classLoader) {}, drl("rule A"), null,
+                () -> mock(KieBase.class));
+        assertNotSame(a, b);
+        assertNotSame(a, c);
+        assertNotSame(a, d);
+        assertEquals(4, kieBaseCache.size());
+        kieBaseCache.clear();
+        assertEquals(0, kieBaseCache.size());
+    }
+
+    @Test
+    public void evict() {
+        ClassLoader otherClassLoader = new ClassLoader(classLoader) {};
+        kieBaseCache.computeIfAbsent(classLoader, drl("rule A"), null, () -> mock(KieBase.class));
+        kieBaseCache.computeIfAbsent(otherClassLoader, drl("rule A"), null, () -> mock(KieBase.class));
+        assertEquals(2, kieBaseCache.size());
+        kieBaseCache.evict(otherClassLoader);
+        assertEquals(1, kieBaseCache.size());
+        KieBase kieBase = mock(KieBase.class);
+        assertSame(kieBase, kieBaseCache.computeIfAbsent(otherClassLoader, drl("rule A"), null, () -> kieBase));
+    }
+
+    @Test
+    public void failureIsNotCached() {
+        try {
+            kieBaseCache.computeIfAbsent(classLoader, drl("rule A"), null, () -> {
+                throw new IllegalStateException("There are errors in a score DRL.");
+            });
+            fail("The compilation failure was not propagated.");
+        } catch (IllegalStateException e) {
+            assertEquals("There are errors in a score DRL.", e.getMessage());
+        }
+        assertEquals(0, kieBaseCache.size());
+        KieBase kieBase = mock(KieBase.class);
+        assertSame(kieBase, kieBaseCache.computeIfAbsent(classLoader, drl("rule A"), null, () -> kieBase));
+    }
+
+}
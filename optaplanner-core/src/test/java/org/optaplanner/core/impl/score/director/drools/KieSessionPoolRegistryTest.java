@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class KieSessionPoolRegistryTest {
+
+    @Test
+    public void obtainKieSessionPool() {
+        KieSessionPoolRegistry registry = new KieSessionPoolRegistry();
+        KieBase kieBase = mock(KieBase.class);
+        KieSessionPool pool = registry.obtainKieSessionPool(kieBase, null, 2);
+        assertSame(pool, registry.obtainKieSessionPool(kieBase, null, 2));
+        assertNotSame(pool, registry.obtainKieSessionPool(kieBase, "otherKsession", 2));
+        assertNotSame(pool, registry.obtainKieSessionPool(mock(KieBase.class), null, 2));
+
+        KieSessionPool resizedPool = registry.obtainKieSessionPool(kieBase, null, 3);
+        assertNotSame(pool, resizedPool);
+        assertTrue(pool.isClosed());
+        assertFalse(resizedPool.isClosed());
+    }
+
+    @Test
+    public void evictedPoolDisposesSessionsStillInUse() {
+        KieSessionPoolRegistry registry = new KieSessionPoolRegistry();
+        KieBase kieBase = mock(KieBase.class);
+        DroolsScoreDirectorFactory<TestdataSolution> factory = new LegacyDroolsScoreDirectorFactory<TestdataSolution>(kieBase) {
+            // The mocked kieBase has no score holder global
+            @Override
+            protected void checkIfGlobalScoreHolderExists(KieBase kieBase) {
+            }
+        };
+        factory.setKieSessionPool(registry.obtainKieSessionPool(kieBase, null, 1));
+        KieSession kieSession = mock(KieSession.class);
+        when(kieSession.getFactHandles()).thenReturn(Collections.emptyList());
+        when(kieBase.newKieSession()).thenReturn(kieSession);
+
+        assertSame(kieSession, factory.acquireKieSession());
+        registry.evict(kieBase);
+        factory.releaseKieSession(kieSession);
+        verify(kieSession).dispose();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class KieSessionPoolTest {
+
+    @Test
+    public void releasedSessionIsResetAndReused() {
+        KieSessionPool pool = new KieSessionPool(2);
+        KieSession kieSession = mock(KieSession.class);
+        FactHandle a = mock(FactHandle.class);
+        FactHandle b = mock(FactHandle.class);
+        when(kieSession.getFactHandles()).thenReturn(Arrays.asList(a, b));
+
+        assertSame(kieSession, pool.acquire(() -> kieSession));
+        assertTrue(pool.release(kieSession));
+        verify(kieSession).delete(a);
+        verify(kieSession).delete(b);
+        assertEquals(1, pool.getIdleSize());
+
+        assertSame(kieSession, pool.acquire(() -> {
+            throw new IllegalStateException("An idle kieSession must be reused.");
+        }));
+        assertEquals(0, pool.getIdleSize());
+        verify(kieSession, never()).dispose();
+    }
+
+    @Test
+    public void releaseRejectsWhenFull() {
+        KieSessionPool pool = new KieSessionPool(1);
+        KieSession first = mock(KieSession.class);
+        KieSession second = mock(KieSession.class);
+        when(first.getFactHandles()).thenReturn(Collections.emptyList());
+        when(second.getFactHandles()).thenReturn(Collections.emptyList());
+        assertTrue(pool.release(first));
+        assertFalse(pool.release(second));
+        assertEquals(1, pool.getIdleSize());
+    }
+
+    @Test
+    public void releaseRejectsWhenResetFails() {
+        KieSessionPool pool = new KieSessionPool(1);
+        KieSession kieSession = mock(KieSession.class);
+        when(kieSession.getFactHandles()).thenThrow(new IllegalStateException("Broken session."));
+        assertFalse(pool.release(kieSession));
+        assertEquals(0, pool.getIdleSize());
+    }
+
+    @Test
+    public void closeDisposesIdleSessionsAndRejectsReleases() {
+        KieSessionPool pool = new KieSessionPool(2);
+        KieSession idle = mock(KieSession.class);
+        KieSession inUse = mock(KieSession.class);
+        when(idle.getFactHandles()).thenReturn(Collections.emptyList());
+        when(inUse.getFactHandles()).thenReturn(Collections.emptyList());
+        assertTrue(pool.release(idle));
+
+        pool.close();
+        assertTrue(pool.isClosed());
+        verify(idle).dispose();
+        assertEquals(0, pool.getIdleSize());
+        assertFalse(pool.release(inUse));
+        verify(inUse, never()).dispose();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumIdleSizeMustBePositive() {
+        new KieSessionPool(0);
+    }
+
+}
@@ -18,9 +18,14 @@ package org.optaplanner.core.impl.score.director.easy;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class EasyScoreDirectorTest {
@@ -38,9 +43,65 @@ public class EasyScoreDirectorTest {
         director.getConstraintMatchTotals();
     }
 
+    @Test
+    public void calculatePartitionedScore() {
+        PartitionedEasyScoreCalculator<Object> easyScoreCalculator = new PartitionedEasyScoreCalculator<Object>() {
+            @Override
+            public int getPartitionCount(Object solution) {
+                return 100;
+            }
+
+            @Override
+            public Score calculatePartitionScore(Object solution, int partitionIndex) {
+                return SimpleScore.valueOfInitialized(-partitionIndex);
+            }
+
+            @Override
+            public Score calculateScore(Object solution, int initScore) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        // 100 partitions don't divide evenly over 3 threads
+        EasyScoreDirectorFactory<Object> factory = buildEasyScoreDirectorFactory(easyScoreCalculator, 3);
+        EasyScoreDirector<Object> director = factory.buildScoreDirector(false);
+        director.setWorkingSolution(new Object());
+        assertFalse(factory.isPartitionExecutorAlive());
+        assertEquals(SimpleScore.valueOfInitialized(-4950), director.calculateScore());
+        assertEquals(SimpleScore.valueOfInitialized(-4950), director.calculateScore());
+        assertTrue(factory.isPartitionExecutorAlive());
+        director.dispose();
+        assertFalse(factory.isPartitionExecutorAlive());
+    }
+
+    @Test
+    public void calculatePartitionedScoreWithPartitionThreadCountOne() {
+        PartitionedEasyScoreCalculator<Object> easyScoreCalculator = mock(PartitionedEasyScoreCalculator.class);
+        when(easyScoreCalculator.getPartitionCount(any())).thenReturn(100);
+        when(easyScoreCalculator.calculateScore(any(), anyInt())).thenReturn(SimpleScore.valueOfInitialized(-4950));
+        EasyScoreDirectorFactory<Object> factory = buildEasyScoreDirectorFactory(easyScoreCalculator, 1);
+        EasyScoreDirector<Object> director = factory.buildScoreDirector(false);
+        director.setWorkingSolution(new Object());
+        assertEquals(SimpleScore.valueOfInitialized(-4950), director.calculateScore());
+        verify(easyScoreCalculator, never()).calculatePartitionScore(any(), anyInt());
+        assertFalse(factory.isPartitionExecutorAlive());
+        director.dispose();
+    }
+
+    @SuppressWarnings("unchecked")
+    private EasyScoreDirectorFactory<Object> buildEasyScoreDirectorFactory(
+            EasyScoreCalculator<Object> easyScoreCalculator, int partitionThreadCount) {
+        EasyScoreDirectorFactory<Object> factory = new EasyScoreDirectorFactory<>(easyScoreCalculator);
+        SolutionDescriptor<Object> solutionDescriptor = mock(SolutionDescriptor.class);
+        when(solutionDescriptor.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        factory.setSolutionDescriptor(solutionDescriptor);
+        factory.setPartitionThreadCount(partitionThreadCount);
+        return factory;
+    }
+
     @SuppressWarnings("unchecked")
     private EasyScoreDirectorFactory<Object> mockEasyScoreDirectorFactory() {
         EasyScoreDirectorFactory<Object> factory = mock(EasyScoreDirectorFactory.class);
+        when(factory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
         when(factory.getSolutionDescriptor()).thenReturn(mock(SolutionDescriptor.class));
         return factory;
     }
@@ -24,9 +24,13 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.InOrder;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedAnchor;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
@@ -89,6 +93,53 @@ public class IncrementalScoreDirectorTest {
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    public void variableDescriptorAwareVariableListener() {
+        TestdataRichChainedAnchor a0 = new TestdataRichChainedAnchor("a0");
+        TestdataRichChainedEntity a1 = new TestdataRichChainedEntity("a1", a0);
+        a0.setNextEntity(a1);
+        TestdataRichChainedEntity a2 = new TestdataRichChainedEntity("a2", a1);
+        a1.setNextEntity(a2);
+
+        TestdataRichChainedAnchor b0 = new TestdataRichChainedAnchor("b0");
+        TestdataRichChainedEntity b1 = new TestdataRichChainedEntity("b1", b0);
+        b0.setNextEntity(b1);
+
+        TestdataRichChainedSolution solution = new TestdataRichChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, b1));
+
+        SolutionDescriptor solutionDescriptor = TestdataRichChainedSolution.buildSolutionDescriptor();
+        VariableDescriptor chainedObjectDescriptor = solutionDescriptor
+                .findEntityDescriptorOrFail(TestdataRichChainedEntity.class).getVariableDescriptor("chainedObject");
+        IncrementalScoreDirectorFactory scoreDirectorFactory = mock(IncrementalScoreDirectorFactory.class);
+        when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        VariableDescriptorAwareIncrementalScoreCalculator incrementalScoreCalculator
+                = mock(VariableDescriptorAwareIncrementalScoreCalculator.class);
+        // Only listen to the genuine variable, not to the shadow variables
+        when(incrementalScoreCalculator.isVariableChangeListened(chainedObjectDescriptor)).thenReturn(true);
+        IncrementalScoreDirector scoreDirector = new IncrementalScoreDirector(
+                scoreDirectorFactory, false, incrementalScoreCalculator) {
+            @Override
+            public Score calculateScore() {
+                return SimpleScore.valueOfInitialized(-100);
+            }
+        };
+        scoreDirector.setWorkingSolution(solution);
+        reset(incrementalScoreCalculator);
+
+        scoreDirector.beforeVariableChanged(a2, "chainedObject");
+        a2.setChainedObject(b1);
+        scoreDirector.afterVariableChanged(a2, "chainedObject");
+        scoreDirector.triggerVariableListeners();
+        assertEquals(a2, b1.getNextEntity());
+
+        InOrder inOrder = inOrder(incrementalScoreCalculator);
+        inOrder.verify(incrementalScoreCalculator, times(1)).beforeVariableChanged(a2, chainedObjectDescriptor);
+        inOrder.verify(incrementalScoreCalculator, times(1)).afterVariableChanged(a2, chainedObjectDescriptor);
+        inOrder.verifyNoMoreInteractions();
+    }
+
     @Test
     public void illegalStateExceptionThrownWhenConstraintMatchNotEnabled() {
         IncrementalScoreDirector<Object> director
@@ -117,6 +168,47 @@ public class IncrementalScoreDirectorTest {
         assertFalse(director.isConstraintMatchEnabled());
     }
 
+    @Test
+    public void calculateOptimisticScoreBound() {
+        IncrementalScoreDirectorFactory<Object> factory = mock(IncrementalScoreDirectorFactory.class);
+        when(factory.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
+        when(factory.getSolutionDescriptor()).thenReturn(mock(SolutionDescriptor.class));
+        // The initializing score trend doesn't make a partial score level optimistic
+        when(factory.getInitializingScoreTrend()).thenReturn(InitializingScoreTrend.parseTrend("ONLY_DOWN", 2));
+        PartialScoreIncrementalScoreCalculator<Object> calculator = mock(PartialScoreIncrementalScoreCalculator.class);
+        when(calculator.isPartialScoreLevelOptimistic(0)).thenReturn(true);
+        when(calculator.isPartialScoreLevelOptimistic(1)).thenReturn(false);
+        when(calculator.calculatePartialScore(anyInt())).thenReturn(HardSoftScore.valueOf(0, -2, -30));
+        IncrementalScoreDirector<Object> director = new IncrementalScoreDirector<>(factory, false, calculator);
+        director.setWorkingSolution(new Object());
+
+        // The soft level isn't optimistic, so it's unbounded
+        assertEquals(HardSoftScore.valueOf(0, -2, Integer.MAX_VALUE), director.calculateOptimisticScoreBound());
+        verify(calculator, never()).calculateScore(anyInt());
+    }
+
+    @Test
+    public void calculateOptimisticScoreBoundWithoutOptimisticLevel() {
+        IncrementalScoreDirectorFactory<Object> factory = mock(IncrementalScoreDirectorFactory.class);
+        when(factory.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
+        when(factory.getSolutionDescriptor()).thenReturn(mock(SolutionDescriptor.class));
+        PartialScoreIncrementalScoreCalculator<Object> calculator = mock(PartialScoreIncrementalScoreCalculator.class);
+        IncrementalScoreDirector<Object> director = new IncrementalScoreDirector<>(factory, false, calculator);
+        director.setWorkingSolution(new Object());
+
+        assertNull(director.calculateOptimisticScoreBound());
+        verify(calculator, never()).calculatePartialScore(anyInt());
+    }
+
+    @Test
+    public void calculateOptimisticScoreBoundWithoutPartialScoreCalculator() {
+        IncrementalScoreDirector<Object> director
+                = new IncrementalScoreDirector<>(mockIncrementalScoreDirectorFactory(), false,
+                        mockIncrementalScoreCalculator(false));
+        director.setWorkingSolution(new Object());
+        assertNull(director.calculateOptimisticScoreBound());
+    }
+
     @SuppressWarnings("unchecked")
     private IncrementalScoreDirectorFactory<Object> mockIncrementalScoreDirectorFactory() {
         IncrementalScoreDirectorFactory<Object> factory = mock(IncrementalScoreDirectorFactory.class);
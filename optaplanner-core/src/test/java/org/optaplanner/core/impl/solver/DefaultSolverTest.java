@@ -16,8 +16,11 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.Collections;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
 
 import org.junit.Test;
 import org.optaplanner.core.api.solver.Solver;
@@ -26,7 +29,11 @@ import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPh
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.definition.ScoreDefinitionType;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.phase.custom.AbstractCustomPhaseCommand;
 import org.optaplanner.core.impl.phase.custom.DummyCustomPhaseCommand;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.metrics.JmxSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetrics;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -53,6 +60,67 @@ public class DefaultSolverTest {
         assertSame(solution, solver.getBestSolution());
     }
 
+    @Test
+    public void solveWithMetrics() throws MalformedObjectNameException {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setMetricsEnabled(true);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        SolverMetrics<TestdataSolution> solverMetrics = solver.getSolverMetrics();
+        assertNotNull(solverMetrics);
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(false, solverMetrics.isSolving());
+        assertTrue(solverMetrics.getStepCount() > 0L);
+        assertTrue(solverMetrics.getScoreCalculationCount() > 0L);
+        assertTrue(solverMetrics.getBestSolutionCloneCount() > 0L);
+        assertEquals(solution.getScore().toString(), solverMetrics.getBestScore());
+        assertEquals(0, solverMetrics.getProblemFactChangeQueueSize());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(
+                JmxSolverMetricsRegistry.OBJECT_NAME_PREFIX + ObjectName.quote(solverMetrics.getSolverId()))));
+    }
+
+    @Test
+    public void solveWithMetricsUnregistersWhenSolvingFails() throws MalformedObjectNameException {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setMetricsEnabled(true);
+        CustomPhaseConfig phaseConfig = new CustomPhaseConfig();
+        phaseConfig.setCustomPhaseCommandClassList(Collections.singletonList(FailingCustomPhaseCommand.class));
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(phaseConfig));
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        SolverMetrics<TestdataSolution> solverMetrics = solver.getSolverMetrics();
+        ObjectName objectName = new ObjectName(
+                JmxSolverMetricsRegistry.OBJECT_NAME_PREFIX + ObjectName.quote(solverMetrics.getSolverId()));
+
+        for (int i = 0; i < 2; i++) {
+            TestdataSolution solution = new TestdataSolution("s1");
+            solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+            solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+            try {
+                solver.solve(solution);
+                fail("The custom phase command should have failed.");
+            } catch (IllegalStateException e) {
+                // Expected, solving again must not fail on registering the metrics
+                assertEquals(FailingCustomPhaseCommand.MESSAGE, e.getMessage());
+            }
+            assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+        }
+    }
+
+    @Test
+    public void solveWithoutMetrics() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        assertNull(solver.getSolverMetrics());
+    }
+
     @Test
     public void solveLegacy() {
         SolverFactory<TestdataLegacySolution> solverFactory = PlannerTestUtils.buildSolverFactory(
@@ -112,4 +180,15 @@ public class DefaultSolverTest {
         assertSame(solution, solver.getBestSolution());
     }
 
+    public static class FailingCustomPhaseCommand extends AbstractCustomPhaseCommand<Object> {
+
+        private static final String MESSAGE = "Failing on purpose.";
+
+        @Override
+        public void changeWorkingSolution(ScoreDirector<Object> scoreDirector) {
+            throw new IllegalStateException(MESSAGE);
+        }
+
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.optaplanner.core.config.solver.random.RandomType;
+
+import static org.junit.Assert.*;
+
+public class DefaultRandomFactoryTest {
+
+    @Test
+    public void reproducible() {
+        for (RandomType randomType : RandomType.values()) {
+            Random a = new DefaultRandomFactory(randomType, 37L).createRandom();
+            Random b = new DefaultRandomFactory(randomType, 37L).createRandom();
+            for (int i = 0; i < 100; i++) {
+                assertEquals(randomType.name(), a.nextLong(), b.nextLong());
+                assertEquals(randomType.name(), a.nextInt(10), b.nextInt(10));
+                assertEquals(randomType.name(), a.nextDouble(), b.nextDouble(), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void streamsAreReproducibleAndIndependent() {
+        for (RandomType randomType : RandomType.values()) {
+            DefaultRandomFactory randomFactory = new DefaultRandomFactory(randomType, 37L);
+            long mainFirst = randomFactory.createRandom().nextLong();
+            long stream0First = randomFactory.createRandom(0).nextLong();
+            long stream1First = randomFactory.createRandom(1).nextLong();
+            assertEquals(randomType.name(), stream0First, randomFactory.createRandom(0).nextLong());
+            assertEquals(randomType.name(), stream1First, randomFactory.createRandom(1).nextLong());
+            assertNotEquals(randomType.name(), mainFirst, stream0First);
+            assertNotEquals(randomType.name(), mainFirst, stream1First);
+            assertNotEquals(randomType.name(), stream0First, stream1First);
+        }
+    }
+
+    @Test
+    public void boundedValuesInRange() {
+        for (RandomType randomType : new RandomType[]{RandomType.SPLITTABLE_RANDOM, RandomType.XOROSHIRO_128_PLUS}) {
+            Random random = new DefaultRandomFactory(randomType, 37L).createRandom();
+            boolean[] hits = new boolean[7];
+            for (int i = 0; i < 1000; i++) {
+                int value = random.nextInt(7);
+                assertTrue(value >= 0 && value < 7);
+                hits[value] = true;
+                double doubleValue = random.nextDouble();
+                assertTrue(doubleValue >= 0.0 && doubleValue < 1.0);
+            }
+            for (boolean hit : hits) {
+                assertTrue(randomType.name(), hit);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeStreamIndex() {
+        new DefaultRandomFactory(RandomType.JDK, 37L).createRandom(-1);
+    }
+
+}
@@ -30,8 +30,7 @@ public class BestScoreFeasibleTerminationTest {
 
     @Test
     public void solveTermination() {
-        FeasibilityScoreDefinition scoreDefinition = mock(FeasibilityScoreDefinition.class);
-        when(scoreDefinition.getFeasibleLevelsSize()).thenReturn(1);
+        FeasibilityScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
         Termination termination = new BestScoreFeasibleTermination(scoreDefinition, new double[]{});
         DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
         when(solverScope.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
@@ -60,8 +59,7 @@ public class BestScoreFeasibleTerminationTest {
 
     @Test
     public void phaseTermination() {
-        FeasibilityScoreDefinition scoreDefinition = mock(FeasibilityScoreDefinition.class);
-        when(scoreDefinition.getFeasibleLevelsSize()).thenReturn(1);
+        FeasibilityScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
         Termination termination = new BestScoreFeasibleTermination(scoreDefinition, new double[]{});
         AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
         when(phaseScope.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class TerminationClockTest {
+
+    /**
+     * So high that the daemon thread never ticks during a test.
+     */
+    private static final long HOUR_MILLIS = 3600000L;
+
+    @Test
+    public void notStartedReadsTheSystemClock() {
+        TestTerminationClock clock = new TestTerminationClock(HOUR_MILLIS);
+        clock.systemTimeMillis = 1000L;
+        assertEquals(1000L, clock.currentTimeMillis());
+        clock.systemTimeMillis = 1001L;
+        assertEquals(1001L, clock.currentTimeMillis());
+        assertEquals(2, clock.readCount);
+    }
+
+    @Test
+    public void startedReturnsTheTickedTime() {
+        TestTerminationClock clock = new TestTerminationClock(HOUR_MILLIS);
+        clock.systemTimeMillis = 1000L;
+        clock.start();
+        try {
+            clock.systemTimeMillis = 2000L;
+            for (int i = 0; i < 100; i++) {
+                assertEquals(1000L, clock.currentTimeMillis());
+            }
+            assertEquals(1, clock.readCount);
+            clock.tick();
+            assertEquals(2000L, clock.currentTimeMillis());
+        } finally {
+            clock.stop();
+        }
+        clock.systemTimeMillis = 3000L;
+        assertEquals(3000L, clock.currentTimeMillis());
+    }
+
+    @Test
+    public void reset() {
+        TestTerminationClock clock = new TestTerminationClock(HOUR_MILLIS);
+        clock.systemTimeMillis = 1000L;
+        clock.start();
+        try {
+            clock.systemTimeMillis = 1001L;
+            clock.reset();
+            assertEquals(1001L, clock.currentTimeMillis());
+        } finally {
+            clock.stop();
+        }
+    }
+
+    @Test
+    public void sharedByMultipleUsers() {
+        TestTerminationClock clock = new TestTerminationClock(HOUR_MILLIS);
+        clock.systemTimeMillis = 1000L;
+        clock.start();
+        clock.start();
+        clock.systemTimeMillis = 2000L;
+        clock.stop();
+        // The other user still relies on the ticked time
+        assertEquals(true, clock.isStarted());
+        assertEquals(1000L, clock.currentTimeMillis());
+        clock.stop();
+        assertEquals(false, clock.isStarted());
+        assertEquals(2000L, clock.currentTimeMillis());
+        // An unpaired stop doesn't underflow
+        clock.stop();
+        clock.start();
+        assertEquals(true, clock.isStarted());
+        clock.stop();
+        assertEquals(false, clock.isStarted());
+    }
+
+    @Test
+    public void tickerShutsDownWhenNoClockTicks() {
+        TestTerminationClock clock1 = new TestTerminationClock(HOUR_MILLIS);
+        TestTerminationClock clock2 = new TestTerminationClock(HOUR_MILLIS);
+        clock1.start();
+        clock2.start();
+        assertEquals(true, TerminationClock.isTickerAlive());
+        clock1.stop();
+        assertEquals(true, TerminationClock.isTickerAlive());
+        clock2.stop();
+        assertEquals(false, TerminationClock.isTickerAlive());
+        clock1.start();
+        assertEquals(true, TerminationClock.isTickerAlive());
+        clock1.stop();
+        assertEquals(false, TerminationClock.isTickerAlive());
+    }
+
+    @Test(timeout = 10000L)
+    public void daemonThreadTicks() throws InterruptedException {
+        TestTerminationClock clock = new TestTerminationClock(1L);
+        clock.systemTimeMillis = 1000L;
+        clock.start();
+        try {
+            clock.systemTimeMillis = 2000L;
+            while (clock.currentTimeMillis() != 2000L) {
+                Thread.sleep(1L);
+            }
+        } finally {
+            clock.stop();
+        }
+    }
+
+    @Test
+    public void timeMillisSpentTermination() {
+        TestTerminationClock clock = new TestTerminationClock(HOUR_MILLIS);
+        Termination termination = new TimeMillisSpentTermination(1000L, clock);
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        when(solverScope.getStartingSystemTimeMillis()).thenReturn(5000L);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getStartingSystemTimeMillis()).thenReturn(5500L);
+
+        clock.systemTimeMillis = 5500L;
+        termination.solvingStarted(solverScope);
+        termination.phaseStarted(phaseScope);
+        assertEquals(false, termination.isSolverTerminated(solverScope));
+        assertEquals(0.5, termination.calculateSolverTimeGradient(solverScope), 0.0);
+        assertEquals(false, termination.isPhaseTerminated(phaseScope));
+        assertEquals(0.0, termination.calculatePhaseTimeGradient(phaseScope), 0.0);
+        clock.systemTimeMillis = 6000L;
+        // The clock lags behind until the next tick
+        assertEquals(false, termination.isSolverTerminated(solverScope));
+        clock.tick();
+        assertEquals(true, termination.isSolverTerminated(solverScope));
+        assertEquals(false, termination.isPhaseTerminated(phaseScope));
+        assertEquals(0.5, termination.calculatePhaseTimeGradient(phaseScope), 0.0);
+        termination.solvingEnded(solverScope);
+        clock.systemTimeMillis = 6500L;
+        assertEquals(1.0, termination.calculatePhaseTimeGradient(phaseScope), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void latencyMillisLimitTooLow() {
+        new TerminationClock(0L);
+    }
+
+    private static class TestTerminationClock extends TerminationClock {
+
+        private volatile long systemTimeMillis = 0L;
+        private volatile int readCount = 0;
+
+        public TestTerminationClock(long latencyMillisLimit) {
+            super(latencyMillisLimit);
+        }
+
+        @Override
+        protected long readSystemTimeMillis() {
+            readCount++;
+            return systemTimeMillis;
+        }
+
+    }
+
+}
@@ -16,16 +16,20 @@
 
 package org.optaplanner.examples.vehiclerouting.domain.timewindowed.solver;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
-import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
+import org.optaplanner.core.impl.domain.variable.listener.BatchVariableListener;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 import org.optaplanner.examples.vehiclerouting.domain.Customer;
 import org.optaplanner.examples.vehiclerouting.domain.Standstill;
 import org.optaplanner.examples.vehiclerouting.domain.timewindowed.TimeWindowedCustomer;
 
 // TODO When this class is added only for TimeWindowedCustomer, use TimeWindowedCustomer instead of Customer
-public class ArrivalTimeUpdatingVariableListener implements VariableListener<Customer> {
+public class ArrivalTimeUpdatingVariableListener implements BatchVariableListener<Customer> {
 
     @Override
     public void beforeEntityAdded(ScoreDirector scoreDirector, Customer customer) {
@@ -51,6 +55,34 @@ public class ArrivalTimeUpdatingVariableListener implements VariableListener<Cus
         }
     }
 
+    @Override
+    public void afterVariablesChanged(ScoreDirector scoreDirector, List<Customer> customerList) {
+        Set<TimeWindowedCustomer> pendingCustomerSet = Collections.newSetFromMap(
+                new IdentityHashMap<>(customerList.size()));
+        for (Customer customer : customerList) {
+            if (customer instanceof TimeWindowedCustomer) {
+                pendingCustomerSet.add((TimeWindowedCustomer) customer);
+            }
+        }
+        for (Customer customer : customerList) {
+            if (!pendingCustomerSet.contains(customer)) {
+                // Not time windowed or already updated by the walk of an earlier changed customer in its chain
+                continue;
+            }
+            // Start from the most upstream changed customer in the chain, so each chain suffix is walked once
+            TimeWindowedCustomer headCustomer = (TimeWindowedCustomer) customer;
+            Standstill previousStandstill = headCustomer.getPreviousStandstill();
+            while (previousStandstill instanceof TimeWindowedCustomer) {
+                TimeWindowedCustomer previousCustomer = (TimeWindowedCustomer) previousStandstill;
+                if (pendingCustomerSet.contains(previousCustomer)) {
+                    headCustomer = previousCustomer;
+                }
+                previousStandstill = previousCustomer.getPreviousStandstill();
+            }
+            updateArrivalTime(scoreDirector, headCustomer, pendingCustomerSet);
+        }
+    }
+
     @Override
     public void beforeEntityRemoved(ScoreDirector scoreDirector, Customer customer) {
         // Do nothing
@@ -62,15 +94,33 @@ public class ArrivalTimeUpdatingVariableListener implements VariableListener<Cus
     }
 
     protected void updateArrivalTime(ScoreDirector scoreDirector, TimeWindowedCustomer sourceCustomer) {
+        updateArrivalTime(scoreDirector, sourceCustomer, Collections.<TimeWindowedCustomer>emptySet());
+    }
+
+    /**
+     * @param scoreDirector never null
+     * @param sourceCustomer never null
+     * @param pendingCustomerSet never null, the changed customers that still need an update:
+     * the walk removes each one it passes and never stops at one of them
+     */
+    protected void updateArrivalTime(ScoreDirector scoreDirector, TimeWindowedCustomer sourceCustomer,
+            Set<TimeWindowedCustomer> pendingCustomerSet) {
         Standstill previousStandstill = sourceCustomer.getPreviousStandstill();
         Long departureTime = (previousStandstill instanceof TimeWindowedCustomer)
                 ? ((TimeWindowedCustomer) previousStandstill).getDepartureTime() : null;
         TimeWindowedCustomer shadowCustomer = sourceCustomer;
         Long arrivalTime = calculateArrivalTime(shadowCustomer, departureTime);
-        while (shadowCustomer != null && !Objects.equals(shadowCustomer.getArrivalTime(), arrivalTime)) {
-            scoreDirector.beforeVariableChanged(shadowCustomer, "arrivalTime");
-            shadowCustomer.setArrivalTime(arrivalTime);
-            scoreDirector.afterVariableChanged(shadowCustomer, "arrivalTime");
+        while (shadowCustomer != null) {
+            boolean pending = pendingCustomerSet.remove(shadowCustomer);
+            if (Objects.equals(shadowCustomer.getArrivalTime(), arrivalTime)) {
+                if (!pending) {
+                    break;
+                }
+            } else {
+                scoreDirector.beforeVariableChanged(shadowCustomer, "arrivalTime");
+                shadowCustomer.setArrivalTime(arrivalTime);
+                scoreDirector.afterVariableChanged(shadowCustomer, "arrivalTime");
+            }
             departureTime = shadowCustomer.getDepartureTime();
             shadowCustomer = shadowCustomer.getNextCustomer();
             arrivalTime = calculateArrivalTime(shadowCustomer, departureTime);
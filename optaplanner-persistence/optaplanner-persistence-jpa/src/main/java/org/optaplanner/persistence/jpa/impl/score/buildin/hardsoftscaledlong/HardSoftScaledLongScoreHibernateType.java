@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jpa.impl.score.buildin.hardsoftscaledlong;
+
+import java.util.Properties;
+
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.usertype.ParameterizedType;
+import org.optaplanner.core.impl.score.buildin.hardsoftscaledlong.HardSoftScaledLongScoreDefinition;
+import org.optaplanner.persistence.jpa.impl.score.AbstractScoreHibernateType;
+
+/**
+ * Stores every score level as a decimal column, which must have at least the scale of the parameter "scale".
+ * {@inheritDoc}
+ */
+public class HardSoftScaledLongScoreHibernateType extends AbstractScoreHibernateType implements ParameterizedType {
+
+    @Override
+    public void setParameterValues(Properties parameterMap) {
+        int scale = extractIntParameter(parameterMap, "scale");
+        scoreDefinition = new HardSoftScaledLongScoreDefinition(scale);
+        type = StandardBasicTypes.BIG_DECIMAL;
+    }
+
+}
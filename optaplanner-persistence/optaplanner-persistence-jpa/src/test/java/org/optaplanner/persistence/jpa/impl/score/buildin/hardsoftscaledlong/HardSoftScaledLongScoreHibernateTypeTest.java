@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jpa.impl.score.buildin.hardsoftscaledlong;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+
+import org.hibernate.annotations.Columns;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.TypeDef;
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.hardsoftscaledlong.HardSoftScaledLongScore;
+import org.optaplanner.persistence.jpa.impl.score.AbstractScoreHibernateTypeTest;
+
+public class HardSoftScaledLongScoreHibernateTypeTest extends AbstractScoreHibernateTypeTest {
+
+    @Test
+    public void persistAndMerge() {
+        persistAndMerge(new TestJpaEntity(null),
+                HardSoftScaledLongScore.valueOfUnscaled(0, -1001000L, -220000L, 5),
+                HardSoftScaledLongScore.valueOfUnscaled(-7, -1001000L, -220000L, 5));
+    }
+
+    @Entity
+    @TypeDef(defaultForType = HardSoftScaledLongScore.class, typeClass = HardSoftScaledLongScoreHibernateType.class,
+            parameters = {@Parameter(name = "scale", value = "5")})
+    public static class TestJpaEntity extends AbstractTestJpaEntity<HardSoftScaledLongScore> {
+
+        protected HardSoftScaledLongScore score;
+
+        private TestJpaEntity() {
+        }
+
+        public TestJpaEntity(HardSoftScaledLongScore score) {
+            this.score = score;
+        }
+
+        @Override
+        @Columns(columns = {
+                @Column(name = "initScore"),
+                @Column(name = "hardScore", precision = 10, scale = 5),
+                @Column(name = "softScore", precision = 10, scale = 5)})
+        public HardSoftScaledLongScore getScore() {
+            return score;
+        }
+
+        @Override
+        public void setScore(HardSoftScaledLongScore score) {
+            this.score = score;
+        }
+
+    }
+
+}
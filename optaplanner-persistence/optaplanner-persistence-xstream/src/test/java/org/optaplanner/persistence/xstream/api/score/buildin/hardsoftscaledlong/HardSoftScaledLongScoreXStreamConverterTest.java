@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.xstream.api.score.buildin.hardsoftscaledlong;
+
+import com.thoughtworks.xstream.annotations.XStreamConverter;
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.hardsoftscaledlong.HardSoftScaledLongScore;
+import org.optaplanner.persistence.xstream.api.score.AbstractScoreXStreamConverterTest;
+
+public class HardSoftScaledLongScoreXStreamConverterTest extends AbstractScoreXStreamConverterTest {
+
+    @Test
+    public void serializeAndDeserialize() {
+        assertSerializeAndDeserialize(null, new TestHardSoftScaledLongScoreWrapper(null));
+        HardSoftScaledLongScore score = HardSoftScaledLongScore.valueOfUnscaled(0, 12000021L, 344300L, 4);
+        assertSerializeAndDeserialize(score, new TestHardSoftScaledLongScoreWrapper(score));
+        score = HardSoftScaledLongScore.valueOfUnscaled(-7, 12000021L, 344300L, 4);
+        assertSerializeAndDeserialize(score, new TestHardSoftScaledLongScoreWrapper(score));
+    }
+
+    public static class TestHardSoftScaledLongScoreWrapper extends TestScoreWrapper<HardSoftScaledLongScore> {
+
+        @XStreamConverter(HardSoftScaledLongScoreXStreamConverter.class)
+        private HardSoftScaledLongScore score;
+
+        public TestHardSoftScaledLongScoreWrapper(HardSoftScaledLongScore score) {
+            this.score = score;
+        }
+
+        @Override
+        public HardSoftScaledLongScore getScore() {
+            return score;
+        }
+
+    }
+
+}